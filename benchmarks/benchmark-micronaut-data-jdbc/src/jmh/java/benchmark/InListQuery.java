@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmark;
+
+import example.Book;
+import example.BookRepository;
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Measures IN list queries with varying collection sizes, with and without the expandable parameter padding.
+ * Without the padding every collection size produces a distinct statement, the padding limits the statements
+ * to the powers of two, so the statement caches of the pool, driver and database are mostly hit.
+ */
+@State(Scope.Benchmark)
+public class InListQuery {
+
+    private static final int BOOKS = 200;
+
+    @Param({"false", "true"})
+    boolean padding;
+
+    ApplicationContext applicationContext;
+    BookRepository bookRepository;
+    List<Long> ids;
+
+    @Setup
+    public void prepare() {
+        this.applicationContext = ApplicationContext.run(Map.of(
+            "datasources.default.expandable-parameter-padding", padding,
+            "datasources.default.maximum-pool-size", 1
+        ));
+        this.bookRepository = applicationContext.getBean(BookRepository.class);
+        List<Book> books = new ArrayList<>(BOOKS);
+        for (int i = 0; i < BOOKS; i++) {
+            books.add(new Book("Book " + i, i));
+        }
+        this.ids = new ArrayList<>(BOOKS);
+        for (Book book : bookRepository.saveAll(books)) {
+            ids.add(book.getId());
+        }
+    }
+
+    @TearDown
+    public void cleanup() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public List<Book> measureInList() {
+        int size = ThreadLocalRandom.current().nextInt(1, BOOKS + 1);
+        return bookRepository.findByIdIn(ids.subList(0, size));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + InListQuery.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(4)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmark;
+
+import example.Book;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the mapping of the rows of {@link ResultMapping} to tuples, only JDBC supports the tuple results of the criteria queries.
+ */
+@State(Scope.Benchmark)
+public class TupleMapping {
+
+    @Param({"10", "100", "1000"})
+    int size;
+
+    BenchmarkRepositories repositories;
+
+    @Setup
+    public void prepare() {
+        this.repositories = BenchmarkRepositories.start();
+        List<Book> books = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            books.add(new Book("Book " + i, i));
+        }
+        repositories.saveBooks(books);
+    }
+
+    @TearDown
+    public void cleanup() {
+        repositories.close();
+    }
+
+    @Benchmark
+    public List<Tuple> measureTuple() {
+        return repositories.getBookRepository().findAll(criteriaBuilder -> {
+            CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+            Root<Book> root = query.from(Book.class);
+            return query.multiselect(root.get("title"), root.get("pages"))
+                .where(criteriaBuilder.lessThan(root.get("pages"), size));
+        });
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + TupleMapping.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(4)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+}
@@ -16,10 +16,29 @@
 package example;
 
 import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.CursoredPage;
+import io.micronaut.data.model.CursoredPageable;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.query.builder.sql.Dialect;
 import io.micronaut.data.repository.CrudRepository;
+import io.micronaut.data.repository.jpa.JpaSpecificationExecutor;
+
+import java.util.List;
 
 @JdbcRepository(dialect = Dialect.H2)
-public interface BookRepository extends CrudRepository<Book, Long> {
+public interface BookRepository extends CrudRepository<Book, Long>, JpaSpecificationExecutor<Book> {
     Book findByTitle(String title);
+
+    List<Book> findByIdIn(List<Long> ids);
+
+    List<Book> findByPagesLessThan(int pages);
+
+    List<BookDto> searchByPagesLessThan(int pages);
+
+    List<BookRecord> queryByPagesLessThan(int pages);
+
+    Page<Book> findByPagesGreaterThanEquals(int pages, Pageable pageable);
+
+    CursoredPage<Book> findByPagesGreaterThan(int pages, CursoredPageable pageable);
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmark;
+
+import example.Author;
+import example.AuthorRepository;
+import example.Book;
+import example.BookDto;
+import example.BookRecord;
+import example.BookRepository;
+import example.WideEntity;
+import example.WideEntityRepository;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.repository.jpa.criteria.PredicateSpecification;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The repositories used by the shared benchmarks, the benchmark sources are shared by the Micronaut Data benchmark modules
+ * and every module provides this class for its own repositories.
+ * MongoDB doesn't support the cursored pagination, the {@code CursoredPagination} benchmark is excluded from this module.
+ */
+public final class BenchmarkRepositories implements AutoCloseable {
+
+    private final MongoDBContainer mongoDBContainer;
+    private final ApplicationContext applicationContext;
+    private final BookRepository bookRepository;
+    private final AuthorRepository authorRepository;
+    private final WideEntityRepository wideEntityRepository;
+
+    private BenchmarkRepositories(MongoDBContainer mongoDBContainer, ApplicationContext applicationContext) {
+        this.mongoDBContainer = mongoDBContainer;
+        this.applicationContext = applicationContext;
+        this.bookRepository = applicationContext.getBean(BookRepository.class);
+        this.authorRepository = applicationContext.getBean(AuthorRepository.class);
+        this.wideEntityRepository = applicationContext.getBean(WideEntityRepository.class);
+    }
+
+    public static BenchmarkRepositories start() {
+        MongoDBContainer mongoDBContainer = new MongoDBContainer(DockerImageName.parse("mongo").withTag("5"));
+        mongoDBContainer.start();
+        return new BenchmarkRepositories(mongoDBContainer, ApplicationContext.run(Map.of("mongodb.uri", mongoDBContainer.getReplicaSetUrl())));
+    }
+
+    public List<Book> saveBooks(List<Book> books) {
+        return bookRepository.saveAll(books);
+    }
+
+    public List<Book> updateBooks(List<Book> books) {
+        return bookRepository.updateAll(books);
+    }
+
+    public void deleteBooks() {
+        bookRepository.deleteAll();
+    }
+
+    public List<Book> findBooks(int pagesLessThan) {
+        return bookRepository.findByPagesLessThan(pagesLessThan);
+    }
+
+    public List<BookDto> findBookDtos(int pagesLessThan) {
+        return bookRepository.searchByPagesLessThan(pagesLessThan);
+    }
+
+    public List<BookRecord> findBookRecords(int pagesLessThan) {
+        return bookRepository.queryByPagesLessThan(pagesLessThan);
+    }
+
+    public List<Book> findBooks(PredicateSpecification<Book> specification) {
+        return bookRepository.findAll(specification);
+    }
+
+    public long countBooks(PredicateSpecification<Book> specification) {
+        return bookRepository.count(specification);
+    }
+
+    public Page<Book> findBookPage(Pageable pageable) {
+        return bookRepository.findByPagesGreaterThanEquals(0, pageable);
+    }
+
+    public Author saveAuthor(Author author) {
+        return authorRepository.save(author);
+    }
+
+    public List<Author> findAuthorsWithBooks() {
+        return authorRepository.listAll();
+    }
+
+    public List<WideEntity> saveWideEntities(List<WideEntity> entities) {
+        return wideEntityRepository.saveAll(entities);
+    }
+
+    public List<WideEntity> findWideEntities() {
+        return wideEntityRepository.findAll();
+    }
+
+    @Override
+    public void close() {
+        applicationContext.close();
+        mongoDBContainer.close();
+    }
+}
@@ -18,6 +18,7 @@ package example;
 import io.micronaut.data.annotation.GeneratedValue;
 import io.micronaut.data.annotation.Id;
 import io.micronaut.data.annotation.MappedEntity;
+import io.micronaut.data.annotation.Relation;
 
 @MappedEntity
 public class Book {
@@ -26,12 +27,20 @@ public class Book {
     private String id;
     private String title;
     private int pages;
+    @Relation(Relation.Kind.MANY_TO_ONE)
+    private Author author;
 
     public Book(String title, int pages) {
         this.title = title;
         this.pages = pages;
     }
 
+    public Book(String title, int pages, Author author) {
+        this.title = title;
+        this.pages = pages;
+        this.author = author;
+    }
+
     public Book() {
     }
 
@@ -58,4 +67,12 @@ public class Book {
     public void setPages(int pages) {
         this.pages = pages;
     }
+
+    public Author getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(Author author) {
+        this.author = author;
+    }
 }
@@ -15,10 +15,25 @@
  */
 package example;
 
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
 import io.micronaut.data.mongodb.annotation.MongoRepository;
 import io.micronaut.data.repository.CrudRepository;
+import io.micronaut.data.repository.jpa.JpaSpecificationExecutor;
+
+import java.util.List;
 
 @MongoRepository
-public interface BookRepository extends CrudRepository<Book, String> {
+public interface BookRepository extends CrudRepository<Book, String>, JpaSpecificationExecutor<Book> {
     Book findByTitle(String title);
+
+    List<Book> findByIdIn(List<String> ids);
+
+    List<Book> findByPagesLessThan(int pages);
+
+    List<BookDto> searchByPagesLessThan(int pages);
+
+    List<BookRecord> queryByPagesLessThan(int pages);
+
+    Page<Book> findByPagesGreaterThanEquals(int pages, Pageable pageable);
 }
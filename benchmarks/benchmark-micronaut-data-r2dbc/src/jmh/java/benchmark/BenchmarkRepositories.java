@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmark;
+
+import example.Author;
+import example.AuthorRepository;
+import example.Book;
+import example.BookDto;
+import example.BookRecord;
+import example.BookRepository;
+import example.WideEntity;
+import example.WideEntityRepository;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.data.model.CursoredPage;
+import io.micronaut.data.model.CursoredPageable;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.repository.jpa.criteria.PredicateSpecification;
+
+import java.util.List;
+
+/**
+ * The repositories used by the shared benchmarks, the benchmark sources are shared by the Micronaut Data benchmark modules
+ * and every module provides this class for its own repositories.
+ * The reactive repositories are blocked on, so the shared benchmarks measure the whole reactive pipeline of a call.
+ */
+public final class BenchmarkRepositories implements AutoCloseable {
+
+    private final ApplicationContext applicationContext;
+    private final BookRepository bookRepository;
+    private final AuthorRepository authorRepository;
+    private final WideEntityRepository wideEntityRepository;
+
+    private BenchmarkRepositories(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+        this.bookRepository = applicationContext.getBean(BookRepository.class);
+        this.authorRepository = applicationContext.getBean(AuthorRepository.class);
+        this.wideEntityRepository = applicationContext.getBean(WideEntityRepository.class);
+    }
+
+    public static BenchmarkRepositories start() {
+        return new BenchmarkRepositories(ApplicationContext.run());
+    }
+
+    public List<Book> saveBooks(List<Book> books) {
+        return bookRepository.saveAll(books).collectList().block();
+    }
+
+    public List<Book> updateBooks(List<Book> books) {
+        return bookRepository.updateAll(books).collectList().block();
+    }
+
+    public void deleteBooks() {
+        bookRepository.deleteAll().block();
+    }
+
+    public List<Book> findBooks(int pagesLessThan) {
+        return bookRepository.findByPagesLessThan(pagesLessThan).collectList().block();
+    }
+
+    public List<BookDto> findBookDtos(int pagesLessThan) {
+        return bookRepository.searchByPagesLessThan(pagesLessThan).collectList().block();
+    }
+
+    public List<BookRecord> findBookRecords(int pagesLessThan) {
+        return bookRepository.queryByPagesLessThan(pagesLessThan).collectList().block();
+    }
+
+    public List<Book> findBooks(PredicateSpecification<Book> specification) {
+        return bookRepository.findAll(specification).collectList().block();
+    }
+
+    public long countBooks(PredicateSpecification<Book> specification) {
+        return bookRepository.count(specification).block();
+    }
+
+    public Page<Book> findBookPage(Pageable pageable) {
+        return bookRepository.findByPagesGreaterThanEquals(0, pageable).block();
+    }
+
+    public CursoredPage<Book> findBookPage(CursoredPageable pageable) {
+        return bookRepository.findByPagesGreaterThan(-1, pageable).block();
+    }
+
+    public Author saveAuthor(Author author) {
+        return authorRepository.save(author).block();
+    }
+
+    public List<Author> findAuthorsWithBooks() {
+        return authorRepository.listAll().collectList().block();
+    }
+
+    public List<WideEntity> saveWideEntities(List<WideEntity> entities) {
+        return wideEntityRepository.saveAll(entities).collectList().block();
+    }
+
+    public List<WideEntity> findWideEntities() {
+        return wideEntityRepository.findAll().collectList().block();
+    }
+
+    @Override
+    public void close() {
+        applicationContext.close();
+    }
+}
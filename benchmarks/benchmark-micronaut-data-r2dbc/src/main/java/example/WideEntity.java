@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package example;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.annotation.GeneratedValue;
+import io.micronaut.data.annotation.Id;
+import io.micronaut.data.annotation.MappedEntity;
+
+import java.time.LocalDate;
+
+/**
+ * The entity with 60 columns of the commonly used types.
+ */
+@MappedEntity
+public record WideEntity(
+        @Id @GeneratedValue @Nullable Long id,
+        @Nullable String text01,
+        @Nullable Integer number02,
+        @Nullable Long amount03,
+        @Nullable Double ratio04,
+        @Nullable Boolean flag05,
+        @Nullable LocalDate date06,
+        @Nullable String text07,
+        @Nullable Integer number08,
+        @Nullable Long amount09,
+        @Nullable Double ratio10,
+        @Nullable Boolean flag11,
+        @Nullable LocalDate date12,
+        @Nullable String text13,
+        @Nullable Integer number14,
+        @Nullable Long amount15,
+        @Nullable Double ratio16,
+        @Nullable Boolean flag17,
+        @Nullable LocalDate date18,
+        @Nullable String text19,
+        @Nullable Integer number20,
+        @Nullable Long amount21,
+        @Nullable Double ratio22,
+        @Nullable Boolean flag23,
+        @Nullable LocalDate date24,
+        @Nullable String text25,
+        @Nullable Integer number26,
+        @Nullable Long amount27,
+        @Nullable Double ratio28,
+        @Nullable Boolean flag29,
+        @Nullable LocalDate date30,
+        @Nullable String text31,
+        @Nullable Integer number32,
+        @Nullable Long amount33,
+        @Nullable Double ratio34,
+        @Nullable Boolean flag35,
+        @Nullable LocalDate date36,
+        @Nullable String text37,
+        @Nullable Integer number38,
+        @Nullable Long amount39,
+        @Nullable Double ratio40,
+        @Nullable Boolean flag41,
+        @Nullable LocalDate date42,
+        @Nullable String text43,
+        @Nullable Integer number44,
+        @Nullable Long amount45,
+        @Nullable Double ratio46,
+        @Nullable Boolean flag47,
+        @Nullable LocalDate date48,
+        @Nullable String text49,
+        @Nullable Integer number50,
+        @Nullable Long amount51,
+        @Nullable Double ratio52,
+        @Nullable Boolean flag53,
+        @Nullable LocalDate date54,
+        @Nullable String text55,
+        @Nullable Integer number56,
+        @Nullable Long amount57,
+        @Nullable Double ratio58,
+        @Nullable Boolean flag59,
+        @Nullable LocalDate date60) {
+
+    /**
+     * Creates a new transient entity with all the columns populated.
+     *
+     * @param seed The seed of the values
+     * @return The entity
+     */
+    public static WideEntity create(int seed) {
+        return new WideEntity(
+            null, "value " + seed, seed, (long) seed, seed / 2.0, seed % 2 == 0,
+            LocalDate.ofEpochDay(seed), "value " + seed, seed, (long) seed, seed / 2.0, seed % 2 == 0,
+            LocalDate.ofEpochDay(seed), "value " + seed, seed, (long) seed, seed / 2.0, seed % 2 == 0,
+            LocalDate.ofEpochDay(seed), "value " + seed, seed, (long) seed, seed / 2.0, seed % 2 == 0,
+            LocalDate.ofEpochDay(seed), "value " + seed, seed, (long) seed, seed / 2.0, seed % 2 == 0,
+            LocalDate.ofEpochDay(seed), "value " + seed, seed, (long) seed, seed / 2.0, seed % 2 == 0,
+            LocalDate.ofEpochDay(seed), "value " + seed, seed, (long) seed, seed / 2.0, seed % 2 == 0,
+            LocalDate.ofEpochDay(seed), "value " + seed, seed, (long) seed, seed / 2.0, seed % 2 == 0,
+            LocalDate.ofEpochDay(seed), "value " + seed, seed, (long) seed, seed / 2.0, seed % 2 == 0,
+            LocalDate.ofEpochDay(seed), "value " + seed, seed, (long) seed, seed / 2.0, seed % 2 == 0,
+            LocalDate.ofEpochDay(seed)
+        );
+    }
+}
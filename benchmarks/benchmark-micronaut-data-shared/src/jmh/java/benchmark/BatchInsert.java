@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmark;
+
+import example.Book;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the batch insert, every invocation inserts a new batch into an empty table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class BatchInsert {
+
+    @Param({"1000", "10000", "100000"})
+    int size;
+
+    BenchmarkRepositories repositories;
+    List<Book> books;
+
+    @Setup
+    public void prepare() {
+        this.repositories = BenchmarkRepositories.start();
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareBatch() {
+        books = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            books.add(new Book("Book " + i, i));
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void cleanupBatch() {
+        repositories.deleteBooks();
+    }
+
+    @TearDown
+    public void cleanup() {
+        repositories.close();
+    }
+
+    @Benchmark
+    public List<Book> measureSaveAll() {
+        return repositories.saveBooks(books);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + BatchInsert.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(4)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmark;
+
+import example.Book;
+import io.micronaut.data.model.CursoredPage;
+import io.micronaut.data.model.CursoredPageable;
+import io.micronaut.data.model.Sort;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the cursored pagination of the same page sizes as {@link Pagination}, the second page is fetched by the cursor of the first one.
+ */
+@State(Scope.Benchmark)
+public class CursoredPagination {
+
+    private static final int BOOKS = 10000;
+    private static final Sort SORT = Sort.of(Sort.Order.asc("id"));
+
+    @Param({"10", "100", "1000"})
+    int size;
+
+    BenchmarkRepositories repositories;
+
+    @Setup
+    public void prepare() {
+        this.repositories = BenchmarkRepositories.start();
+        List<Book> books = new ArrayList<>(BOOKS);
+        for (int i = 0; i < BOOKS; i++) {
+            books.add(new Book("Book " + i, i));
+        }
+        repositories.saveBooks(books);
+    }
+
+    @TearDown
+    public void cleanup() {
+        repositories.close();
+    }
+
+    @Benchmark
+    public CursoredPage<Book> measureCursoredPage() {
+        CursoredPage<Book> first = repositories.findBookPage(CursoredPageable.from(size, SORT));
+        return repositories.findBookPage(first.nextPageable());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + CursoredPagination.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(4)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+}
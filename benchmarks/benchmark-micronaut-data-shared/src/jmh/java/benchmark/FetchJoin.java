@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmark;
+
+import example.Author;
+import example.Book;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the fetch join of a to-many collection, every author has the same number of books.
+ */
+@State(Scope.Benchmark)
+public class FetchJoin {
+
+    private static final int BOOKS_PER_AUTHOR = 10;
+
+    @Param({"10", "100", "1000"})
+    int authors;
+
+    BenchmarkRepositories repositories;
+
+    @Setup
+    public void prepare() {
+        this.repositories = BenchmarkRepositories.start();
+        List<Book> books = new ArrayList<>(authors * BOOKS_PER_AUTHOR);
+        for (int i = 0; i < authors; i++) {
+            Author author = repositories.saveAuthor(new Author("Author " + i));
+            for (int j = 0; j < BOOKS_PER_AUTHOR; j++) {
+                books.add(new Book("Book " + i + "/" + j, j, author));
+            }
+        }
+        repositories.saveBooks(books);
+    }
+
+    @TearDown
+    public void cleanup() {
+        repositories.close();
+    }
+
+    @Benchmark
+    public List<Author> measureFetchJoin() {
+        return repositories.findAuthorsWithBooks();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + FetchJoin.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(4)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+}
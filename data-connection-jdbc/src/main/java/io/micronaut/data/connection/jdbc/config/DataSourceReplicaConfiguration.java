@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.connection.jdbc.config;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.naming.Named;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The read replicas configuration of a data source.
+ * The read-only connections of the data source are opened from the replica data sources selected
+ * by {@link io.micronaut.data.connection.support.ReplicaSelectionPolicy}.
+ *
+ * @since 4.10
+ */
+@EachProperty(value = DataSourceReplicaConfiguration.PREFIX, primary = "default")
+public final class DataSourceReplicaConfiguration implements Named {
+
+    /**
+     * The configuration prefix.
+     */
+    public static final String PREFIX = "datasources";
+
+    /**
+     * The default value of the fallback to the primary data source.
+     */
+    public static final boolean DEFAULT_READ_REPLICA_FALLBACK = true;
+
+    private final String name;
+    private List<String> readReplicas = new ArrayList<>(2);
+    private boolean readReplicaFallback = DEFAULT_READ_REPLICA_FALLBACK;
+
+    /**
+     * The configuration.
+     *
+     * @param name The data source name
+     */
+    public DataSourceReplicaConfiguration(@Parameter String name) {
+        this.name = name;
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The names of the data sources serving as the read replicas
+     */
+    @NonNull
+    public List<String> getReadReplicas() {
+        return readReplicas;
+    }
+
+    /**
+     * Sets the names of the data sources serving as the read replicas.
+     * The read-only connections are opened from the replicas, other connections from the data source itself.
+     *
+     * @param readReplicas The data source names
+     */
+    public void setReadReplicas(List<String> readReplicas) {
+        if (readReplicas != null) {
+            this.readReplicas = readReplicas;
+        }
+    }
+
+    /**
+     * @return Whether a read-only connection is opened from the data source itself if the selected replica is not available
+     */
+    public boolean isReadReplicaFallback() {
+        return readReplicaFallback;
+    }
+
+    /**
+     * Sets whether a read-only connection is opened from the data source itself if the selected replica is not available.
+     * Default value ({@value #DEFAULT_READ_REPLICA_FALLBACK}).
+     *
+     * @param readReplicaFallback The fallback to the primary data source
+     */
+    public void setReadReplicaFallback(boolean readReplicaFallback) {
+        this.readReplicaFallback = readReplicaFallback;
+    }
+}
@@ -15,16 +15,22 @@
  */
 package io.micronaut.data.connection.jdbc.operations;
 
+import io.micronaut.context.BeanLocator;
 import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Parameter;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.data.connection.exceptions.ConnectionException;
 import io.micronaut.data.connection.jdbc.advice.DelegatingDataSource;
+import io.micronaut.data.connection.jdbc.config.DataSourceReplicaConfiguration;
 import io.micronaut.data.connection.jdbc.exceptions.CannotGetJdbcConnectionException;
 import io.micronaut.data.connection.ConnectionDefinition;
 import io.micronaut.data.connection.ConnectionStatus;
 import io.micronaut.data.connection.ConnectionSynchronization;
 import io.micronaut.data.connection.support.AbstractConnectionOperations;
 import io.micronaut.data.connection.support.JdbcConnectionUtils;
+import io.micronaut.data.connection.support.ReplicaSelectionPolicy;
+import io.micronaut.inject.qualifiers.Qualifiers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,14 +51,32 @@ import java.util.List;
 public final class DefaultDataSourceConnectionOperations extends AbstractConnectionOperations<Connection> {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultDataSourceConnectionOperations.class);
+    private final String dataSourceName;
     private final DataSource dataSource;
+    @Nullable
+    private final DataSourceReplicaConfiguration replicaConfiguration;
+    private final BeanLocator beanLocator;
+    private final ReplicaSelectionPolicy replicaSelectionPolicy;
+    private volatile List<DataSource> replicas;
 
-    DefaultDataSourceConnectionOperations(DataSource dataSource) {
+    DefaultDataSourceConnectionOperations(@Parameter String dataSourceName,
+                                          DataSource dataSource,
+                                          @Parameter @Nullable DataSourceReplicaConfiguration replicaConfiguration,
+                                          BeanLocator beanLocator,
+                                          ReplicaSelectionPolicy replicaSelectionPolicy) {
+        this.dataSourceName = dataSourceName;
         this.dataSource = DelegatingDataSource.unwrapDataSource(dataSource);
+        this.replicaConfiguration = replicaConfiguration;
+        this.beanLocator = beanLocator;
+        this.replicaSelectionPolicy = replicaSelectionPolicy;
     }
 
     @Override
     protected Connection openConnection(ConnectionDefinition definition) {
+        if (replicaConfiguration != null && !replicaConfiguration.getReadReplicas().isEmpty()
+            && definition.isReadOnly().orElse(false)) {
+            return openReplicaConnection(definition);
+        }
         try {
             return dataSource.getConnection();
         } catch (SQLException e) {
@@ -60,6 +84,41 @@ public final class DefaultDataSourceConnectionOperations extends AbstractConnect
         }
     }
 
+    private Connection openReplicaConnection(ConnectionDefinition definition) {
+        DataSource replica = replicaSelectionPolicy.select(dataSourceName, getReplicas());
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            if (!replicaConfiguration.isReadReplicaFallback()) {
+                throw new CannotGetJdbcConnectionException("Failed to obtain JDBC Connection from the read replica", e);
+            }
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("Failed to obtain JDBC Connection from the read replica of the data source [{}] for definition: {}, using the data source", dataSourceName, definition, e);
+            }
+        }
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException e) {
+            throw new CannotGetJdbcConnectionException("Failed to obtain JDBC Connection", e);
+        }
+    }
+
+    private List<DataSource> getReplicas() {
+        List<DataSource> dataSources = replicas;
+        if (dataSources == null) {
+            // Resolved lazily, the replicas are the data source beans of the same context
+            List<String> replicaNames = replicaConfiguration.getReadReplicas();
+            dataSources = new ArrayList<>(replicaNames.size());
+            for (String replicaName : replicaNames) {
+                DataSource replica = beanLocator.getBean(DataSource.class, Qualifiers.byName(replicaName));
+                dataSources.add(DelegatingDataSource.unwrapDataSource(replica));
+            }
+            dataSources = List.copyOf(dataSources);
+            replicas = dataSources;
+        }
+        return dataSources;
+    }
+
     @Override
     protected void setupConnection(ConnectionStatus<Connection> connectionStatus) {
         connectionStatus.getDefinition().isReadOnly().ifPresent(readOnly -> {
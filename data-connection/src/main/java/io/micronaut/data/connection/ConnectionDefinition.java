@@ -117,6 +117,17 @@ public interface ConnectionDefinition {
     @NonNull
     ConnectionDefinition withName(String name);
 
+    /**
+     * Connection definition with specific read only.
+     * @param readOnly The new read only
+     * @return A new connection definition with specified read only
+     * @since 4.10
+     */
+    @NonNull
+    default ConnectionDefinition withReadOnly(boolean readOnly) {
+        return new DefaultConnectionDefinition(getName(), getPropagationBehavior(), getTimeout().orElse(null), readOnly);
+    }
+
     /**
      * Create a new {@link ConnectionDefinition} for the given behaviour.
      *
@@ -84,5 +84,10 @@ public record DefaultConnectionDefinition(
         return new DefaultConnectionDefinition(name, propagationBehavior, timeout, readOnlyValue);
     }
 
+    @Override
+    public ConnectionDefinition withReadOnly(boolean readOnly) {
+        return new DefaultConnectionDefinition(name, propagationBehavior, timeout, readOnly);
+    }
+
 }
 
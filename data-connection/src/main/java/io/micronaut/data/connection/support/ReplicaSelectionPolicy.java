@@ -0,0 +1,40 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.connection.support;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.List;
+
+/**
+ * The policy selecting the read replica used by the read-only connections.
+ *
+ * @since 4.10
+ */
+public interface ReplicaSelectionPolicy {
+
+    /**
+     * Select the read replica.
+     *
+     * @param dataSourceName The name of the primary data source
+     * @param replicas       The read replicas, never empty
+     * @param <T>            The replica type
+     * @return The selected replica
+     */
+    @NonNull
+    <T> T select(@NonNull String dataSourceName, @NonNull List<T> replicas);
+
+}
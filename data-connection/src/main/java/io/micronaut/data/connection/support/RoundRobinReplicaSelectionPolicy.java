@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.connection.support;
+
+import io.micronaut.core.annotation.NonNull;
+import jakarta.inject.Singleton;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The default {@link ReplicaSelectionPolicy} distributing the read-only connections of every data source between
+ * its replicas in the round-robin order.
+ *
+ * @since 4.10
+ */
+@Singleton
+public class RoundRobinReplicaSelectionPolicy implements ReplicaSelectionPolicy {
+
+    private final Map<String, AtomicInteger> counters = new ConcurrentHashMap<>();
+
+    @NonNull
+    @Override
+    public <T> T select(@NonNull String dataSourceName, @NonNull List<T> replicas) {
+        if (replicas.size() == 1) {
+            return replicas.get(0);
+        }
+        AtomicInteger counter = counters.computeIfAbsent(dataSourceName, name -> new AtomicInteger());
+        return replicas.get(Math.floorMod(counter.getAndIncrement(), replicas.size()));
+    }
+
+}
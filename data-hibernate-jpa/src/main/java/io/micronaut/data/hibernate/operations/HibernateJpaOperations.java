@@ -54,6 +54,7 @@ import io.micronaut.data.runtime.convert.DataConversionService;
 import io.micronaut.data.runtime.operations.ExecutorAsyncOperations;
 import io.micronaut.data.runtime.operations.ExecutorAsyncOperationsSupportingCriteria;
 import io.micronaut.data.runtime.operations.ExecutorReactiveOperationsSupportingCriteria;
+import io.micronaut.data.runtime.operations.internal.ConcurrencyLimitedExecutor;
 import io.micronaut.transaction.TransactionOperations;
 import jakarta.inject.Named;
 import jakarta.persistence.EntityManager;
@@ -81,8 +82,11 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -97,10 +101,23 @@ import java.util.stream.Stream;
 final class HibernateJpaOperations extends AbstractHibernateOperations<Session, CommonQueryContract, Query<?>>
     implements JpaRepositoryOperations, AsyncCapableRepository, ReactiveCapableRepository, CriteriaRepositoryOperations {
 
+    /**
+     * The JPA property enabling the bounded memory batch writes, the persistence context is flushed and cleared
+     * after each JDBC batch of the persisted or updated entities.
+     */
+    static final String BULK_WRITE_PROPERTY = "micronaut.data.bulk-write";
+    /**
+     * The JPA property limiting the count of the concurrently executed async and reactive operations.
+     */
+    static final String ASYNC_CONCURRENCY_LIMIT_PROPERTY = "micronaut.data.async-concurrency-limit";
+    private static final int DEFAULT_BULK_WRITE_SIZE = 50;
+
     private final SessionFactory sessionFactory;
     private final TransactionOperations<Session> transactionOperations;
-    private ExecutorAsyncOperations asyncOperations;
+    private final Lock asyncOperationsLock = new ReentrantLock();
+    private volatile ExecutorAsyncOperations asyncOperations;
     private ExecutorService executorService;
+    private final int bulkWriteSize;
 
     /**
      * Default constructor.
@@ -122,6 +139,16 @@ final class HibernateJpaOperations extends AbstractHibernateOperations<Session,
         this.sessionFactory = sessionFactory;
         this.transactionOperations = transactionOperations;
         this.executorService = executorService;
+        this.bulkWriteSize = resolveBulkWriteSize(sessionFactory);
+    }
+
+    private int resolveBulkWriteSize(SessionFactory sessionFactory) {
+        Object bulkWrite = sessionFactory.getProperties().get(BULK_WRITE_PROPERTY);
+        if (bulkWrite == null || !dataConversionService.convert(bulkWrite, Boolean.class).orElse(false)) {
+            return 0;
+        }
+        int jdbcBatchSize = sessionFactory.getSessionFactoryOptions().getJdbcBatchSize();
+        return jdbcBatchSize > 0 ? jdbcBatchSize : DEFAULT_BULK_WRITE_SIZE;
     }
 
     @Override
@@ -376,6 +403,7 @@ final class HibernateJpaOperations extends AbstractHibernateOperations<Session,
             for (T entity : operation) {
                 T merge = session.merge(entity);
                 results.add(merge);
+                flushAndClearBulkWrite(session, results.size());
             }
             flushIfNecessary(session, operation.getAnnotationMetadata());
             return results;
@@ -402,14 +430,24 @@ final class HibernateJpaOperations extends AbstractHibernateOperations<Session,
             if (storedQuery != null) {
                 return executeUpdate(operation, session, storedQuery);
             }
+            int count = 0;
             for (T entity : operation) {
                 session.persist(entity);
+                flushAndClearBulkWrite(session, ++count);
             }
             flushIfNecessary(session, operation.getAnnotationMetadata());
             return operation;
         });
     }
 
+    private void flushAndClearBulkWrite(Session session, int count) {
+        if (bulkWriteSize > 0 && count % bulkWriteSize == 0) {
+            // Write the JDBC batch and release the written entities to keep the persistence context bounded
+            session.flush();
+            session.clear();
+        }
+    }
+
     private boolean flushIfNecessary(EntityManager entityManager, AnnotationMetadata annotationMetadata) {
         return flushIfNecessary(entityManager, annotationMetadata, false);
     }
@@ -585,21 +623,36 @@ final class HibernateJpaOperations extends AbstractHibernateOperations<Session,
     public ExecutorAsyncOperations async() {
         ExecutorAsyncOperations executorAsyncOperations = this.asyncOperations;
         if (executorAsyncOperations == null) {
-            synchronized (this) { // double check
+            // The lock doesn't pin a virtual thread
+            asyncOperationsLock.lock();
+            try { // double check
                 executorAsyncOperations = this.asyncOperations;
                 if (executorAsyncOperations == null) {
                     executorAsyncOperations = new ExecutorAsyncOperationsSupportingCriteria(
                         this,
                         this,
-                        executorService != null ? executorService : newLocalThreadPool()
+                        newAsyncExecutor()
                     );
                     this.asyncOperations = executorAsyncOperations;
                 }
+            } finally {
+                asyncOperationsLock.unlock();
             }
         }
         return executorAsyncOperations;
     }
 
+    @NonNull
+    private Executor newAsyncExecutor() {
+        Executor executor = executorService != null ? executorService : newLocalThreadPool();
+        Object concurrencyLimit = sessionFactory.getProperties().get(ASYNC_CONCURRENCY_LIMIT_PROPERTY);
+        int limit = concurrencyLimit == null ? 0 : dataConversionService.convert(concurrencyLimit, Integer.class).orElse(0);
+        if (limit > 0) {
+            return new ConcurrencyLimitedExecutor(executor, limit);
+        }
+        return executor;
+    }
+
     @NonNull
     @Override
     public ReactiveRepositoryOperations reactive() {
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.hibernate
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.tck.entities.Person
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.transaction.TransactionOperations
+import jakarta.inject.Inject
+import org.hibernate.Session
+import spock.lang.Specification
+
+@MicronautTest(packages = "io.micronaut.data.tck.entities", transactional = false)
+@H2DBProperties
+@Property(name = "jpa.default.properties.hibernate.jdbc.batch_size", value = "10")
+@Property(name = "jpa.default.properties.micronaut.data.bulk-write", value = "true")
+class HibernateBulkWriteSpec extends Specification {
+
+    @Inject
+    PersonCrudRepository crudRepository
+
+    @Inject
+    TransactionOperations<Session> transactionOperations
+
+    void cleanup() {
+        crudRepository.deleteAll()
+    }
+
+    void "test the persistence context is cleared after each batch of persisted entities"() {
+        given:
+            def people = (0..<25).collect { new Person(name: "Person " + it) }
+        when:
+            List<Boolean> managed = transactionOperations.executeWrite { status ->
+                crudRepository.saveAll(people)
+                people.collect { status.connection.contains(it) }
+            }
+        then:"only the entities of the last incomplete batch are managed"
+            managed.take(20).every { !it }
+            managed.drop(20).every { it }
+            people.every { it.id != null }
+            crudRepository.count() == 25
+    }
+
+    void "test the persistence context is cleared after each batch of updated entities"() {
+        given:
+            def people = crudRepository.saveAll((0..<25).collect { new Person(name: "Person " + it) })
+            people.each { it.name = it.name.toUpperCase() }
+        when:
+            List<Person> updated = transactionOperations.executeWrite { status ->
+                def result = crudRepository.updateAll(people)
+                assert result.take(20).every { !status.connection.contains(it) }
+                result
+            }
+        then:
+            updated.size() == 25
+            crudRepository.findAll().every { it.name.startsWith("PERSON ") }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.hibernate.async
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.hibernate.H2DBProperties
+import io.micronaut.data.hibernate.operations.HibernateJpaOperations
+import io.micronaut.data.runtime.operations.internal.ConcurrencyLimitedExecutor
+import io.micronaut.data.tck.entities.Person
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+
+@MicronautTest(transactional = false, packages = "io.micronaut.data.tck.entities")
+@H2DBProperties
+@Property(name = "jpa.default.properties.micronaut.data.async-concurrency-limit", value = "2")
+class AsyncConcurrencyLimitSpec extends Specification {
+
+    @Inject
+    AsyncPersonRepo asyncCrudRepository
+
+    @Inject
+    HibernateJpaOperations operations
+
+    void cleanup() {
+        asyncCrudRepository.deleteAll().get()
+    }
+
+    void "test the async operations are executed with the limited concurrency"() {
+        when:
+            def executor = operations.async().executor
+        then:
+            executor instanceof ConcurrencyLimitedExecutor
+            ((ConcurrencyLimitedExecutor) executor).limit == 2
+
+        when:
+            def saved = (0..<10).collect { asyncCrudRepository.save(new Person(name: "Person " + it, age: it)) }
+            CompletableFuture.allOf(saved as CompletableFuture[]).get()
+        then:
+            asyncCrudRepository.count().get() == 10
+    }
+}
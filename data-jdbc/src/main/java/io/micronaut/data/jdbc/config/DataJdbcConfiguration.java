@@ -40,6 +40,51 @@ public class DataJdbcConfiguration implements Named, Toggleable {
      */
     public static final String PREFIX = "datasources";
 
+    /**
+     * The default value of the expandable parameter padding.
+     */
+    public static final boolean DEFAULT_EXPANDABLE_PARAMETER_PADDING = false;
+
+    /**
+     * The default batch size, the batch operations are not split.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 0;
+
+    /**
+     * The default value of the multi-row insert.
+     */
+    public static final boolean DEFAULT_MULTI_ROW_INSERT = false;
+
+    /**
+     * The default value of the reactive streaming.
+     */
+    public static final boolean DEFAULT_REACTIVE_STREAMING = false;
+
+    /**
+     * The default value of the async concurrency limit, not limited.
+     */
+    public static final int DEFAULT_ASYNC_CONCURRENCY_LIMIT = 0;
+
+    /**
+     * The default fetch size, the driver default is used.
+     */
+    public static final int DEFAULT_FETCH_SIZE = 0;
+
+    /**
+     * The default fetch size of the streamed queries.
+     */
+    public static final int DEFAULT_STREAM_FETCH_SIZE = 100;
+
+    /**
+     * The default value of the page window count.
+     */
+    public static final boolean DEFAULT_PAGE_WINDOW_COUNT = false;
+
+    /**
+     * The default value of the concurrent page count.
+     */
+    public static final boolean DEFAULT_CONCURRENT_PAGE_COUNT = false;
+
     private SchemaGenerate schemaGenerate = SchemaGenerate.NONE;
     private boolean batchGenerate = false;
     private Dialect dialect = Dialect.ANSI;
@@ -55,6 +100,17 @@ public class DataJdbcConfiguration implements Named, Toggleable {
      */
     private boolean allowConnectionPerOperation = true;
     private boolean enabled = true;
+    private boolean expandableParameterPadding = DEFAULT_EXPANDABLE_PARAMETER_PADDING;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private boolean multiRowInsert = DEFAULT_MULTI_ROW_INSERT;
+    private boolean reactiveStreaming = DEFAULT_REACTIVE_STREAMING;
+    @Nullable
+    private String asyncExecutor;
+    private int asyncConcurrencyLimit = DEFAULT_ASYNC_CONCURRENCY_LIMIT;
+    private int fetchSize = DEFAULT_FETCH_SIZE;
+    private int streamFetchSize = DEFAULT_STREAM_FETCH_SIZE;
+    private boolean pageWindowCount = DEFAULT_PAGE_WINDOW_COUNT;
+    private boolean concurrentPageCount = DEFAULT_CONCURRENT_PAGE_COUNT;
 
     /**
      * The configuration.
@@ -178,6 +234,223 @@ public class DataJdbcConfiguration implements Named, Toggleable {
         this.schemaGenerateNames = schemaGenerateNames;
     }
 
+    /**
+     * @return Whether the collections of the expandable parameters are padded
+     * @since 4.10
+     */
+    public boolean isExpandableParameterPadding() {
+        return expandableParameterPadding;
+    }
+
+    /**
+     * Sets whether the collections of the expandable parameters should be padded to the next power of two by repeating
+     * the last value. The padding limits the count of distinct SQL statements produced by the IN lists of different sizes,
+     * improving the reuse of the cached statements and execution plans. Default value ({@value #DEFAULT_EXPANDABLE_PARAMETER_PADDING}).
+     * The padding should only be enabled if the expandable parameters are used in the IN lists.
+     *
+     * @param expandableParameterPadding Whether to pad the expandable parameters
+     * @since 4.10
+     */
+    public void setExpandableParameterPadding(boolean expandableParameterPadding) {
+        this.expandableParameterPadding = expandableParameterPadding;
+    }
+
+    /**
+     * @return The maximum count of the entities written by one JDBC batch
+     * @since 4.10
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the maximum count of the entities written by one JDBC batch of the {@code saveAll}, {@code updateAll} and
+     * {@code deleteAll} operations. Larger inputs are split into multiple batches executed one after another, so that
+     * only one batch of the entities is bound at a time and the entities can be produced lazily by the iterable.
+     * The batches are executed in the same connection and transaction. If the value is zero or negative, all the entities
+     * are written by one batch. Default value ({@value #DEFAULT_BATCH_SIZE}).
+     *
+     * @param batchSize The batch size
+     * @since 4.10
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @return Whether the entities are inserted by the multi-row inserts when the JDBC batch insert is not supported
+     * @since 4.10
+     */
+    public boolean isMultiRowInsert() {
+        return multiRowInsert;
+    }
+
+    /**
+     * Sets whether the {@code saveAll} operation should insert the entities by the multi-row
+     * {@code INSERT ... VALUES (...), (...)} statements if the dialect doesn't support the JDBC batch insert of the entity,
+     * for example, the entities with the generated identity of MySQL and SQL Server. Without it the entities are inserted
+     * one by one. Oracle is not supported. Default value ({@value #DEFAULT_MULTI_ROW_INSERT}).
+     * The generated identities of SQL Server are returned by the {@code OUTPUT} clause, which cannot be used if the table
+     * has enabled triggers.
+     *
+     * @param multiRowInsert Whether to use the multi-row inserts
+     * @since 4.10
+     */
+    public void setMultiRowInsert(boolean multiRowInsert) {
+        this.multiRowInsert = multiRowInsert;
+    }
+
+    /**
+     * @return Whether the reactive queries are streaming the results
+     * @since 4.10
+     */
+    public boolean isReactiveStreaming() {
+        return reactiveStreaming;
+    }
+
+    /**
+     * Sets whether the {@code findAll} queries of the reactive repositories should stream the rows of the result
+     * on demand of the subscriber instead of reading the whole result before emitting the first entity.
+     * The rows are read on the thread of the reactive executor and the connection is held until the result is
+     * consumed or the subscription is cancelled. Default value ({@value #DEFAULT_REACTIVE_STREAMING}).
+     *
+     * @param reactiveStreaming Whether to stream the results
+     * @since 4.10
+     */
+    public void setReactiveStreaming(boolean reactiveStreaming) {
+        this.reactiveStreaming = reactiveStreaming;
+    }
+
+    /**
+     * @return The name of the executor running the async and reactive operations
+     * @since 4.10
+     */
+    @Nullable
+    public String getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * Sets the name of the executor running the async and reactive operations, for example,
+     * {@code virtual} to run the operations on the virtual threads. By default, the {@code io} executor is used.
+     *
+     * @param asyncExecutor The executor name
+     * @since 4.10
+     */
+    public void setAsyncExecutor(@Nullable String asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * @return The maximum count of the concurrently executed async and reactive operations
+     * @since 4.10
+     */
+    public int getAsyncConcurrencyLimit() {
+        return asyncConcurrencyLimit;
+    }
+
+    /**
+     * Sets the maximum count of the concurrently executed async and reactive operations, the other operations
+     * are queued without blocking a thread. It should be matched to the size of the connection pool if the executor
+     * is not bounded, like the virtual threads executor. Default value ({@value #DEFAULT_ASYNC_CONCURRENCY_LIMIT}),
+     * the operations are not limited. The connections held by the streamed reactive results between the requests
+     * of the subscriber are not counted.
+     *
+     * @param asyncConcurrencyLimit The concurrency limit
+     * @since 4.10
+     */
+    public void setAsyncConcurrencyLimit(int asyncConcurrencyLimit) {
+        this.asyncConcurrencyLimit = asyncConcurrencyLimit;
+    }
+
+    /**
+     * @return The count of the rows fetched by one round trip of the queries
+     * @since 4.10
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Sets the count of the rows fetched from the database by one round trip of the queries, see
+     * {@link java.sql.Statement#setFetchSize(int)}. It can be overridden by the
+     * {@link io.micronaut.data.jdbc.annotation.FetchSize} annotation. If the value is zero, the driver default is used.
+     * The value {@link Integer#MIN_VALUE} enables the row by row streaming of MySQL, the connection cannot execute other
+     * statements until the result is read. Default value ({@value #DEFAULT_FETCH_SIZE}).
+     *
+     * @param fetchSize The fetch size
+     * @since 4.10
+     */
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * @return The count of the rows fetched by one round trip of the streamed queries
+     * @since 4.10
+     */
+    public int getStreamFetchSize() {
+        return streamFetchSize;
+    }
+
+    /**
+     * Sets the count of the rows fetched from the database by one round trip of the {@code findStream} queries,
+     * so that the rows are read by a cursor and the stream is consumed in constant memory. PostgreSQL fetches the rows
+     * by a cursor only without the auto-commit, if the stream is not read in a transaction the auto-commit of the
+     * connection is disabled until the stream is closed. MySQL fetches the rows by a cursor only with the
+     * {@code useCursorFetch=true} connection property. If the value is zero, the driver default is used.
+     * Default value ({@value #DEFAULT_STREAM_FETCH_SIZE}).
+     *
+     * @param streamFetchSize The fetch size of the streamed queries
+     * @since 4.10
+     */
+    public void setStreamFetchSize(int streamFetchSize) {
+        this.streamFetchSize = streamFetchSize;
+    }
+
+    /**
+     * @return Whether the total count of the page is computed by the page query
+     * @since 4.10
+     */
+    public boolean isPageWindowCount() {
+        return pageWindowCount;
+    }
+
+    /**
+     * Sets whether the total count of the pages of the {@code findAll(Pageable)} queries should be computed by the
+     * {@code COUNT(*) OVER()} window function added to the page query, instead of executing a separate count query.
+     * The count query is still executed if the page is empty, and for the distinct queries, the queries with the joined
+     * collections and the custom queries. The window functions require MySQL 8 or later. Default value
+     * ({@value #DEFAULT_PAGE_WINDOW_COUNT}).
+     *
+     * @param pageWindowCount Whether to compute the total count by the window function
+     * @since 4.10
+     */
+    public void setPageWindowCount(boolean pageWindowCount) {
+        this.pageWindowCount = pageWindowCount;
+    }
+
+    /**
+     * @return Whether the count query of the page is executed concurrently with the page query
+     * @since 4.10
+     */
+    public boolean isConcurrentPageCount() {
+        return concurrentPageCount;
+    }
+
+    /**
+     * Sets whether the count query of the {@code findAll(Pageable)} queries should be executed on the async executor
+     * concurrently with the page query, so that the page is read in the time of the slower query instead of both.
+     * Every page uses two connections at the same time. The queries of a transaction or of an existing connection
+     * are still executed one after another. Default value ({@value #DEFAULT_CONCURRENT_PAGE_COUNT}).
+     *
+     * @param concurrentPageCount Whether to execute the count query concurrently
+     * @since 4.10
+     */
+    public void setConcurrentPageCount(boolean concurrentPageCount) {
+        this.concurrentPageCount = concurrentPageCount;
+    }
+
     @Override
     public boolean isEnabled() {
         return enabled;
@@ -23,7 +23,7 @@ import io.micronaut.core.util.StringUtils;
 import io.micronaut.data.exceptions.DataAccessException;
 import io.micronaut.data.model.DataType;
 import io.micronaut.data.runtime.convert.DataConversionService;
-import io.micronaut.data.runtime.mapper.ResultReader;
+import io.micronaut.data.runtime.mapper.sql.SqlColumnIndexResultReader;
 
 import java.math.BigDecimal;
 import java.sql.Blob;
@@ -40,7 +40,7 @@ import java.util.Date;
  * @author graemerocher
  * @since 1.0.0
  */
-public final class ColumnIndexResultSetReader implements ResultReader<ResultSet, Integer> {
+public final class ColumnIndexResultSetReader implements SqlColumnIndexResultReader<ResultSet> {
 
     private final ConversionService conversionService;
 
@@ -63,7 +63,7 @@ public final class ColumnIndexResultSetReader implements ResultReader<ResultSet,
     @Nullable
     @Override
     public Object readDynamic(@NonNull ResultSet resultSet, @NonNull Integer index, @NonNull DataType dataType) {
-        Object val = ResultReader.super.readDynamic(resultSet, index, dataType);
+        Object val = SqlColumnIndexResultReader.super.readDynamic(resultSet, index, dataType);
 
         try {
             return resultSet.wasNull() ? null : val;
@@ -229,6 +229,25 @@ public final class ColumnIndexResultSetReader implements ResultReader<ResultSet,
         }
     }
 
+    @Override
+    public int getColumnCount(ResultSet resultSet) {
+        try {
+            return resultSet.getMetaData().getColumnCount();
+        } catch (SQLException e) {
+            throw new DataAccessException("Error reading SQL result set metadata: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Integer resolveColumnIndex(ResultSet resultSet, String columnName) {
+        try {
+            return resultSet.findColumn(columnName);
+        } catch (SQLException e) {
+            // Unknown column, the name reader will report it
+            return null;
+        }
+    }
+
     @Override
     public boolean next(ResultSet resultSet) {
         try {
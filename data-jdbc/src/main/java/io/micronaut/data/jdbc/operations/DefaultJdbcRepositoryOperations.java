@@ -16,9 +16,11 @@
 package io.micronaut.data.jdbc.operations;
 
 import io.micronaut.aop.InvocationContext;
+import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.context.BeanContext;
 import io.micronaut.context.annotation.EachBean;
 import io.micronaut.context.annotation.Parameter;
+import io.micronaut.context.exceptions.ConfigurationException;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
@@ -32,6 +34,8 @@ import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.data.connection.ConnectionOperations;
 import io.micronaut.data.connection.annotation.Connectable;
 import io.micronaut.data.exceptions.DataAccessException;
+import io.micronaut.data.jdbc.annotation.BatchSize;
+import io.micronaut.data.jdbc.annotation.FetchSize;
 import io.micronaut.data.jdbc.config.DataJdbcConfiguration;
 import io.micronaut.data.jdbc.convert.JdbcConversionContext;
 import io.micronaut.data.jdbc.mapper.ColumnIndexCallableResultReader;
@@ -46,9 +50,9 @@ import io.micronaut.data.jdbc.runtime.PreparedStatementCallback;
 import io.micronaut.data.model.DataType;
 import io.micronaut.data.model.JsonDataType;
 import io.micronaut.data.model.Page;
-import io.micronaut.data.model.query.JoinPath;
 import io.micronaut.data.model.query.builder.sql.Dialect;
 import io.micronaut.data.model.runtime.AttributeConverterRegistry;
+import io.micronaut.data.model.runtime.BatchOperation;
 import io.micronaut.data.model.runtime.DeleteBatchOperation;
 import io.micronaut.data.model.runtime.DeleteOperation;
 import io.micronaut.data.model.runtime.DeleteReturningBatchOperation;
@@ -71,6 +75,7 @@ import io.micronaut.data.operations.DeleteReturningRepositoryOperations;
 import io.micronaut.data.operations.async.AsyncCapableRepository;
 import io.micronaut.data.operations.reactive.ReactiveCapableRepository;
 import io.micronaut.data.operations.reactive.ReactiveRepositoryOperations;
+import io.micronaut.data.runtime.cache.QueryResultCache;
 import io.micronaut.data.runtime.convert.DataConversionService;
 import io.micronaut.data.runtime.convert.RuntimePersistentPropertyConversionContext;
 import io.micronaut.data.runtime.date.DateTimeProvider;
@@ -78,6 +83,7 @@ import io.micronaut.data.runtime.mapper.DTOMapper;
 import io.micronaut.data.runtime.mapper.ResultConsumer;
 import io.micronaut.data.runtime.mapper.ResultReader;
 import io.micronaut.data.runtime.mapper.TypeMapper;
+import io.micronaut.data.runtime.mapper.sql.SqlColumnIndexResultReader;
 import io.micronaut.data.runtime.mapper.sql.SqlResultEntityTypeMapper;
 import io.micronaut.data.runtime.mapper.sql.SqlTypeMapper;
 import io.micronaut.data.runtime.multitenancy.SchemaTenantResolver;
@@ -85,16 +91,24 @@ import io.micronaut.data.runtime.operations.ExecutorAsyncOperations;
 import io.micronaut.data.runtime.operations.ExecutorReactiveOperations;
 import io.micronaut.data.runtime.operations.internal.AbstractSyncEntitiesOperations;
 import io.micronaut.data.runtime.operations.internal.AbstractSyncEntityOperations;
+import io.micronaut.data.runtime.operations.internal.ConcurrencyLimitedExecutor;
+import io.micronaut.data.runtime.operations.internal.ConcurrentPageCountOperations;
 import io.micronaut.data.runtime.operations.internal.OperationContext;
 import io.micronaut.data.runtime.operations.internal.SyncCascadeOperations;
 import io.micronaut.data.runtime.operations.internal.query.BindableParametersStoredQuery;
 import io.micronaut.data.runtime.operations.internal.sql.AbstractSqlRepositoryOperations;
+import io.micronaut.data.runtime.operations.internal.sql.PooledSequence;
 import io.micronaut.data.runtime.operations.internal.sql.SqlJsonColumnMapperProvider;
 import io.micronaut.data.runtime.operations.internal.sql.SqlPreparedQuery;
 import io.micronaut.data.runtime.operations.internal.sql.SqlStoredQuery;
+import io.micronaut.data.runtime.operations.internal.sql.WindowCountOperations;
 import io.micronaut.data.runtime.support.AbstractConversionContext;
+import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.json.JsonMapper;
 import io.micronaut.transaction.TransactionOperations;
+import io.micronaut.transaction.TransactionStatus;
+import io.micronaut.transaction.exceptions.TransactionUsageException;
+import io.micronaut.transaction.support.TransactionSynchronization;
 import jakarta.annotation.PreDestroy;
 import jakarta.inject.Named;
 import jakarta.persistence.Tuple;
@@ -111,18 +125,22 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.EnumMap;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -144,18 +162,23 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     AsyncCapableRepository,
     ReactiveCapableRepository,
     AutoCloseable,
+    WindowCountOperations,
+    ConcurrentPageCountOperations,
     SyncCascadeOperations.SyncCascadeOperationsHelper<DefaultJdbcRepositoryOperations.JdbcOperationContext> {
 
     private final ConnectionOperations<Connection> connectionOperations;
     private final TransactionOperations<Connection> transactionOperations;
     private final DataSource dataSource;
-    private ExecutorAsyncOperations asyncOperations;
+    private final Lock asyncOperationsLock = new ReentrantLock();
+    private volatile ExecutorAsyncOperations asyncOperations;
     private ExecutorService executorService;
     private final SyncCascadeOperations<JdbcOperationContext> cascadeOperations;
     private final DataJdbcConfiguration jdbcConfiguration;
     @Nullable
     private final SchemaTenantResolver schemaTenantResolver;
     private final JdbcSchemaHandler schemaHandler;
+    // The schema applied to the connections of the schema multitenancy, the connections of the pools are weakly referenced wrappers
+    private final Map<Connection, String> connectionSchemas = Collections.synchronizedMap(new WeakHashMap<>());
 
     private final ColumnIndexCallableResultReader columnIndexCallableResultReader;
     private final Map<Dialect, List<SqlExceptionMapper>> sqlExceptionMappers = new EnumMap<>(Dialect.class);
@@ -239,6 +262,24 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         return new ColumnNameExistenceAwareResultSetReader();
     }
 
+    @Override
+    protected SqlColumnIndexResultReader<ResultSet> getRowPlanColumnIndexReader() {
+        if (columnIndexResultSetReader instanceof ColumnIndexResultSetReader reader) {
+            return reader;
+        }
+        return null;
+    }
+
+    @Override
+    protected boolean isExpandableParameterPadding() {
+        return jdbcConfiguration.isExpandableParameterPadding();
+    }
+
+    @Override
+    protected Object getQueryResultCacheScope() {
+        return schemaTenantResolver == null ? null : schemaTenantResolver.resolveTenantSchemaName();
+    }
+
     @NonNull
     private ExecutorService newLocalThreadPool() {
         this.executorService = Executors.newCachedThreadPool();
@@ -273,10 +314,14 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             childPersistentEntity.getIntrospection().getBeanType(),
             childPersistentEntity
         );
-        JdbcEntitiesOperations<T> persistBatchOp = new JdbcEntitiesOperations<>(ctx, childPersistentEntity, values, storedQuery, true);
-        persistBatchOp.veto(predicate);
-        persistBatchOp.persist();
-        return persistBatchOp.getEntities();
+        List<T> persisted = new ArrayList<>();
+        for (Iterable<T> batch : batches(ctx.annotationMetadata, values)) {
+            JdbcEntitiesOperations<T> persistBatchOp = new JdbcEntitiesOperations<>(ctx, childPersistentEntity, batch, storedQuery, true);
+            persistBatchOp.veto(predicate);
+            persistBatchOp.persist();
+            persisted.addAll(persistBatchOp.getEntities());
+        }
+        return persisted;
     }
 
     @Override
@@ -287,6 +332,31 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         return op.getEntity();
     }
 
+    @Override
+    public <T> List<T> updateBatch(JdbcOperationContext ctx, Iterable<T> values, RuntimePersistentEntity<T> persistentEntity) {
+        SqlStoredQuery<T, T> storedQuery = resolveEntityUpdate(
+            ctx.annotationMetadata,
+            ctx.repositoryType,
+            persistentEntity.getIntrospection().getBeanType(),
+            persistentEntity
+        );
+        List<T> updated = new ArrayList<>();
+        if (!isSupportsBatchUpdate(persistentEntity, storedQuery)) {
+            for (T value : values) {
+                JdbcEntityOperations<T> op = new JdbcEntityOperations<>(ctx, persistentEntity, value, storedQuery);
+                op.update();
+                updated.add(op.getEntity());
+            }
+            return updated;
+        }
+        for (Iterable<T> batch : batches(ctx.annotationMetadata, values)) {
+            JdbcEntitiesOperations<T> op = new JdbcEntitiesOperations<>(ctx, persistentEntity, batch, storedQuery);
+            op.update();
+            updated.addAll(op.getEntities());
+        }
+        return updated;
+    }
+
     @Override
     public void persistManyAssociation(JdbcOperationContext ctx,
                                        RuntimeAssociation runtimeAssociation,
@@ -320,30 +390,71 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     public ExecutorAsyncOperations async() {
         ExecutorAsyncOperations asyncOperations = this.asyncOperations;
         if (asyncOperations == null) {
-            synchronized (this) { // double check
+            // The lock doesn't pin a virtual thread while the executor bean is created
+            asyncOperationsLock.lock();
+            try { // double check
                 asyncOperations = this.asyncOperations;
                 if (asyncOperations == null) {
-                    asyncOperations = new ExecutorAsyncOperations(
-                        this,
-                        executorService != null ? executorService : newLocalThreadPool()
-                    );
+                    asyncOperations = new ExecutorAsyncOperations(this, newAsyncExecutor());
                     this.asyncOperations = asyncOperations;
                 }
+            } finally {
+                asyncOperationsLock.unlock();
             }
         }
         return asyncOperations;
     }
 
+    @NonNull
+    private Executor newAsyncExecutor() {
+        Executor executor;
+        String executorName = jdbcConfiguration.getAsyncExecutor();
+        if (executorName != null) {
+            executor = getApplicationContext().findBean(ExecutorService.class, Qualifiers.byName(executorName))
+                .orElseThrow(() -> new ConfigurationException("The async executor [" + executorName + "] of the data source [" + dataSourceName + "] doesn't exist"));
+        } else {
+            executor = executorService != null ? executorService : newLocalThreadPool();
+        }
+        int concurrencyLimit = jdbcConfiguration.getAsyncConcurrencyLimit();
+        if (concurrencyLimit > 0) {
+            return new ConcurrencyLimitedExecutor(executor, concurrencyLimit);
+        }
+        return executor;
+    }
+
     @NonNull
     @Override
     public ReactiveRepositoryOperations reactive() {
-        return new ExecutorReactiveOperations(async(), conversionService);
+        return new ExecutorReactiveOperations(async(), conversionService, jdbcConfiguration.isReactiveStreaming());
     }
 
     @Nullable
     @Override
     public <T, R> R findOne(@NonNull PreparedQuery<T, R> pq) {
-        return executeRead(connection -> findOne(connection, getSqlPreparedQuery(pq)));
+        SqlPreparedQuery<T, R> preparedQuery = getSqlPreparedQuery(pq);
+        Object cachedEntityId = findCachedEntityId(preparedQuery);
+        if (cachedEntityId == null) {
+            QueryResultCache.Lookup lookup = findCachedQueryResult(preparedQuery, false);
+            if (lookup == null) {
+                return executeRead(connection -> findOne(connection, preparedQuery));
+            }
+            if (lookup.isHit()) {
+                return (R) lookup.getResult();
+            }
+            R result = executeRead(connection -> findOne(connection, preparedQuery));
+            afterTransactionCompletion(true, () -> lookup.cache(result));
+            return result;
+        }
+        CachedEntityLookup<R> entityLookup = lookupCachedEntity(preparedQuery, cachedEntityId);
+        if (entityLookup.getEntity() != null) {
+            return entityLookup.getEntity();
+        }
+        R result = executeRead(connection -> findOne(connection, preparedQuery));
+        if (result != null) {
+            // The entity read in a transaction might be modified by the transaction, publish it after the commit
+            afterTransactionCompletion(true, () -> entityLookup.cache(result));
+        }
+        return result;
     }
 
     private <T, R> R findOne(Connection connection, SqlPreparedQuery<T, R> preparedQuery) {
@@ -382,6 +493,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     private <T, R> List<R> findAll(Connection connection, SqlPreparedQuery<T, R> preparedQuery, boolean applyPageable) {
         try (PreparedStatement ps = prepareStatement(connection::prepareStatement, preparedQuery, !applyPageable, false)) {
             preparedQuery.bindParameters(new JdbcParameterBinder(connection, ps, preparedQuery));
+            applyFetchSize(connection, ps, preparedQuery, false, false);
             return findAll(preparedQuery, ps);
         } catch (Throwable e) {
             throw new DataAccessException("Error executing SQL Query: " + preparedQuery.getQuery() + " " + e.getMessage(), e);
@@ -396,11 +508,19 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
 
     @NonNull
     private <T, R> List<R> findAll(SqlStoredQuery<T, R> sqlStoredQuery, ResultSet rs) throws SQLException {
+        return findAll(sqlStoredQuery, rs, null);
+    }
+
+    @NonNull
+    private <T, R> List<R> findAll(SqlStoredQuery<T, R> sqlStoredQuery, ResultSet rs, @Nullable WindowCountReader windowCountReader) throws SQLException {
         SqlTypeMapper<ResultSet, R> mapper = createMapper(sqlStoredQuery, ResultSet.class);
         List<R> result;
         if (mapper instanceof SqlResultEntityTypeMapper<ResultSet, R> entityTypeMapper) {
             SqlResultEntityTypeMapper.PushingMapper<ResultSet, List<R>> manyMapper = entityTypeMapper.readManyMapper();
             while (rs.next()) {
+                if (windowCountReader != null) {
+                    windowCountReader.read(rs);
+                }
                 manyMapper.processRow(rs);
             }
             result = manyMapper.getResult();
@@ -410,6 +530,9 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         } else {
             result = new ArrayList<>();
             while (rs.next()) {
+                if (windowCountReader != null) {
+                    windowCountReader.read(rs);
+                }
                 result.add(
                     mapper.map(rs, sqlStoredQuery.getResultType())
                 );
@@ -423,6 +546,56 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         return result;
     }
 
+    @Nullable
+    @Override
+    public <T, R> WindowCountResult<R> findAllWithWindowCount(@NonNull PreparedQuery<T, R> pq) {
+        if (!jdbcConfiguration.isPageWindowCount()) {
+            return null;
+        }
+        SqlPreparedQuery<T, R> preparedQuery = getSqlPreparedQuery(pq);
+        boolean mappedResult = preparedQuery.getResultDataType() == DataType.ENTITY || preparedQuery.isDtoProjection();
+        if (!mappedResult
+            || preparedQuery.isRawQuery()
+            || preparedQuery.isProcedure()
+            || !isOnlySingleEndedJoins(preparedQuery.getPersistentEntity(), preparedQuery.getJoinPaths())
+            || isCachedQuery(preparedQuery)) {
+            // The extra column is only ignored by the mapped results, the joined collections multiply the rows
+            return null;
+        }
+        return executeRead(connection -> {
+            WindowCountReader windowCountReader = new WindowCountReader();
+            StatementSupplier<PreparedStatement> statementFunction = query -> {
+                String windowCountQuery = preparedQuery.getQueryBuilder().buildWindowCountQuery(query);
+                if (windowCountQuery == null) {
+                    return connection.prepareStatement(query);
+                }
+                if (QUERY_LOG.isDebugEnabled()) {
+                    QUERY_LOG.debug("Executing Query with the window count: {}", windowCountQuery);
+                }
+                windowCountReader.enabled = true;
+                return connection.prepareStatement(windowCountQuery);
+            };
+            try (PreparedStatement ps = prepareStatement(statementFunction, preparedQuery, false, false)) {
+                preparedQuery.bindParameters(new JdbcParameterBinder(connection, ps, preparedQuery));
+                applyFetchSize(connection, ps, preparedQuery, false, false);
+                try (ResultSet rs = ps.executeQuery()) {
+                    List<R> results = findAll(preparedQuery, rs, windowCountReader.enabled ? windowCountReader : null);
+                    return new WindowCountResult<>(results, windowCountReader.totalCount);
+                }
+            } catch (SQLException e) {
+                throw new DataAccessException("Error executing SQL Query: " + preparedQuery.getQuery() + " " + e.getMessage(), e);
+            }
+        });
+    }
+
+    @Override
+    public boolean isConcurrentPageCount() {
+        // The queries of a transaction or an existing connection cannot be executed concurrently
+        return jdbcConfiguration.isConcurrentPageCount()
+            && jdbcConfiguration.isAllowConnectionPerOperation()
+            && connectionOperations.findConnectionStatus().isEmpty();
+    }
+
     @Override
     public <T> boolean exists(@NonNull PreparedQuery<T, Boolean> pq) {
         return executeRead(connection -> {
@@ -452,11 +625,20 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         RuntimePersistentEntity<T> persistentEntity = preparedQuery.getPersistentEntity();
         Class<R> resultType = preparedQuery.getResultType();
         AtomicBoolean finished = new AtomicBoolean();
+        SqlTypeMapper<ResultSet, R> resultMapper = createMapper(preparedQuery, ResultSet.class);
+        boolean manyJoins = resultMapper instanceof SqlResultEntityTypeMapper
+            && !isOnlySingleEndedJoins(persistentEntity, preparedQuery.getJoinPaths());
 
         PreparedStatement ps;
+        boolean restoreAutoCommit;
         try {
-            ps = prepareStatement(connection::prepareStatement, preparedQuery, false, false);
+            if (manyJoins) {
+                ps = prepareGroupedByRootIdStatement(connection::prepareStatement, preparedQuery);
+            } else {
+                ps = prepareStatement(connection::prepareStatement, preparedQuery, false, false);
+            }
             preparedQuery.bindParameters(new JdbcParameterBinder(connection, ps, preparedQuery));
+            restoreAutoCommit = applyFetchSize(connection, ps, preparedQuery, true, closeConnection);
         } catch (Exception e) {
             throw new DataAccessException("SQL Error preparing Query: " + e.getMessage(), e);
         }
@@ -467,21 +649,20 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             openedRs = ps.executeQuery();
             rs = openedRs;
             SqlResultConsumer<R> sqlMappingConsumer = preparedQuery.hasResultConsumer() ? preparedQuery.getParameterInRole(SqlResultConsumer.ROLE, SqlResultConsumer.class).orElse(null) : null;
-            SqlTypeMapper<ResultSet, R> resultMapper = createMapper(preparedQuery, ResultSet.class);
-            if (resultMapper instanceof SqlResultEntityTypeMapper<ResultSet, R> entityTypeMapper) {
-                Set<JoinPath> joinFetchPaths = preparedQuery.getJoinPaths();
-                boolean onlySingleEndedJoins = isOnlySingleEndedJoins(persistentEntity, joinFetchPaths);
-                // Cannot stream ResultSet for "many" joined query
-                if (!onlySingleEndedJoins) {
-                    try {
-                        SqlResultEntityTypeMapper.PushingMapper<ResultSet, List<R>> manyMapper = entityTypeMapper.readManyMapper();
-                        while (rs.next()) {
-                            manyMapper.processRow(rs);
-                        }
-                        return manyMapper.getResult().stream();
-                    } finally {
-                        closeResultSet(connection, ps, rs, finished, closeConnection);
+            if (manyJoins) {
+                SqlResultEntityTypeMapper<ResultSet, R> entityTypeMapper = (SqlResultEntityTypeMapper<ResultSet, R>) resultMapper;
+                if (preparedQuery.isGroupedByRootId()) {
+                    return streamGroupedByRootId(entityTypeMapper, connection, ps, rs, finished, closeConnection, restoreAutoCommit);
+                }
+                // Cannot stream ResultSet for "many" joined query not grouped by the root entity
+                try {
+                    SqlResultEntityTypeMapper.PushingMapper<ResultSet, List<R>> manyMapper = entityTypeMapper.readManyMapper();
+                    while (rs.next()) {
+                        manyMapper.processRow(rs);
                     }
+                    return manyMapper.getResult().stream();
+                } finally {
+                    closeResultSet(connection, ps, rs, finished, closeConnection, restoreAutoCommit);
                 }
             }
 
@@ -500,20 +681,57 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                         }
                         action.accept(o);
                     } else {
-                        closeResultSet(connection, ps, rs, finished, closeConnection);
+                        closeResultSet(connection, ps, rs, finished, closeConnection, restoreAutoCommit);
                     }
                     return hasNext;
                 }
             };
             return StreamSupport.stream(spliterator, false)
-                .onClose(() -> closeResultSet(connection, ps, rs, finished, closeConnection));
+                .onClose(() -> closeResultSet(connection, ps, rs, finished, closeConnection, restoreAutoCommit));
         } catch (Exception e) {
-            closeResultSet(connection, ps, openedRs, finished, closeConnection);
+            closeResultSet(connection, ps, openedRs, finished, closeConnection, restoreAutoCommit);
             throw new DataAccessException("SQL Error executing Query: " + e.getMessage(), e);
         }
     }
 
-    private void closeResultSet(Connection connection, PreparedStatement ps, ResultSet rs, AtomicBoolean finished, boolean closeConnection) {
+    private <R> Stream<R> streamGroupedByRootId(SqlResultEntityTypeMapper<ResultSet, R> entityTypeMapper,
+                                                Connection connection,
+                                                PreparedStatement ps,
+                                                ResultSet rs,
+                                                AtomicBoolean finished,
+                                                boolean closeConnection,
+                                                boolean restoreAutoCommit) {
+        SqlResultEntityTypeMapper.GroupingMapper<ResultSet, R> groupingMapper = entityTypeMapper.readManyGroupingMapper();
+        Spliterator<R> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.IMMUTABLE) {
+            @Override
+            public boolean tryAdvance(Consumer<? super R> action) {
+                if (finished.get()) {
+                    return false;
+                }
+                while (entityTypeMapper.hasNext(rs)) {
+                    // Only the entity being read is kept, the previous one is emitted once its rows are processed
+                    R entity = groupingMapper.processRow(rs);
+                    if (entity != null) {
+                        action.accept(entity);
+                        return true;
+                    }
+                }
+                R lastEntity = groupingMapper.complete();
+                closeResultSet(connection, ps, rs, finished, closeConnection, restoreAutoCommit);
+                if (lastEntity != null) {
+                    action.accept(lastEntity);
+                    return true;
+                }
+                return false;
+            }
+        };
+        return StreamSupport.stream(spliterator, false)
+            .onClose(() -> closeResultSet(connection, ps, rs, finished, closeConnection, restoreAutoCommit));
+    }
+
+    private void closeResultSet(Connection connection, PreparedStatement ps, ResultSet rs, AtomicBoolean finished,
+                                boolean closeConnection, boolean restoreAutoCommit) {
         if (finished.compareAndSet(false, true)) {
             try {
                 if (rs != null) {
@@ -522,6 +740,10 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                 if (ps != null) {
                     ps.close();
                 }
+                if (restoreAutoCommit) {
+                    // Commits the transaction of the cursor as the auto-commit would do
+                    connection.setAutoCommit(true);
+                }
                 if (closeConnection) {
                     connection.close();
                 }
@@ -533,8 +755,18 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
 
     @NonNull
     @Override
-    public <T, R> Iterable<R> findAll(@NonNull PreparedQuery<T, R> preparedQuery) {
-        return executeRead(connection -> findAll(connection, getSqlPreparedQuery(preparedQuery), true));
+    public <T, R> Iterable<R> findAll(@NonNull PreparedQuery<T, R> pq) {
+        SqlPreparedQuery<T, R> preparedQuery = getSqlPreparedQuery(pq);
+        QueryResultCache.Lookup lookup = findCachedQueryResult(preparedQuery, true);
+        if (lookup == null) {
+            return executeRead(connection -> findAll(connection, preparedQuery, true));
+        }
+        if (lookup.isHit()) {
+            return (List<R>) lookup.getResult();
+        }
+        List<R> result = Collections.unmodifiableList(executeRead(connection -> findAll(connection, preparedQuery, true)));
+        afterTransactionCompletion(true, () -> lookup.cache(result));
+        return result;
     }
 
     @NonNull
@@ -545,6 +777,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             try (PreparedStatement ps = prepareStatement(connection::prepareStatement, preparedQuery, true, false)) {
                 preparedQuery.bindParameters(new JdbcParameterBinder(connection, ps, preparedQuery));
                 int result = ps.executeUpdate();
+                invalidateCachesAfterWrite(preparedQuery);
                 if (QUERY_LOG.isTraceEnabled()) {
                     QUERY_LOG.trace("Update operation updated {} records", result);
                 }
@@ -566,7 +799,9 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                 if (preparedQuery.isProcedure()) {
                     return callProcedure(connection, preparedQuery);
                 } else {
-                    return findAll(connection, preparedQuery, false);
+                    List<R> result = findAll(connection, preparedQuery, false);
+                    invalidateCachesAfterWrite(preparedQuery);
+                    return result;
                 }
             } catch (SQLException e) {
                 throw sqlExceptionToDataAccessException(e, preparedQuery.getDialect(), sqlException -> new DataAccessException("Error executing SQL UPDATE: " + sqlException.getMessage(), sqlException));
@@ -611,9 +846,13 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             JdbcOperationContext ctx = createContext(operation, connection, storedQuery);
             RuntimePersistentEntity<T> persistentEntity = storedQuery.getPersistentEntity();
             if (isSupportsBatchDelete(persistentEntity, storedQuery.getDialect())) {
-                JdbcEntitiesOperations<T> op = new JdbcEntitiesOperations<>(ctx, persistentEntity, operation, storedQuery);
-                op.delete();
-                return op.rowsUpdated;
+                int rowsUpdated = 0;
+                for (Iterable<T> batch : batches(operation)) {
+                    JdbcEntitiesOperations<T> op = new JdbcEntitiesOperations<>(ctx, persistentEntity, batch, storedQuery);
+                    op.delete();
+                    rowsUpdated += op.rowsUpdated;
+                }
+                return rowsUpdated;
             }
             return sum(
                 operation.split().stream()
@@ -697,9 +936,16 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                     })
                     .toList();
             }
-            JdbcEntitiesOperations<T> op = new JdbcEntitiesOperations<>(ctx, persistentEntity, operation, storedQuery);
-            op.update();
-            return op.getEntities();
+            boolean collectEntities = !isVoidResult(operation);
+            List<T> updated = new ArrayList<>();
+            for (Iterable<T> batch : batches(operation)) {
+                JdbcEntitiesOperations<T> op = new JdbcEntitiesOperations<>(ctx, persistentEntity, batch, storedQuery);
+                op.update();
+                if (collectEntities) {
+                    updated.addAll(op.getEntities());
+                }
+            }
+            return updated;
         });
     }
 
@@ -751,6 +997,9 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             final RuntimePersistentEntity<T> persistentEntity = storedQuery.getPersistentEntity();
             JdbcOperationContext ctx = createContext(operation, connection, storedQuery);
             if (!isSupportsBatchInsert(persistentEntity, storedQuery)) {
+                if (jdbcConfiguration.isMultiRowInsert() && isSupportsMultiRowInsert(ctx.repositoryType, persistentEntity, storedQuery)) {
+                    return persistBatches(ctx, persistentEntity, storedQuery, operation, true);
+                }
                 return operation.split().stream()
                     .map(persistOp -> {
                         JdbcEntityOperations<T> op = new JdbcEntityOperations<>(ctx, storedQuery, persistentEntity, persistOp.getEntity(), true);
@@ -759,14 +1008,204 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                     })
                     .toList();
             } else {
-                JdbcEntitiesOperations<T> op = new JdbcEntitiesOperations<>(ctx, persistentEntity, operation, storedQuery, true);
-                op.persist();
-                return op.getEntities();
+                return persistBatches(ctx, persistentEntity, storedQuery, operation, false);
             }
 
         });
     }
 
+    private <T> List<T> persistBatches(JdbcOperationContext ctx,
+                                       RuntimePersistentEntity<T> persistentEntity,
+                                       SqlStoredQuery<T, ?> storedQuery,
+                                       InsertBatchOperation<T> operation,
+                                       boolean multiRowInsert) {
+        boolean collectEntities = !isVoidResult(operation);
+        List<T> persisted = new ArrayList<>();
+        for (Iterable<T> batch : batches(operation)) {
+            JdbcEntitiesOperations<T> op = new JdbcEntitiesOperations<>(ctx, persistentEntity, batch, storedQuery, true, multiRowInsert);
+            op.persist();
+            if (collectEntities) {
+                persisted.addAll(op.getEntities());
+            }
+        }
+        return persisted;
+    }
+
+    /**
+     * Allocate the pooled sequence identity of the inserted entity.
+     *
+     * @param ctx              The operation context
+     * @param persistentEntity The persistent entity
+     * @param entity           The entity
+     * @param <T>              The entity type
+     * @return The identity or null if the identity is not pooled or already assigned
+     */
+    @Nullable
+    private <T> Long nextPooledIdentity(JdbcOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, T entity) {
+        PooledSequence sequence = findPooledSequence(ctx.repositoryType, persistentEntity);
+        if (sequence == null || !isPooledIdentityUnassigned(persistentEntity, entity)) {
+            return null;
+        }
+        return sequence.nextValue(() -> fetchSequenceValue(ctx.connection, sequence.getQuery()));
+    }
+
+    private long fetchSequenceValue(Connection connection, String query) {
+        if (QUERY_LOG.isDebugEnabled()) {
+            QUERY_LOG.debug("Executing SQL query: {}", query);
+        }
+        try (PreparedStatement ps = connection.prepareStatement(query); ResultSet rs = ps.executeQuery()) {
+            if (!rs.next()) {
+                throw new DataAccessException("Sequence query produced no results: " + query);
+            }
+            return rs.getLong(1);
+        } catch (SQLException e) {
+            throw new DataAccessException("Error fetching the sequence values: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Split the entities of the batch operation to the batches of the configured size.
+     * The entities are consumed lazily, the next batch is collected only after the previous one was executed.
+     *
+     * @param operation The batch operation
+     * @param <T>       The entity type
+     * @return The batches
+     */
+    private <T> Iterable<Iterable<T>> batches(BatchOperation<T> operation) {
+        return batches(operation.getAnnotationMetadata(), operation);
+    }
+
+    /**
+     * Apply the fetch size configured by the annotation metadata or the data source.
+     *
+     * @param connection      The connection
+     * @param ps              The statement
+     * @param preparedQuery   The prepared query
+     * @param stream          Whether the result is streamed
+     * @param ownedConnection Whether the connection is opened only for the query
+     * @return true if the auto-commit of the connection was disabled to fetch the rows by a cursor
+     * @throws SQLException If the fetch size cannot be applied
+     */
+    private boolean applyFetchSize(Connection connection,
+                                   PreparedStatement ps,
+                                   SqlPreparedQuery<?, ?> preparedQuery,
+                                   boolean stream,
+                                   boolean ownedConnection) throws SQLException {
+        int fetchSize = preparedQuery.getAnnotationMetadata().intValue(FetchSize.class)
+            .orElse(stream ? jdbcConfiguration.getStreamFetchSize() : jdbcConfiguration.getFetchSize());
+        Dialect dialect = preparedQuery.getDialect();
+        if (fetchSize == Integer.MIN_VALUE && dialect == Dialect.MYSQL) {
+            // The row by row streaming of MySQL
+            ps.setFetchSize(fetchSize);
+            return false;
+        }
+        if (fetchSize <= 0) {
+            return false;
+        }
+        ps.setFetchSize(fetchSize);
+        if (stream && ownedConnection && dialect == Dialect.POSTGRES && connection.getAutoCommit()) {
+            // PostgreSQL reads the whole result in the auto-commit mode
+            connection.setAutoCommit(false);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Split the entities to the batches of the size configured by the annotation metadata or the data source.
+     *
+     * @param annotationMetadata The annotation metadata of the operation
+     * @param values             The entities
+     * @param <T>                The entity type
+     * @return The batches
+     */
+    private <T> Iterable<Iterable<T>> batches(AnnotationMetadata annotationMetadata, Iterable<T> values) {
+        int batchSize = annotationMetadata.intValue(BatchSize.class).orElse(jdbcConfiguration.getBatchSize());
+        if (batchSize <= 0) {
+            return List.of(values);
+        }
+        return () -> new Iterator<>() {
+
+            private final Iterator<T> entities = values.iterator();
+
+            @Override
+            public boolean hasNext() {
+                return entities.hasNext();
+            }
+
+            @Override
+            public Iterable<T> next() {
+                if (!entities.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<T> batch = new ArrayList<>(batchSize);
+                while (batch.size() < batchSize && entities.hasNext()) {
+                    batch.add(entities.next());
+                }
+                return batch;
+            }
+        };
+    }
+
+    private static boolean isVoidResult(EntityOperation<?> operation) {
+        // The entities of the void methods don't need to be kept until all the batches are written
+        return operation.getInvocationContext() instanceof MethodInvocationContext<?, ?> methodInvocationContext
+            && methodInvocationContext.getReturnType().isVoid();
+    }
+
+    private void invalidateCachedQueryResultsAfterWrite(RuntimePersistentEntity<?> persistentEntity) {
+        // Invalidate again after the transaction completes, the results might be cached from a concurrent read in the meantime
+        invalidateCachedQueryResults(persistentEntity);
+        afterTransactionCompletion(false, () -> invalidateCachedQueryResults(persistentEntity));
+    }
+
+    private <T> void invalidateCachedEntityAfterWrite(RuntimePersistentEntity<T> persistentEntity, T entity) {
+        if (isCachedEntity(persistentEntity)) {
+            invalidateCachedEntity(persistentEntity, entity);
+            afterTransactionCompletion(false, () -> invalidateCachedEntity(persistentEntity, entity));
+        }
+    }
+
+    private void invalidateCachesAfterWrite(SqlPreparedQuery<?, ?> preparedQuery) {
+        if (preparedQuery.getOperationType() == StoredQuery.OperationType.QUERY) {
+            return;
+        }
+        invalidateCachedQueryResultsAfterWrite(preparedQuery.getPersistentEntity());
+        if (isCachedEntity(preparedQuery.getPersistentEntity())) {
+            invalidateCachedEntities(preparedQuery);
+            afterTransactionCompletion(false, () -> invalidateCachedEntities(preparedQuery));
+        }
+    }
+
+    /**
+     * Run the action after the current transaction completes or immediately if there is no transaction.
+     *
+     * @param onlyCommitted Whether the action should only run if the transaction is committed
+     * @param action        The action
+     */
+    private void afterTransactionCompletion(boolean onlyCommitted, Runnable action) {
+        TransactionStatus<?> transactionStatus = transactionOperations.findTransactionStatus().orElse(null);
+        if (transactionStatus == null || transactionStatus.isCompleted()) {
+            action.run();
+            return;
+        }
+        try {
+            transactionStatus.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(@NonNull Status status) {
+                    if (!onlyCommitted || status == Status.COMMITTED) {
+                        action.run();
+                    }
+                }
+            });
+        } catch (TransactionUsageException e) {
+            // The transaction manager doesn't support the synchronization, nothing is published
+            if (!onlyCommitted) {
+                action.run();
+            }
+        }
+    }
+
     private <I> I executeRead(Function<Connection, I> fn) {
         if (!jdbcConfiguration.isAllowConnectionPerOperation() && connectionOperations.findConnectionStatus().isEmpty()) {
             throw connectionNotFoundAndNewNotAllowed();
@@ -804,7 +1243,34 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     private void applySchema(Connection connection) {
         if (schemaTenantResolver != null) {
             String schema = schemaTenantResolver.resolveTenantSchemaName();
+            if (schema != null && schema.equals(connectionSchemas.get(connection))) {
+                return;
+            }
             schemaHandler.useSchema(connection, jdbcConfiguration.getDialect(), schema);
+            if (schema != null) {
+                connectionSchemas.put(connection, schema);
+                forgetSchemaAfterRollback(connection);
+            }
+        }
+    }
+
+    private void forgetSchemaAfterRollback(Connection connection) {
+        // The schema change of PostgreSQL is reverted by the rollback of the transaction
+        TransactionStatus<?> transactionStatus = transactionOperations.findTransactionStatus().orElse(null);
+        if (transactionStatus == null || transactionStatus.isCompleted()) {
+            return;
+        }
+        try {
+            transactionStatus.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(@NonNull Status status) {
+                    if (status != Status.COMMITTED) {
+                        connectionSchemas.remove(connection);
+                    }
+                }
+            });
+        } catch (TransactionUsageException e) {
+            connectionSchemas.remove(connection);
         }
     }
 
@@ -1179,6 +1645,12 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing SQL query: {}", storedQuery.getQuery());
             }
+            if (insert) {
+                Long id = nextPooledIdentity(ctx, persistentEntity, entity);
+                if (id != null) {
+                    entity = updateEntityId(persistentEntity.getIdentity().getProperty(), entity, id);
+                }
+            }
             try {
                 if (storedQuery.getOperationType() == StoredQuery.OperationType.INSERT_RETURNING
                     || storedQuery.getOperationType() == StoredQuery.OperationType.UPDATE_RETURNING
@@ -1190,6 +1662,10 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                 if (storedQuery.isOptimisticLock()) {
                     checkOptimisticLocking(1, rowsUpdated);
                 }
+                invalidateCachedQueryResultsAfterWrite(persistentEntity);
+                if (!insert) {
+                    invalidateCachedEntityAfterWrite(persistentEntity, entity);
+                }
             } catch (SQLException e) {
                 DataAccessException dataAccessException = mapSqlException(e, ctx.dialect);
                 if (dataAccessException != null) {
@@ -1242,6 +1718,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     private final class JdbcEntitiesOperations<T> extends AbstractSyncEntitiesOperations<JdbcOperationContext, T, SQLException> {
 
         private final SqlStoredQuery<T, ?> storedQuery;
+        private final boolean multiRowInsert;
         private int rowsUpdated;
 
         private JdbcEntitiesOperations(JdbcOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, Iterable<T> entities, SqlStoredQuery<T, ?> storedQuery) {
@@ -1249,11 +1726,16 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         }
 
         private JdbcEntitiesOperations(JdbcOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, Iterable<T> entities, SqlStoredQuery<T, ?> storedQuery, boolean insert) {
+            this(ctx, persistentEntity, entities, storedQuery, insert, false);
+        }
+
+        private JdbcEntitiesOperations(JdbcOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, Iterable<T> entities, SqlStoredQuery<T, ?> storedQuery, boolean insert, boolean multiRowInsert) {
             super(ctx,
                 DefaultJdbcRepositoryOperations.this.cascadeOperations,
                 DefaultJdbcRepositoryOperations.this.conversionService,
                 entityEventRegistry, persistentEntity, entities, insert);
             this.storedQuery = storedQuery;
+            this.multiRowInsert = multiRowInsert;
         }
 
         @Override
@@ -1297,44 +1779,125 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             }
         }
 
-        @Override
-        protected void execute() {
+        private void executeBatch() throws SQLException {
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing SQL query: {}", storedQuery.getQuery());
             }
-            if (storedQuery.getOperationType() == StoredQuery.OperationType.INSERT_RETURNING
-                || storedQuery.getOperationType() == StoredQuery.OperationType.UPDATE_RETURNING) {
-                throw new IllegalStateException("Batch operations don't support returning operations");
-            }
             try (PreparedStatement ps = prepare(ctx.connection)) {
                 setParameters(ps, storedQuery);
                 rowsUpdated = Arrays.stream(ps.executeBatch()).sum();
                 if (hasGeneratedId) {
-                    RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
-                    List<Object> ids = new ArrayList<>();
                     try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
-                        Dialect dialect = storedQuery.getDialect();
-                        while (generatedKeys.next()) {
-                            ids.add(getGeneratedIdentity(generatedKeys, identity, dialect));
-                        }
+                        updateGeneratedIds(entities, readGeneratedIds(generatedKeys));
                     }
-                    Iterator<Object> iterator = ids.iterator();
-                    for (Data d : entities) {
-                        if (d.vetoed) {
-                            continue;
+                }
+            }
+        }
+
+        private void executeMultiRowInsert() throws SQLException {
+            List<Data> rows = entities.stream().filter(d -> !d.vetoed).toList();
+            int rowsPerInsert = getMultiRowInsertSize(ctx.repositoryType, storedQuery);
+            Dialect dialect = storedQuery.getDialect();
+            // SQL Server returns the generated identities of the multi-row insert by the OUTPUT clause
+            boolean outputIdentity = hasGeneratedId && dialect == Dialect.SQL_SERVER;
+            for (int from = 0; from < rows.size(); from += rowsPerInsert) {
+                List<Data> insertRows = rows.subList(from, Math.min(rows.size(), from + rowsPerInsert));
+                String query = findMultiRowInsertQuery(ctx.repositoryType, storedQuery, insertRows.size());
+                if (query == null) {
+                    throw new IllegalStateException("Multi-row insert is not supported for query: " + storedQuery.getQuery());
+                }
+                if (QUERY_LOG.isDebugEnabled()) {
+                    QUERY_LOG.debug("Executing SQL query: {}", query);
+                }
+                try (PreparedStatement ps = outputIdentity ? ctx.connection.prepareStatement(query)
+                    : ctx.connection.prepareStatement(query, hasGeneratedId ? Statement.RETURN_GENERATED_KEYS : Statement.NO_GENERATED_KEYS)) {
+                    // The binder index continues with the parameters of the next row
+                    JdbcParameterBinder binder = new JdbcParameterBinder(ctx.connection, ps, storedQuery);
+                    for (Data d : insertRows) {
+                        storedQuery.bindParameters(binder, ctx.invocationContext, d.entity, d.previousValues);
+                    }
+                    if (outputIdentity) {
+                        List<Object> ids;
+                        try (ResultSet resultSet = ps.executeQuery()) {
+                            ids = readGeneratedIds(resultSet);
                         }
-                        if (!iterator.hasNext()) {
-                            throw new DataAccessException("Failed to generate ID for entity: " + d.entity);
-                        } else {
-                            Object id = iterator.next();
-                            d.entity = updateEntityId(identity.getProperty(), d.entity, id);
+                        // The identities are generated in the order of the rows, the order of the output is not guaranteed
+                        ids.sort(null);
+                        rowsUpdated += ids.size();
+                        updateGeneratedIds(insertRows, ids);
+                    } else {
+                        rowsUpdated += ps.executeUpdate();
+                        if (hasGeneratedId) {
+                            try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
+                                updateGeneratedIds(insertRows, readGeneratedIds(generatedKeys));
+                            }
                         }
                     }
                 }
+            }
+        }
+
+        private List<Object> readGeneratedIds(ResultSet resultSet) throws SQLException {
+            RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
+            Dialect dialect = storedQuery.getDialect();
+            List<Object> ids = new ArrayList<>();
+            while (resultSet.next()) {
+                ids.add(getGeneratedIdentity(resultSet, identity, dialect));
+            }
+            return ids;
+        }
+
+        private void updateGeneratedIds(List<Data> rows, List<Object> ids) {
+            RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
+            Iterator<Object> iterator = ids.iterator();
+            for (Data d : rows) {
+                if (d.vetoed) {
+                    continue;
+                }
+                if (!iterator.hasNext()) {
+                    throw new DataAccessException("Failed to generate ID for entity: " + d.entity);
+                } else {
+                    Object id = iterator.next();
+                    d.entity = updateEntityId(identity.getProperty(), d.entity, id);
+                }
+            }
+        }
+
+        @Override
+        protected void execute() {
+            if (storedQuery.getOperationType() == StoredQuery.OperationType.INSERT_RETURNING
+                || storedQuery.getOperationType() == StoredQuery.OperationType.UPDATE_RETURNING) {
+                throw new IllegalStateException("Batch operations don't support returning operations");
+            }
+            if (insert) {
+                for (Data d : entities) {
+                    if (d.vetoed) {
+                        continue;
+                    }
+                    Long id = nextPooledIdentity(ctx, persistentEntity, d.entity);
+                    if (id != null) {
+                        d.entity = updateEntityId(persistentEntity.getIdentity().getProperty(), d.entity, id);
+                    }
+                }
+            }
+            try {
+                if (multiRowInsert) {
+                    executeMultiRowInsert();
+                } else {
+                    executeBatch();
+                }
                 if (storedQuery.isOptimisticLock()) {
                     int expected = (int) entities.stream().filter(d -> !d.vetoed).count();
                     checkOptimisticLocking(expected, rowsUpdated);
                 }
+                invalidateCachedQueryResultsAfterWrite(persistentEntity);
+                if (!insert) {
+                    for (Data d : entities) {
+                        if (!d.vetoed) {
+                            invalidateCachedEntityAfterWrite(persistentEntity, d.entity);
+                        }
+                    }
+                }
             } catch (SQLException e) {
                 throw sqlExceptionToDataAccessException(e, ctx.dialect, sqlException -> new DataAccessException("Error executing batch SQL UPDATE: " + sqlException.getMessage(), sqlException));
             }
@@ -1417,6 +1980,22 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
 
     }
 
+    /**
+     * Reads the total count of the window count query from the last column of the first row.
+     */
+    private static final class WindowCountReader {
+
+        private boolean enabled;
+        @Nullable
+        private Long totalCount;
+
+        void read(ResultSet rs) throws SQLException {
+            if (totalCount == null) {
+                totalCount = rs.getLong(rs.getMetaData().getColumnCount());
+            }
+        }
+    }
+
     private static final class ConnectionContext {
 
         private final Connection connection;
@@ -0,0 +1,12 @@
+package io.micronaut.data.jdbc.h2
+
+class H2AsyncExecutorRepositorySpec extends H2AsyncRepositorySpec {
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'datasources.default.async-executor'         : "io",
+                'datasources.default.async-concurrency-limit': "2"
+        ]
+    }
+}
@@ -0,0 +1,117 @@
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.event.PostPersist
+import io.micronaut.data.annotation.event.PrePersist
+import io.micronaut.data.jdbc.annotation.BatchSize
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class H2BatchSizeSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties() + ['datasources.default.batch-size': '10'])
+
+    @Shared
+    BatchItemRepository batchItemRepository = applicationContext.getBean(BatchItemRepository)
+
+    @Shared
+    SmallBatchItemRepository smallBatchItemRepository = applicationContext.getBean(SmallBatchItemRepository)
+
+    void cleanup() {
+        batchItemRepository.deleteAll()
+        BatchItem.EVENTS.clear()
+    }
+
+    void "test the entities are written in batches of the configured size"() {
+        when:
+            def saved = batchItemRepository.saveAll(lazyItems(25))
+        then:
+            saved.size() == 25
+            saved*.id.every { it != null }
+            saved*.id.toSet().size() == 25
+            batchItemRepository.count() == 25
+        and:"every batch is written before the next one is produced"
+            BatchItem.EVENTS.indexOf("post item 9") < BatchItem.EVENTS.indexOf("produce item 10")
+            BatchItem.EVENTS.indexOf("produce item 10") < BatchItem.EVENTS.indexOf("pre item 10")
+            BatchItem.EVENTS.indexOf("post item 19") < BatchItem.EVENTS.indexOf("produce item 20")
+            BatchItem.EVENTS.indexOf("produce item 24") < BatchItem.EVENTS.indexOf("post item 20")
+
+        when:
+            saved.each { it.name = it.name.toUpperCase() }
+            def updated = batchItemRepository.updateAll(saved)
+        then:
+            updated.size() == 25
+            batchItemRepository.findAll()*.name.every { it.startsWith("ITEM") }
+
+        when:
+            batchItemRepository.deleteAll(saved.subList(0, 15))
+        then:
+            batchItemRepository.count() == 10
+    }
+
+    void "test the batch size can be overridden by the method"() {
+        when:
+            def saved = smallBatchItemRepository.saveAll(lazyItems(7))
+        then:
+            saved*.id.toSet().size() == 7
+            BatchItem.EVENTS.indexOf("post item 2") < BatchItem.EVENTS.indexOf("produce item 3")
+            BatchItem.EVENTS.indexOf("produce item 5") < BatchItem.EVENTS.indexOf("pre item 3")
+    }
+
+    private static Iterable<BatchItem> lazyItems(int count) {
+        return {
+            def index = 0
+            [
+                    hasNext: { index < count },
+                    next   : {
+                        def name = "item " + index++
+                        BatchItem.EVENTS.add("produce " + name)
+                        new BatchItem(name: name)
+                    }
+            ] as Iterator<BatchItem>
+        } as Iterable<BatchItem>
+    }
+}
+
+@MappedEntity
+class BatchItem {
+
+    static final List<String> EVENTS = []
+
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+
+    @PrePersist
+    void prePersist() {
+        EVENTS.add("pre " + name)
+    }
+
+    @PostPersist
+    void postPersist() {
+        EVENTS.add("post " + name)
+    }
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface BatchItemRepository extends CrudRepository<BatchItem, Long> {
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface SmallBatchItemRepository extends CrudRepository<BatchItem, Long> {
+
+    @Override
+    @BatchSize(3)
+    <S extends BatchItem> List<S> saveAll(@NonNull Iterable<S> entities)
+}
@@ -0,0 +1,156 @@
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.CachedEntity
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.jdbc.runtime.JdbcOperations
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.model.runtime.RuntimePersistentEntity
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.data.runtime.cache.DefaultEntityCacheStore
+import io.micronaut.transaction.TransactionOperations
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.sql.Connection
+
+class H2CachedEntitySpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    CachedCurrencyRepository currencyRepository = applicationContext.getBean(CachedCurrencyRepository)
+
+    @Shared
+    JdbcOperations jdbcOperations = applicationContext.getBean(JdbcOperations)
+
+    @Shared
+    TransactionOperations<Connection> transactionOperations = applicationContext.getBean(TransactionOperations)
+
+    void cleanup() {
+        currencyRepository.deleteAll()
+    }
+
+    void "test the entity read by ID is cached"() {
+        given:
+            currencyRepository.save(new CachedCurrency(code: "EUR", name: "Euro"))
+        when:
+            def currency = currencyRepository.findById("EUR").get()
+            updateNameBypassingRepository("EUR", "Changed")
+        then:
+            currency.name == "Euro"
+            currencyRepository.findById("EUR").get().name == "Euro"
+            currencyRepository.findAll()[0].name == "Changed"
+    }
+
+    void "test the cached entity is copied"() {
+        given:
+            currencyRepository.save(new CachedCurrency(code: "GBP", name: "Pound"))
+            def currency = currencyRepository.findById("GBP").get()
+        when:
+            currency.name = "Modified"
+            def cached = currencyRepository.findById("GBP").get()
+        then:
+            !cached.is(currency)
+            cached.name == "Pound"
+        when:
+            cached.name = "Modified again"
+        then:
+            currencyRepository.findById("GBP").get().name == "Pound"
+    }
+
+    void "test the entities are cached by the data source and the scope"() {
+        given:
+            def store = new DefaultEntityCacheStore()
+            def entity = new RuntimePersistentEntity<>(CachedCurrency)
+        when:
+            store.put("default", "tenant_a", entity, "EUR", new CachedCurrency(code: "EUR", name: "Euro"), store.getGeneration("default", entity))
+        then:
+            store.get("default", "tenant_a", entity, "EUR").name == "Euro"
+            store.get("default", "tenant_b", entity, "EUR") == null
+            store.get("default", null, entity, "EUR") == null
+            store.get("other", "tenant_a", entity, "EUR") == null
+        when:
+            store.invalidateAll("other", entity)
+        then:
+            store.get("default", "tenant_a", entity, "EUR") != null
+    }
+
+    void "test the entity read before the invalidation is not cached"() {
+        given:
+            def store = new DefaultEntityCacheStore()
+            def entity = new RuntimePersistentEntity<>(CachedCurrency)
+            def generation = store.getGeneration("default", entity)
+        when:"the entity is invalidated after it was read and before it is cached"
+            store.invalidate("default", null, entity, "EUR")
+            store.put("default", null, entity, "EUR", new CachedCurrency(code: "EUR", name: "Stale"), generation)
+        then:
+            store.get("default", null, entity, "EUR") == null
+        when:
+            store.put("default", null, entity, "EUR", new CachedCurrency(code: "EUR", name: "Euro"), store.getGeneration("default", entity))
+        then:
+            store.get("default", null, entity, "EUR").name == "Euro"
+    }
+
+    void "test the cached entity is invalidated by the update and the delete"() {
+        given:
+            currencyRepository.save(new CachedCurrency(code: "USD", name: "Dollar"))
+            def currency = currencyRepository.findById("USD").get()
+        when:
+            currency.name = "US Dollar"
+            currencyRepository.update(currency)
+        then:
+            currencyRepository.findById("USD").get().name == "US Dollar"
+        when:
+            currencyRepository.update("USD", "American Dollar")
+        then:
+            currencyRepository.findById("USD").get().name == "American Dollar"
+        when:
+            currencyRepository.deleteById("USD")
+        then:
+            !currencyRepository.findById("USD").isPresent()
+    }
+
+    void "test the entity read in a transaction is cached after the commit"() {
+        given:
+            currencyRepository.save(new CachedCurrency(code: "CHF", name: "Franc"))
+        when:
+            transactionOperations.executeWrite {
+                def currency = currencyRepository.findById("CHF").get()
+                currency.name = "Swiss Franc"
+                currencyRepository.update(currency)
+                assert currencyRepository.findById("CHF").get().name == "Swiss Franc"
+                it.setRollbackOnly()
+            }
+        then:
+            currencyRepository.findById("CHF").get().name == "Franc"
+    }
+
+    private void updateNameBypassingRepository(String code, String name) {
+        jdbcOperations.execute { connection ->
+            def statement = connection.prepareStatement("UPDATE cached_currency SET name = ? WHERE code = ?")
+            statement.setString(1, name)
+            statement.setString(2, code)
+            statement.executeUpdate()
+        }
+    }
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface CachedCurrencyRepository extends CrudRepository<CachedCurrency, String> {
+
+    void update(@Id String code, String name)
+}
+
+@CachedEntity(maximumSize = 10, expireAfterWrite = "PT10M")
+@MappedEntity
+class CachedCurrency {
+    @Id
+    String code
+    String name
+}
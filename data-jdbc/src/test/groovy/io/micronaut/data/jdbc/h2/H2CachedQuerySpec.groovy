@@ -0,0 +1,143 @@
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.CachedQuery
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.jdbc.runtime.JdbcOperations
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.data.runtime.cache.QueryResultCache
+import io.micronaut.transaction.TransactionOperations
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.sql.Connection
+
+class H2CachedQuerySpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    FeatureFlagRepository featureFlagRepository = applicationContext.getBean(FeatureFlagRepository)
+
+    @Shared
+    QueryResultCache queryResultCache = applicationContext.getBean(QueryResultCache)
+
+    @Shared
+    JdbcOperations jdbcOperations = applicationContext.getBean(JdbcOperations)
+
+    @Shared
+    TransactionOperations<Connection> transactionOperations = applicationContext.getBean(TransactionOperations)
+
+    void cleanup() {
+        featureFlagRepository.deleteAll()
+    }
+
+    void "test the query results are cached by the parameters"() {
+        given:
+            featureFlagRepository.save(new FeatureFlag(name: "search", enabled: true))
+            featureFlagRepository.save(new FeatureFlag(name: "export", enabled: false))
+            def hits = queryResultCache.hitCount
+            def misses = queryResultCache.missCount
+        when:
+            def enabled = featureFlagRepository.findByEnabled(true)
+            disableBypassingRepository("search")
+        then:
+            enabled*.name == ["search"]
+            featureFlagRepository.findByEnabled(true)*.name == ["search"]
+            featureFlagRepository.findByEnabled(false)*.name == ["export"]
+            !featureFlagRepository.findOneByName("export").enabled
+            !featureFlagRepository.findOneByName("export").enabled
+            queryResultCache.hitCount - hits == 2
+            queryResultCache.missCount - misses == 3
+    }
+
+    void "test the cached query results are copied"() {
+        given:
+            featureFlagRepository.save(new FeatureFlag(name: "search", enabled: true))
+            def flags = featureFlagRepository.findByEnabled(true)
+            def flag = featureFlagRepository.findOneByName("search")
+        when:
+            flags[0].name = "modified"
+            flag.enabled = false
+            def cachedFlags = featureFlagRepository.findByEnabled(true)
+            def cachedFlag = featureFlagRepository.findOneByName("search")
+        then:
+            !cachedFlags[0].is(flags[0])
+            cachedFlags*.name == ["search"]
+            !cachedFlag.is(flag)
+            cachedFlag.enabled
+        when:
+            cachedFlags[0].name = "modified"
+        then:
+            featureFlagRepository.findByEnabled(true)*.name == ["search"]
+    }
+
+    void "test the query results are invalidated by the writes"() {
+        given:
+            def flag = featureFlagRepository.save(new FeatureFlag(name: "search", enabled: true))
+        expect:
+            featureFlagRepository.findByEnabled(true)*.name == ["search"]
+        when:
+            featureFlagRepository.save(new FeatureFlag(name: "export", enabled: true))
+        then:
+            featureFlagRepository.findByEnabled(true)*.name.sort() == ["export", "search"]
+        when:
+            flag.enabled = false
+            featureFlagRepository.update(flag)
+        then:
+            featureFlagRepository.findByEnabled(true)*.name == ["export"]
+            !featureFlagRepository.findOneByName("search").enabled
+        when:
+            featureFlagRepository.deleteAll()
+        then:
+            featureFlagRepository.findByEnabled(true).isEmpty()
+            featureFlagRepository.findOneByName("search") == null
+    }
+
+    void "test the query results read in a rolled back transaction are not cached"() {
+        given:
+            featureFlagRepository.save(new FeatureFlag(name: "search", enabled: true))
+        when:
+            transactionOperations.executeWrite {
+                featureFlagRepository.save(new FeatureFlag(name: "export", enabled: true))
+                assert featureFlagRepository.findByEnabled(true).size() == 2
+                it.setRollbackOnly()
+            }
+        then:
+            featureFlagRepository.findByEnabled(true)*.name == ["search"]
+    }
+
+    private void disableBypassingRepository(String name) {
+        jdbcOperations.execute { connection ->
+            def statement = connection.prepareStatement("UPDATE feature_flag SET enabled = FALSE WHERE name = ?")
+            statement.setString(1, name)
+            statement.executeUpdate()
+        }
+    }
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface FeatureFlagRepository extends CrudRepository<FeatureFlag, Long> {
+
+    @CachedQuery
+    List<FeatureFlag> findByEnabled(boolean enabled)
+
+    @CachedQuery(maximumSize = 10, expireAfterWrite = "PT1M")
+    FeatureFlag findOneByName(String name)
+}
+
+@MappedEntity
+class FeatureFlag {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    boolean enabled
+}
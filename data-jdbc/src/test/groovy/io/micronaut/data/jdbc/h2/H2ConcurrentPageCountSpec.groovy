@@ -0,0 +1,141 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.jdbc.operations.JdbcRepositoryOperations
+import io.micronaut.data.model.Page
+import io.micronaut.data.model.Pageable
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.GenericRepository
+import io.micronaut.data.repository.PageableRepository
+import io.micronaut.data.runtime.operations.internal.ConcurrentPageCountOperations
+import io.micronaut.transaction.TransactionOperations
+import reactor.core.publisher.Mono
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.sql.Connection
+import java.util.concurrent.CompletableFuture
+
+class H2ConcurrentPageCountSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties() + ['datasources.default.concurrent-page-count': 'true'])
+
+    @Shared
+    CountItemRepository countItemRepository = applicationContext.getBean(CountItemRepository)
+
+    @Shared
+    CountItemAsyncRepository countItemAsyncRepository = applicationContext.getBean(CountItemAsyncRepository)
+
+    @Shared
+    CountItemReactiveRepository countItemReactiveRepository = applicationContext.getBean(CountItemReactiveRepository)
+
+    @Shared
+    TransactionOperations<Connection> transactionOperations = applicationContext.getBean(TransactionOperations)
+
+    @AutoCleanup
+    QueryLogCapture queryLog = new QueryLogCapture()
+
+    void setupSpec() {
+        countItemRepository.saveAll((0..<25).collect { new CountItem(name: "item " + it, category: it % 2 == 0 ? "even" : "odd") })
+    }
+
+    void "test the count query is executed concurrently outside of a transaction"() {
+        given:
+            def operations = (ConcurrentPageCountOperations) applicationContext.getBean(JdbcRepositoryOperations)
+        expect:
+            operations.concurrentPageCount
+            !transactionOperations.executeRead { operations.concurrentPageCount }
+    }
+
+    void "test the count query is executed by a different thread than the page query"() {
+        when:
+            Page<CountItem> page = countItemRepository.findByCategory("odd", Pageable.from(0, 5))
+        then:
+            page.totalSize == 12
+            queryLog.threadNames('SELECT COUNT(').size() == 1
+            !queryLog.threadNames('SELECT COUNT(').contains(Thread.currentThread().name)
+            queryLog.threadNames('LIMIT') == [Thread.currentThread().name] as Set
+
+        when:"the page is read in a transaction"
+            queryLog.clear()
+            page = transactionOperations.executeRead { countItemRepository.findByCategory("odd", Pageable.from(0, 5)) }
+        then:"the count is executed by the connection of the transaction"
+            page.totalSize == 12
+            queryLog.threadNames('SELECT COUNT(') == [Thread.currentThread().name] as Set
+    }
+
+    void "test the page of the concurrent count"() {
+        when:
+            Page<CountItem> page = countItemRepository.findByCategory("odd", Pageable.from(1, 5))
+        then:
+            page.content.size() == 5
+            page.totalSize == 12
+
+        when:
+            page = countItemAsyncRepository.findByCategory("even", Pageable.from(0, 5)).get()
+        then:
+            page.content.size() == 5
+            page.totalSize == 13
+
+        when:
+            page = countItemReactiveRepository.findByCategory("odd", Pageable.from(2, 5)).block()
+        then:
+            page.content.size() == 2
+            page.totalSize == 12
+
+        when:
+            page = transactionOperations.executeRead { countItemRepository.findByCategory("even", Pageable.from(0, 10)) }
+        then:
+            page.content.size() == 10
+            page.totalSize == 13
+    }
+}
+
+@MappedEntity
+class CountItem {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    String category
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface CountItemRepository extends PageableRepository<CountItem, Long> {
+
+    Page<CountItem> findByCategory(String category, Pageable pageable)
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface CountItemAsyncRepository extends GenericRepository<CountItem, Long> {
+
+    CompletableFuture<Page<CountItem>> findByCategory(String category, Pageable pageable)
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface CountItemReactiveRepository extends GenericRepository<CountItem, Long> {
+
+    Mono<Page<CountItem>> findByCategory(String category, Pageable pageable)
+}
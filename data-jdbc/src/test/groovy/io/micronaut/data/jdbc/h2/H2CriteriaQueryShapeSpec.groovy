@@ -0,0 +1,180 @@
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.annotation.AnnotationMetadata
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.jpa.criteria.PersistentEntityCriteriaQuery
+import io.micronaut.data.model.jpa.criteria.PersistentEntityRoot
+import io.micronaut.data.model.jpa.criteria.impl.CriteriaQueryShape
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.data.repository.jpa.JpaSpecificationExecutor
+import io.micronaut.data.repository.jpa.criteria.PredicateSpecification
+import io.micronaut.data.runtime.criteria.RuntimeCriteriaBuilder
+import io.micronaut.data.runtime.intercept.criteria.CriteriaQueryResultCache
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class H2CriteriaQueryShapeSpec extends Specification implements H2TestPropertyProvider {
+
+    @Override
+    Map<String, String> getProperties() {
+        return H2TestPropertyProvider.super.getProperties() + [(CriteriaQueryResultCache.MAX_QUERY_SHAPES_PROPERTY): "2"]
+    }
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    ShapedProductRepository shapedProductRepository = applicationContext.getBean(ShapedProductRepository)
+
+    @Shared
+    RuntimeCriteriaBuilder criteriaBuilder = applicationContext.getBean(RuntimeCriteriaBuilder)
+
+    void cleanup() {
+        shapedProductRepository.deleteAll()
+    }
+
+    void "test the criteria of the same shape are found with the new values"() {
+        given:
+            shapedProductRepository.saveAll([
+                    new ShapedProduct(name: "apple", price: 10),
+                    new ShapedProduct(name: "pear", price: 20),
+                    new ShapedProduct(name: "plum", price: 30)
+            ])
+        expect:
+            shapedProductRepository.findAll(priceBetween(5, 15))*.name == ["apple"]
+            shapedProductRepository.findAll(priceBetween(15, 35))*.name.sort() == ["pear", "plum"]
+            shapedProductRepository.findAll(priceBetween(25, 35))*.name == ["plum"]
+            shapedProductRepository.findAll(nameIn(["apple", "plum"]))*.name.sort() == ["apple", "plum"]
+            shapedProductRepository.findAll(nameIn(["pear", "plum"]))*.name.sort() == ["pear", "plum"]
+            shapedProductRepository.findAll(nameIn(["pear"]))*.name == ["pear"]
+            shapedProductRepository.count(priceBetween(5, 25)) == 2
+            shapedProductRepository.count(priceBetween(25, 35)) == 1
+    }
+
+    void "test the shape ignores the parameter values"() {
+        when:
+            def shape1 = CriteriaQueryShape.of(findByPriceBetween(5, 15))
+            def shape2 = CriteriaQueryShape.of(findByPriceBetween(25, 35))
+            def shape3 = CriteriaQueryShape.of(findByNameIn(["apple", "plum"]))
+            def shape4 = CriteriaQueryShape.of(findByNameIn(["apple"]))
+        then:
+            shape1.key == shape2.key
+            shape1.parameterValues == [5, 15]
+            shape2.parameterValues == [25, 35]
+            shape1.key != shape3.key
+            shape3.key != shape4.key
+    }
+
+    void "test the cached query is bound to the new values"() {
+        given:
+            def cache = new CriteriaQueryResultCache()
+            def queryBuilder = new SqlQueryBuilder(Dialect.H2)
+        when:
+            def queryResult1 = cache.buildQuery(findByPriceBetween(5, 15), AnnotationMetadata.EMPTY_METADATA, queryBuilder)
+            def queryResult2 = cache.buildQuery(findByPriceBetween(25, 35), AnnotationMetadata.EMPTY_METADATA, queryBuilder)
+        then:
+            queryResult1.query == queryResult2.query
+            queryResult1.parameterBindings*.value == [5, 15]
+            queryResult2.parameterBindings*.value == [25, 35]
+            queryResult2.parameterBindings*.key == queryResult1.parameterBindings*.key
+    }
+
+    void "test the query with indistinguishable values is not cached"() {
+        given:
+            def cache = new CriteriaQueryResultCache()
+            def queryBuilder = new SqlQueryBuilder(Dialect.H2)
+            def price = 10
+        when:
+            cache.buildQuery(findByPriceBetween(price, price), AnnotationMetadata.EMPTY_METADATA, queryBuilder)
+            def queryResult = cache.buildQuery(findByPriceBetween(5, 15), AnnotationMetadata.EMPTY_METADATA, queryBuilder)
+        then:
+            queryResult.parameterBindings*.value == [5, 15]
+    }
+
+    void "test the cache past the capacity evicts the least recently used shapes"() {
+        given:
+            def cache = new CriteriaQueryResultCache(3)
+            def queryBuilder = new SqlQueryBuilder(Dialect.H2)
+        when:"more shapes than the capacity are built"
+            def queries = (1..10).collect { size ->
+                cache.buildQuery(findByNameIn((1..size).collect { "name" + it }), AnnotationMetadata.EMPTY_METADATA, queryBuilder)
+            }
+        then:
+            cache.size() == 3
+            queries*.query.unique().size() == 10
+
+        when:"an evicted shape is built again"
+            def queryResult = cache.buildQuery(findByNameIn(["a"]), AnnotationMetadata.EMPTY_METADATA, queryBuilder)
+        then:"the query is rebuilt with the new values"
+            cache.size() == 3
+            queryResult.query == queries[0].query
+            queryResult.parameterBindings*.value == ["a"]
+    }
+
+    void "test the shapes past the configured capacity are found with the new values"() {
+        given:
+            shapedProductRepository.saveAll([
+                    new ShapedProduct(name: "apple", price: 10),
+                    new ShapedProduct(name: "pear", price: 20),
+                    new ShapedProduct(name: "plum", price: 30)
+            ])
+            def names = ["apple", "pear", "plum", "fig", "kiwi"]
+        expect:
+            (1..5).every { size ->
+                shapedProductRepository.findAll(nameIn(names.take(size)))*.name.sort() == names.take(Math.min(size, 3)).sort()
+            }
+            shapedProductRepository.findAll(nameIn(["plum"]))*.name == ["plum"]
+            shapedProductRepository.findAll(nameIn(["pear", "plum"]))*.name.sort() == ["pear", "plum"]
+            shapedProductRepository.findAll(priceBetween(15, 35))*.name.sort() == ["pear", "plum"]
+    }
+
+    void "test the capacity of the cache must be positive"() {
+        when:
+            new CriteriaQueryResultCache(0)
+        then:
+            thrown(IllegalArgumentException)
+    }
+
+    private PersistentEntityCriteriaQuery<ShapedProduct> findByPriceBetween(Integer from, Integer to) {
+        def query = criteriaBuilder.createQuery(ShapedProduct)
+        def root = query.from(ShapedProduct)
+        query.where(priceBetween(from, to).toPredicate(root, criteriaBuilder))
+        return query
+    }
+
+    private PersistentEntityCriteriaQuery<ShapedProduct> findByNameIn(List<String> names) {
+        def query = criteriaBuilder.createQuery(ShapedProduct)
+        def root = query.from(ShapedProduct)
+        query.where(nameIn(names).toPredicate(root, criteriaBuilder))
+        return query
+    }
+
+    private static PredicateSpecification<ShapedProduct> priceBetween(Integer from, Integer to) {
+        return (root, criteriaBuilder) -> criteriaBuilder.between(((PersistentEntityRoot<ShapedProduct>) root).<Integer> get("price"), from, to)
+    }
+
+    private static PredicateSpecification<ShapedProduct> nameIn(List<String> names) {
+        return (root, criteriaBuilder) -> root.get("name").in(names)
+    }
+}
+
+@MappedEntity
+class ShapedProduct {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    Integer price
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface ShapedProductRepository extends CrudRepository<ShapedProduct, Long>, JpaSpecificationExecutor<ShapedProduct> {
+}
@@ -0,0 +1,101 @@
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.core.annotation.AnnotationMetadata
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.model.PersistentEntity
+import io.micronaut.data.model.Sort
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder2
+import spock.lang.Specification
+
+class H2CursorPredicateSpec extends Specification {
+
+    void "test build the row value cursor predicate"() {
+        given:
+            def cursorParameters = []
+        when:
+            def predicate = buildCursorPredicate(Dialect.H2, [Sort.Order.asc("name"), Sort.Order.asc("id")], cursorParameters)
+        then:
+            predicate == '(name,id) > (?,?)'
+            cursorParameters == [0, 1]
+
+        when:
+            cursorParameters.clear()
+            predicate = buildCursorPredicate(Dialect.POSTGRES, [Sort.Order.desc("name"), Sort.Order.desc("id")], cursorParameters)
+        then:
+            predicate == '(name,id) < (?,?)'
+            cursorParameters == [0, 1]
+    }
+
+    void "test build the expanded cursor predicate"() {
+        given:
+            def cursorParameters = []
+        when:"the directions are mixed"
+            def predicate = buildCursorPredicate(Dialect.H2, [Sort.Order.desc("age"), Sort.Order.asc("name"), Sort.Order.asc("id")], cursorParameters)
+        then:
+            predicate == '(age < ?) OR (age = ? AND name > ?) OR (age = ? AND name = ? AND id > ?)'
+            cursorParameters == [0, 0, 1, 0, 1, 2]
+
+        when:"the dialect doesn't support the row value comparison"
+            cursorParameters.clear()
+            predicate = buildCursorPredicate(Dialect.ORACLE, [Sort.Order.asc("name"), Sort.Order.asc("id")], cursorParameters)
+        then:
+            predicate == '(name > ?) OR (name = ? AND id > ?)'
+            cursorParameters == [0, 0, 1]
+    }
+
+    void "test add the predicate to the WHERE clause"() {
+        given:
+            def builder = new SqlQueryBuilder2(Dialect.H2)
+        expect:
+            builder.buildQueryWithPredicate('SELECT item_."id" FROM "item" item_', 'item_."id" > ?') ==
+                    'SELECT item_."id" FROM "item" item_ WHERE (item_."id" > ?)'
+            builder.buildQueryWithPredicate('SELECT item_."id" FROM "item" item_ WHERE item_."a" = ? OR item_."b" = ?', 'item_."id" > ?') ==
+                    'SELECT item_."id" FROM "item" item_ WHERE (item_."a" = ? OR item_."b" = ?) AND (item_."id" > ?)'
+            builder.buildQueryWithPredicate('SELECT item_."id" FROM "item" item_ WHERE item_."id" IN (SELECT o_."id" FROM "other" o_ WHERE o_."name" = \'a GROUP BY b\') FOR UPDATE', 'item_."id" > ?') ==
+                    'SELECT item_."id" FROM "item" item_ WHERE (item_."id" IN (SELECT o_."id" FROM "other" o_ WHERE o_."name" = \'a GROUP BY b\')) AND (item_."id" > ?) FOR UPDATE'
+            builder.buildQueryWithPredicate('SELECT item_."name" FROM "item" item_ GROUP BY item_."name"', 'item_."name" > ?') ==
+                    'SELECT item_."name" FROM "item" item_ WHERE (item_."name" > ?) GROUP BY item_."name"'
+    }
+
+    void "test add the predicate to the unclosed nested query"() {
+        given:
+            def builder = new SqlQueryBuilder2(Dialect.H2)
+        expect:"the part of the expanded query template ends inside the pagination subquery"
+            builder.buildQueryWithPredicate('SELECT a_."id" FROM "author" a_ WHERE a_."id" IN (SELECT a1_."id" FROM "author" a1_ INNER JOIN "book" b_ ON a1_."id" = b_."author_id" WHERE (b_."total_pages" = ?)', 'a1_."id" > ?') ==
+                    'SELECT a_."id" FROM "author" a_ WHERE a_."id" IN (SELECT a1_."id" FROM "author" a1_ INNER JOIN "book" b_ ON a1_."id" = b_."author_id" WHERE ((b_."total_pages" = ?)) AND (a1_."id" > ?)'
+            builder.buildQueryWithPredicate('SELECT a_."id" FROM "author" a_ WHERE a_."id" IN (SELECT a1_."id" FROM "author" a1_ WHERE a1_."name" = \'(\'', 'a1_."id" > ?') ==
+                    'SELECT a_."id" FROM "author" a_ WHERE a_."id" IN (SELECT a1_."id" FROM "author" a1_ WHERE (a1_."name" = \'(\') AND (a1_."id" > ?)'
+    }
+
+    void "test the predicate cannot be added before the parameters"() {
+        when:
+            new SqlQueryBuilder2(Dialect.H2).buildQueryWithPredicate('SELECT item_."name" FROM "item" item_ GROUP BY item_."name" HAVING COUNT(*) > ?', 'item_."name" > ?')
+        then:
+            thrown(IllegalArgumentException)
+    }
+
+    private static String buildCursorPredicate(Dialect dialect, List<Sort.Order> orders, List<Integer> cursorParameters) {
+        return new SqlQueryBuilder2(dialect).buildCursorPredicate(
+                PersistentEntity.of(CursorItem),
+                AnnotationMetadata.EMPTY_METADATA,
+                true,
+                null,
+                'SELECT * FROM cursor_item',
+                orders,
+                1,
+                { cursorParameters.add(it) }
+        )
+    }
+}
+
+@MappedEntity
+class CursorItem {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    Integer age
+}
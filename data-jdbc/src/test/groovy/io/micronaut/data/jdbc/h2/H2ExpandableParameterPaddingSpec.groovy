@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.tck.entities.Book
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest
+@H2DBProperties
+@Property(name = "datasources.default.expandable-parameter-padding", value = "true")
+class H2ExpandableParameterPaddingSpec extends Specification {
+
+    @Inject
+    H2BookRepository bookRepository
+
+    void cleanup() {
+        bookRepository.deleteAll()
+    }
+
+    void "test padded IN list matches the same rows"() {
+        given:
+        def books = bookRepository.saveAll((1..6).collect { new Book(title: "Book " + it, totalPages: it) })
+        def ids = books*.id
+
+        when:
+        bookRepository.updateByIdInList(ids.subList(0, size), "Updated")
+
+        then:
+        bookRepository.findAll().findAll { it.title == "Updated" }*.id.toSet() == ids.subList(0, size).toSet()
+
+        where:
+        size << [1, 2, 3, 5]
+    }
+}
@@ -0,0 +1,77 @@
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.jdbc.annotation.FetchSize
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.jdbc.config.DataJdbcConfiguration
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.stream.Collectors
+import java.util.stream.Stream
+
+class H2FetchSizeSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties() + ['datasources.default.fetch-size': '5'])
+
+    @Shared
+    FetchItemRepository fetchItemRepository = applicationContext.getBean(FetchItemRepository)
+
+    void setupSpec() {
+        fetchItemRepository.saveAll((0..<50).collect { new FetchItem(name: "item " + it) })
+    }
+
+    void "test the fetch size is configured"() {
+        given:
+            def configuration = applicationContext.getBean(DataJdbcConfiguration)
+        expect:
+            configuration.fetchSize == 5
+            configuration.streamFetchSize == DataJdbcConfiguration.DEFAULT_STREAM_FETCH_SIZE
+    }
+
+    void "test the queries with the fetch size read all the rows"() {
+        expect:
+            fetchItemRepository.findAll().size() == 50
+            fetchItemRepository.findByNameLike("item 1%").size() == 11
+        and:
+            fetchItemRepository.streamAll().withCloseable { it.count() } == 50
+            fetchItemRepository.queryByNameLike("item 2%").withCloseable { it.collect(Collectors.toList()) }.size() == 11
+    }
+
+    void "test the stream can be read in parts"() {
+        when:
+            def names = fetchItemRepository.queryByNameLike("item %").withCloseable { it.limit(3).map { it.name }.toList() }
+        then:
+            names.size() == 3
+        and:"the connection is released"
+            fetchItemRepository.count() == 50
+    }
+}
+
+@MappedEntity
+class FetchItem {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface FetchItemRepository extends CrudRepository<FetchItem, Long> {
+
+    @FetchSize(2)
+    List<FetchItem> findByNameLike(String name)
+
+    @FetchSize(7)
+    Stream<FetchItem> queryByNameLike(String name)
+
+    Stream<FetchItem> streamAll()
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.data.tck.entities.Author
+import io.micronaut.data.tck.entities.Book
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.transaction.TransactionOperations
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import java.sql.Connection
+import java.util.stream.Collectors
+
+@MicronautTest
+@H2DBProperties
+class H2JoinStreamSpec extends Specification {
+
+    @Inject
+    H2AuthorRepository authorRepository
+
+    @Inject
+    H2BookRepository bookRepository
+
+    @Inject
+    TransactionOperations<Connection> transactionOperations
+
+    void cleanup() {
+        bookRepository.deleteAll()
+        authorRepository.deleteAll()
+    }
+
+    void "test stream of to-many join emits every root entity once"() {
+        given:
+        def king = authorRepository.save(new Author(name: "Stephen King"))
+        def herbert = authorRepository.save(new Author(name: "Frank Herbert"))
+        bookRepository.save(new Book(title: "The Stand", totalPages: 1000, author: king))
+        bookRepository.save(new Book(title: "Dune", totalPages: 600, author: herbert))
+        bookRepository.save(new Book(title: "Pet Cemetery", totalPages: 400, author: king))
+        bookRepository.save(new Book(title: "Dune Messiah", totalPages: 300, author: herbert))
+        bookRepository.save(new Book(title: "The Shining", totalPages: 600, author: king))
+
+        when:
+        def authors = transactionOperations.executeRead {
+            authorRepository.queryByIdIsNotNull().collect(Collectors.toList())
+        }
+
+        then:
+        authors*.name == ["Stephen King", "Frank Herbert"]
+        authors[0].books*.title.toSet() == ["The Stand", "Pet Cemetery", "The Shining"].toSet()
+        authors[1].books*.title.toSet() == ["Dune", "Dune Messiah"].toSet()
+
+        when:
+        def first = transactionOperations.executeRead {
+            try (def stream = authorRepository.queryByIdIsNotNull()) {
+                return stream.findFirst().orElse(null)
+            }
+        }
+
+        then:
+        first.name == "Stephen King"
+        first.books.size() == 3
+    }
+}
@@ -0,0 +1,91 @@
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.Page
+import io.micronaut.data.model.Pageable
+import io.micronaut.data.model.Sort
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder2
+import io.micronaut.data.repository.PageableRepository
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class H2PageWindowCountSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties() + ['datasources.default.page-window-count': 'true'])
+
+    @Shared
+    PageItemRepository pageItemRepository = applicationContext.getBean(PageItemRepository)
+
+    void setupSpec() {
+        pageItemRepository.saveAll((0..<25).collect { new PageItem(name: "item " + it, category: it % 2 == 0 ? "even" : "odd") })
+    }
+
+    void "test the total count of the page is computed by the page query"() {
+        when:
+            Page<PageItem> page = pageItemRepository.findAll(Pageable.from(1, 10, Sort.of(Sort.Order.asc("id"))))
+        then:
+            page.content.size() == 10
+            page.content*.name == (10..<20).collect { "item " + it }
+            page.totalSize == 25
+            page.totalPages == 3
+
+        when:
+            page = pageItemRepository.findByCategory("odd", Pageable.from(0, 5))
+        then:
+            page.content.size() == 5
+            page.content.every { it.category == "odd" }
+            page.totalSize == 12
+    }
+
+    void "test the total count of the empty pages"() {
+        when:"the page is after the last one, the count query is executed"
+            def page = pageItemRepository.findByCategory("even", Pageable.from(5, 10))
+        then:
+            page.content.isEmpty()
+            page.totalSize == 13
+
+        when:
+            page = pageItemRepository.findByCategory("none", Pageable.from(0, 10))
+        then:
+            page.content.isEmpty()
+            page.totalSize == 0
+    }
+
+    void "test build the window count query"() {
+        given:
+            def builder = new SqlQueryBuilder2(Dialect.H2)
+        expect:
+            builder.buildWindowCountQuery('SELECT item_."id",item_."name" FROM "item" item_ WHERE (item_."name" = \'a FROM b\') LIMIT 10') ==
+                    'SELECT item_."id",item_."name",COUNT(*) OVER() AS total_count_ FROM "item" item_ WHERE (item_."name" = \'a FROM b\') LIMIT 10'
+            builder.buildWindowCountQuery('SELECT (SELECT COUNT(*) FROM "other" o_) AS c,item_."id" FROM "item" item_') ==
+                    'SELECT (SELECT COUNT(*) FROM "other" o_) AS c,item_."id",COUNT(*) OVER() AS total_count_ FROM "item" item_'
+            builder.buildWindowCountQuery('SELECT DISTINCT item_."name" FROM "item" item_') == null
+            builder.buildWindowCountQuery('DELETE FROM "item"') == null
+            builder.buildWindowCountQuery('SELECT item_."id" FROM "item" item_ WHERE (item_."name" = ?) FOR UPDATE') == null
+            new SqlQueryBuilder2(Dialect.SQL_SERVER).buildWindowCountQuery('SELECT item_.[id] FROM [item] item_ WITH (UPDLOCK, ROWLOCK) WHERE (item_.[name] = ?)') == null
+            new SqlQueryBuilder2(Dialect.ANSI).buildWindowCountQuery('SELECT item_."id" FROM "item" item_') == null
+    }
+}
+
+@MappedEntity
+class PageItem {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    String category
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface PageItemRepository extends PageableRepository<PageItem, Long> {
+
+    Page<PageItem> findByCategory(String category, Pageable pageable)
+}
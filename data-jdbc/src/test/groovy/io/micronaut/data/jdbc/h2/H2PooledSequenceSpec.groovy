@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.PersistentEntity
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder2
+import io.micronaut.data.repository.CrudRepository
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class H2PooledSequenceSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    PooledItemRepository pooledItemRepository = applicationContext.getBean(PooledItemRepository)
+
+    @Shared
+    PooledPrimitiveItemRepository pooledPrimitiveItemRepository = applicationContext.getBean(PooledPrimitiveItemRepository)
+
+    @AutoCleanup
+    QueryLogCapture queryLog = new QueryLogCapture()
+
+    void "test the identities are allocated by blocks of the sequence"() {
+        when:
+            def saved = pooledItemRepository.saveAll((0..<25).collect { new PooledItem(name: "item " + it) })
+        then:"the sequence is queried once per block"
+            saved*.id == (1L..25L).toList()
+            queryLog.count("NEXT VALUE FOR") == 3
+            pooledItemRepository.count() == 25
+            pooledItemRepository.findById(25L).get().name == "item 24"
+
+        when:"the next entity continues with the allocated block"
+            queryLog.clear()
+            def next = pooledItemRepository.save(new PooledItem(name: "next"))
+        then:
+            next.id == 26L
+            queryLog.count("NEXT VALUE FOR") == 0
+
+        when:"the assigned identity is kept"
+            def assigned = pooledItemRepository.save(new PooledItem(id: 1000L, name: "assigned"))
+        then:
+            assigned.id == 1000L
+            pooledItemRepository.findById(1000L).get().name == "assigned"
+            queryLog.count("NEXT VALUE FOR") == 0
+    }
+
+    void "test the primitive identities are allocated by blocks of the sequence"() {
+        when:
+            def saved = (0..<7).collect { pooledPrimitiveItemRepository.save(new PooledPrimitiveItem(name: "item " + it)) }
+        then:"the default value of the primitive identity is unassigned"
+            saved*.id == (1L..7L).toList()
+            queryLog.count("NEXT VALUE FOR") == 2
+            pooledPrimitiveItemRepository.findById(7L).get().name == "item 6"
+    }
+
+    void "test build pooled sequence query"() {
+        given:
+            def entity = PersistentEntity.of(PooledItem)
+        expect:
+            new SqlQueryBuilder2(Dialect.POSTGRES).buildPooledSequenceQuery(entity) == "SELECT nextval('pooled_item_seq')"
+            new SqlQueryBuilder2(Dialect.ORACLE).buildPooledSequenceQuery(entity) == 'SELECT "POOLED_ITEM_SEQ".nextval FROM DUAL'
+            new SqlQueryBuilder2(Dialect.SQL_SERVER).buildPooledSequenceQuery(entity) == 'SELECT NEXT VALUE FOR [pooled_item_seq]'
+            new SqlQueryBuilder2(Dialect.H2).buildBatchCreateTableStatement(entity).contains('INCREMENT BY 10')
+    }
+}
+
+@MappedEntity
+class PooledItem {
+    @Id
+    @GeneratedValue(value = GeneratedValue.Type.SEQUENCE, allocationSize = 10)
+    Long id
+    String name
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface PooledItemRepository extends CrudRepository<PooledItem, Long> {
+}
+
+@MappedEntity
+class PooledPrimitiveItem {
+    @Id
+    @GeneratedValue(value = GeneratedValue.Type.SEQUENCE, allocationSize = 5)
+    long id
+    String name
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface PooledPrimitiveItemRepository extends CrudRepository<PooledPrimitiveItem, Long> {
+}
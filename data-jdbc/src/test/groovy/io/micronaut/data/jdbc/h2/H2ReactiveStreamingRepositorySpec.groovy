@@ -0,0 +1,21 @@
+package io.micronaut.data.jdbc.h2
+
+class H2ReactiveStreamingRepositorySpec extends H2ReactiveRepositorySpec {
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'datasources.default.reactive-streaming': "true"
+        ]
+    }
+
+    void "test the cancelled stream releases the connection"() {
+        when:
+            def names = (0..<50).collect {
+                personRepository.findAll().take(1).map { it.name }.blockFirst()
+            }
+        then:
+            names.every { it in ["Jeff", "James"] }
+            personRepository.count().block() == 2
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.connection.ConnectionOperations
+import io.micronaut.data.connection.jdbc.advice.DelegatingDataSource
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.transaction.annotation.Transactional
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.sql.DataSource
+import java.sql.Connection
+
+class H2ReadReplicaSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext context = ApplicationContext.run([
+            'datasources.default.url'                  : 'jdbc:h2:mem:primaryDb;DB_CLOSE_ON_EXIT=FALSE',
+            'datasources.default.username'             : '',
+            'datasources.default.password'             : '',
+            'datasources.default.driverClassName'      : 'org.h2.Driver',
+            'datasources.default.dialect'              : 'h2',
+            'datasources.default.schema-generate'      : 'CREATE',
+            'datasources.default.packages'             : 'io.micronaut.data.jdbc.h2',
+            'datasources.default.read-replicas'        : ['replicaOne', 'replicaTwo'],
+            'datasources.replicaOne.url'               : 'jdbc:h2:mem:replicaOneDb;DB_CLOSE_ON_EXIT=FALSE',
+            'datasources.replicaOne.username'          : '',
+            'datasources.replicaOne.password'          : '',
+            'datasources.replicaOne.driverClassName'   : 'org.h2.Driver',
+            'datasources.replicaOne.dialect'           : 'h2',
+            'datasources.replicaOne.schema-generate'   : 'CREATE',
+            'datasources.replicaOne.packages'          : 'io.micronaut.data.jdbc.h2',
+            'datasources.replicaTwo.url'               : 'jdbc:h2:mem:replicaTwoDb;DB_CLOSE_ON_EXIT=FALSE',
+            'datasources.replicaTwo.username'          : '',
+            'datasources.replicaTwo.password'          : '',
+            'datasources.replicaTwo.driverClassName'   : 'org.h2.Driver',
+            'datasources.replicaTwo.dialect'           : 'h2',
+            'datasources.replicaTwo.schema-generate'   : 'CREATE',
+            'datasources.replicaTwo.packages'          : 'io.micronaut.data.jdbc.h2'
+    ])
+
+    @Shared
+    ConnectionOperations<Connection> connectionOperations = context.getBean(ConnectionOperations, Qualifiers.byName("default"))
+
+    @Shared
+    ReplicaItemRepository replicaItemRepository = context.getBean(ReplicaItemRepository)
+
+    void "test read-only connections are opened from the replicas"() {
+        when:
+            def urls = (1..4).collect {
+                connectionOperations.executeRead {
+                    it.connection.metaData.URL
+                }
+            }
+        then:
+            urls.count { it.contains("replicaOneDb") } == 2
+            urls.count { it.contains("replicaTwoDb") } == 2
+    }
+
+    void "test read-write connections are opened from the primary"() {
+        when:
+            def url = connectionOperations.executeWrite {
+                it.connection.metaData.URL
+            }
+        then:
+            url.contains("primaryDb")
+    }
+
+    void "test read-only transactional repository calls are routed to the replicas"() {
+        given:
+            replicaItemRepository.save(new ReplicaItem(name: "primary"))
+            insertReplicaItem("replicaOne")
+            insertReplicaItem("replicaTwo")
+        when:
+            def names = (1..4).collect {
+                replicaItemRepository.findByNameIsNotNull()*.name
+            }.flatten()
+        then:
+            names.count { it == "replicaOne" } == 2
+            names.count { it == "replicaTwo" } == 2
+
+        when:"the repository call without the read-only transaction uses the primary"
+            def primaryNames = replicaItemRepository.findAll()*.name
+        then:
+            primaryNames == ["primary"]
+    }
+
+    private void insertReplicaItem(String dataSourceName) {
+        DataSource dataSource = DelegatingDataSource.unwrapDataSource(context.getBean(DataSource, Qualifiers.byName(dataSourceName)))
+        dataSource.connection.withCloseable {
+            it.createStatement().withCloseable { statement ->
+                statement.executeUpdate("INSERT INTO \"replica_item\" (\"name\") VALUES ('" + dataSourceName + "')")
+            }
+        }
+    }
+}
+
+@MappedEntity
+class ReplicaItem {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface ReplicaItemRepository extends CrudRepository<ReplicaItem, Long> {
+
+    @Transactional(readOnly = true)
+    List<ReplicaItem> findByNameIsNotNull()
+}
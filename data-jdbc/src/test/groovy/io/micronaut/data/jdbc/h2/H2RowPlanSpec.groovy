@@ -0,0 +1,67 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.data.model.Pageable
+import io.micronaut.data.model.Sort
+import io.micronaut.data.tck.entities.Author
+import io.micronaut.data.tck.entities.Book
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest
+@H2DBProperties
+class H2RowPlanSpec extends Specification {
+
+    @Inject
+    H2BookRepository bookRepository
+
+    @Inject
+    H2AuthorRepository authorRepository
+
+    void cleanup() {
+        bookRepository.deleteAll()
+        authorRepository.deleteAll()
+    }
+
+    void "test repeated executions of a joined query are mapped by the row plan"() {
+        given:
+        def king = authorRepository.save(new Author(name: "Stephen King"))
+        def herbert = authorRepository.save(new Author(name: "Frank Herbert"))
+        bookRepository.save(new Book(title: "The Stand", totalPages: 1000, author: king))
+        bookRepository.save(new Book(title: "Pet Cemetery", totalPages: 400, author: king))
+        bookRepository.save(new Book(title: "Dune", totalPages: 600, author: herbert))
+        def pageable = Pageable.from(0, 10, Sort.of(Sort.Order.asc("title")))
+
+        when:
+        def results = (1..3).collect { bookRepository.findByTotalPagesGreaterThan(100, pageable).content }
+
+        then:
+        results.every { it*.title == ["Dune", "Pet Cemetery", "The Stand"] }
+        results.every { it*.totalPages == [600, 400, 1000] }
+        results.every { it*.author*.name == ["Frank Herbert", "Stephen King", "Stephen King"] }
+
+        when:
+        def dune = bookRepository.queryByTitle("Dune")
+        def stand = bookRepository.queryByTitle("The Stand")
+
+        then:
+        dune.author.name == "Frank Herbert"
+        stand.author.name == "Stephen King"
+        stand.totalPages == 1000
+    }
+}
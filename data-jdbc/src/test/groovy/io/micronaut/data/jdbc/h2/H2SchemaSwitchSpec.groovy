@@ -0,0 +1,126 @@
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Replaces
+import io.micronaut.context.annotation.Requires
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.jdbc.operations.JdbcSchemaHandler
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.data.runtime.multitenancy.SchemaTenantResolver
+import io.micronaut.transaction.TransactionOperations
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.sql.Connection
+
+class H2SchemaSwitchSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties() + [
+            'spec.name'                                    : 'H2SchemaSwitchSpec',
+            'datasources.default.schema-generate-names[0]': 'switch_a',
+            'datasources.default.schema-generate-names[1]': 'switch_b'
+    ])
+
+    @Shared
+    SchemaItemRepository schemaItemRepository = applicationContext.getBean(SchemaItemRepository)
+
+    @Shared
+    CountingSchemaHandler schemaHandler = applicationContext.getBean(CountingSchemaHandler)
+
+    @Shared
+    TransactionOperations<Connection> transactionOperations = applicationContext.getBean(TransactionOperations)
+
+    void setup() {
+        SwitchingSchemaTenantResolver.schema = 'switch_a'
+        schemaHandler.switches.clear()
+    }
+
+    void "test the schema is only switched when the tenant of the connection changes"() {
+        when:
+            transactionOperations.executeWrite {
+                schemaItemRepository.save(new SchemaItem(name: 'a'))
+                schemaItemRepository.findAll()
+                SwitchingSchemaTenantResolver.schema = 'switch_b'
+                schemaItemRepository.save(new SchemaItem(name: 'b'))
+                schemaItemRepository.count()
+                SwitchingSchemaTenantResolver.schema = 'switch_a'
+                schemaItemRepository.count()
+            }
+        then:
+            schemaHandler.switches == ['switch_a', 'switch_b', 'switch_a']
+
+        when:"every new connection switches the schema"
+            schemaHandler.switches.clear()
+            def countA = schemaItemRepository.count()
+            SwitchingSchemaTenantResolver.schema = 'switch_b'
+            def countB = schemaItemRepository.count()
+        then:
+            countA == 1
+            countB == 1
+            schemaHandler.switches == ['switch_a', 'switch_b']
+    }
+
+    void "test the schema is switched again after the rollback"() {
+        when:
+            transactionOperations.executeWrite { status ->
+                schemaItemRepository.count()
+                status.setRollbackOnly()
+            }
+            transactionOperations.executeWrite {
+                schemaItemRepository.count()
+            }
+        then:
+            schemaHandler.switches == ['switch_a', 'switch_a']
+    }
+}
+
+@MappedEntity
+class SchemaItem {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface SchemaItemRepository extends CrudRepository<SchemaItem, Long> {
+}
+
+@Singleton
+@Requires(property = 'spec.name', value = 'H2SchemaSwitchSpec')
+class SwitchingSchemaTenantResolver implements SchemaTenantResolver {
+
+    static String schema = 'switch_a'
+
+    @Override
+    String resolveTenantSchemaName() {
+        return schema
+    }
+}
+
+@Singleton
+@Replaces(JdbcSchemaHandler)
+@Requires(property = 'spec.name', value = 'H2SchemaSwitchSpec')
+class CountingSchemaHandler implements JdbcSchemaHandler {
+
+    final List<String> switches = []
+
+    @Override
+    void createSchema(Connection connection, Dialect dialect, String name) {
+        connection.createStatement().withCloseable { it.execute("CREATE SCHEMA IF NOT EXISTS " + name) }
+    }
+
+    @Override
+    void useSchema(Connection connection, Dialect dialect, String name) {
+        switches.add(name)
+        connection.createStatement().withCloseable { it.execute("SET SCHEMA " + name) }
+    }
+}
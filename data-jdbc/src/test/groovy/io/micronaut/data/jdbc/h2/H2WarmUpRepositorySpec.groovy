@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.model.Pageable
+import io.micronaut.data.runtime.intercept.AbstractQueryInterceptor
+import io.micronaut.data.runtime.intercept.DataInterceptorResolver
+import io.micronaut.data.runtime.intercept.RepositoryWarmUp
+
+class H2WarmUpRepositorySpec extends H2RepositorySpec {
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'micronaut.data.warm-up.enabled': "true"
+        ]
+    }
+
+    void "test the repositories are warmed up at the startup"() {
+        expect:
+            context.containsBean(RepositoryWarmUp)
+    }
+
+    void "test the first invocation uses the stored queries resolved at the startup"() {
+        given:
+            def warmUpContext = ApplicationContext.run(getProperties())
+            def resolver = warmUpContext.getBean(DataInterceptorResolver)
+            def repository = warmUpContext.getBean(H2PersonRepository)
+        when:"the queries are resolved by the startup"
+            Map<Object, Object> interceptors = new HashMap<>(getField(DataInterceptorResolver, resolver, "interceptors"))
+            Set<String> methods = interceptors.keySet().collect { getField(it.getClass(), it, "key").method().methodName }.toSet()
+            Map<Object, Object> queries = storedQueries(interceptors.values())
+            Map<Object, Object> countQueries = storedQueries(interceptors.values(), "countQueries")
+        then:
+            methods.containsAll(["findByName", "findByNameLike"])
+            queries.keySet().any { it.method().methodName == "findByName" }
+            countQueries.keySet().any { it.method().methodName == "findByNameLike" }
+
+        when:"the methods are invoked for the first time"
+            repository.findByName("Fred")
+            repository.findByNameLike("F%", Pageable.from(0, 10))
+            Map<Object, Object> interceptorsAfter = getField(DataInterceptorResolver, resolver, "interceptors")
+        then:"the runtime keys are equal to the keys of the startup, no interceptor or stored query is resolved again"
+            interceptorsAfter.size() == interceptors.size()
+            interceptorsAfter.every { key, interceptor -> interceptors[key].is(interceptor) }
+            storedQueries(interceptorsAfter.values()).every { key, storedQuery -> queries[key].is(storedQuery) }
+            storedQueries(interceptorsAfter.values()).size() == queries.size()
+            storedQueries(interceptorsAfter.values(), "countQueries").size() == countQueries.size()
+
+        cleanup:
+            warmUpContext.close()
+    }
+
+    private static Map<Object, Object> storedQueries(Collection<Object> interceptors, String field = "queries") {
+        Map<Object, Object> storedQueries = [:]
+        interceptors.findAll { it instanceof AbstractQueryInterceptor }.toSet().each {
+            storedQueries.putAll(getField(AbstractQueryInterceptor, it, field))
+        }
+        return storedQueries
+    }
+
+    private static <T> T getField(Class<?> type, Object instance, String name) {
+        def field = type.getDeclaredField(name)
+        field.accessible = true
+        return (T) field.get(instance)
+    }
+}
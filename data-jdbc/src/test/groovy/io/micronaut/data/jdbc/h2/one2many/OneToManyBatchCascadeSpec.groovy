@@ -0,0 +1,174 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2.one2many
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.*
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.jdbc.h2.H2DBProperties
+import io.micronaut.data.jdbc.h2.H2TestPropertyProvider
+import io.micronaut.data.jdbc.h2.QueryLogCapture
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+@MicronautTest
+@H2DBProperties
+class OneToManyBatchCascadeSpec extends Specification implements H2TestPropertyProvider {
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    BatchOrderRepository orderRepository = applicationContext.getBean(BatchOrderRepository)
+
+    @Shared
+    BatchCustomerRepository customerRepository = applicationContext.getBean(BatchCustomerRepository)
+
+    @Shared
+    BatchInvoiceRepository invoiceRepository = applicationContext.getBean(BatchInvoiceRepository)
+
+    @Shared
+    BatchImmutableCustomerRepository immutableCustomerRepository = applicationContext.getBean(BatchImmutableCustomerRepository)
+
+    @AutoCleanup
+    QueryLogCapture queryLog = new QueryLogCapture()
+
+    void 'test the children of all the saved entities are cascaded'() {
+        given:
+            def customer = new BatchCustomer(name: "customer")
+            def orders = (0..<3).collect { i ->
+                def order = new BatchOrder(number: "order " + i, customer: customer, lines: [])
+                (0..<3).each { j -> order.lines.add(new BatchOrderLine(product: "product " + i + "-" + j, order: order)) }
+                order
+            }
+        when:
+            orderRepository.saveAll(orders)
+        then:"the shared customer is persisted once"
+            customer.id
+            customerRepository.count() == 1
+            orders.every { it.id && it.customer.is(customer) }
+        and:"the lines of every order are persisted"
+            orders.every { order -> order.lines.size() == 3 && order.lines.every { it.id && it.order.is(order) } }
+            orders.collectMany { it.lines*.id }.toSet().size() == 9
+        and:"every level is inserted by one batch"
+            queryLog.count('INSERT INTO "x_batch_customer"') == 1
+            queryLog.count('INSERT INTO "x_batch_order"') == 1
+            queryLog.count('INSERT INTO "x_batch_order_line"') == 1
+        when:
+            orders = orders.collect { orderRepository.findById(it.id).get() }
+        then:
+            orders.every { order -> order.lines*.product.toSorted() == (0..<3).collect { "product " + order.number.substring(6) + "-" + it } }
+        when:"the lines are updated and new lines are added"
+            orders.each { order ->
+                order.lines.each { it.product = it.product + " mod!" }
+                order.lines.add(new BatchOrderLine(product: "new", order: order))
+            }
+            queryLog.clear()
+            orderRepository.updateAll(orders)
+        then:"the updated lines and the new lines are written by one batch each"
+            queryLog.count('UPDATE "x_batch_order_line"') == 1
+            queryLog.count('INSERT INTO "x_batch_order_line"') == 1
+        when:
+            orders = orders.collect { orderRepository.findById(it.id).get() }
+        then:
+            orders.every { order ->
+                order.lines.size() == 4
+                    && order.lines.count { it.product.endsWith(" mod!") } == 3
+                    && order.lines.count { it.product == "new" } == 1
+            }
+    }
+
+    void 'test the immutable child shared by the saved entities is set to all of them'() {
+        given:
+            def customer = new BatchImmutableCustomer(null, "immutable customer")
+            def invoices = (0..<3).collect { i -> new BatchInvoice(number: "invoice " + i, customer: customer) }
+        when:
+            def saved = invoiceRepository.saveAll(invoices)
+        then:"the shared customer is persisted once"
+            immutableCustomerRepository.count() == 1
+            queryLog.count('INSERT INTO "x_batch_immutable_customer"') == 1
+        and:"every entity references the persisted customer"
+            def customerId = saved[0].customer.id()
+            customerId
+            saved.every { it.customer.id() == customerId }
+            saved.collect { invoiceRepository.findById(it.id).get().customer.id() } == [customerId] * 3
+    }
+
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface BatchOrderRepository extends CrudRepository<BatchOrder, Long> {
+
+    @Join(value = "lines", type = Join.Type.FETCH)
+    @Override
+    Optional<BatchOrder> findById(Long id);
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface BatchCustomerRepository extends CrudRepository<BatchCustomer, Long> {
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface BatchInvoiceRepository extends CrudRepository<BatchInvoice, Long> {
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface BatchImmutableCustomerRepository extends CrudRepository<BatchImmutableCustomer, Long> {
+}
+
+@MappedEntity("x_batch_order")
+class BatchOrder {
+    String number
+    @Relation(value = Relation.Kind.MANY_TO_ONE, cascade = Relation.Cascade.PERSIST)
+    BatchCustomer customer
+    @Relation(value = Relation.Kind.ONE_TO_MANY, mappedBy = "order", cascade = Relation.Cascade.ALL)
+    List<BatchOrderLine> lines
+    @Id
+    @GeneratedValue
+    Long id
+}
+
+@MappedEntity("x_batch_order_line")
+class BatchOrderLine {
+    String product
+    @Relation(value = Relation.Kind.MANY_TO_ONE)
+    BatchOrder order
+    @Id
+    @GeneratedValue
+    Long id
+}
+
+@MappedEntity("x_batch_customer")
+class BatchCustomer {
+    String name
+    @Id
+    @GeneratedValue
+    Long id
+}
+
+@MappedEntity("x_batch_invoice")
+class BatchInvoice {
+    String number
+    @Relation(value = Relation.Kind.MANY_TO_ONE, cascade = Relation.Cascade.PERSIST)
+    BatchImmutableCustomer customer
+    @Id
+    @GeneratedValue
+    Long id
+}
@@ -0,0 +1,67 @@
+package io.micronaut.data.jdbc.mysql
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.PersistentEntity
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder2
+import io.micronaut.data.repository.CrudRepository
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class MySqlMultiRowInsertSpec extends Specification implements MySQLTestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties() + ['datasources.default.multi-row-insert': 'true'])
+
+    @Shared
+    MultiRowItemRepository multiRowItemRepository = applicationContext.getBean(MultiRowItemRepository)
+
+    void cleanup() {
+        multiRowItemRepository.deleteAll()
+    }
+
+    void "test the entities with generated identities are inserted by multi-row inserts"() {
+        given:
+            def items = (0..<2500).collect { new MultiRowItem(name: "item " + it) }
+        when:
+            def saved = multiRowItemRepository.saveAll(items)
+        then:
+            saved.size() == 2500
+            saved*.id.every { it != null }
+            saved*.id.toSet().size() == 2500
+            multiRowItemRepository.count() == 2500
+        and:"the identities are assigned in the order of the entities"
+            saved.every { multiRowItemRepository.findById(it.id).get().name == it.name }
+    }
+
+    void "test build multi-row insert"() {
+        given:
+            def entity = PersistentEntity.of(MultiRowItem)
+        expect:
+            new SqlQueryBuilder2(Dialect.MYSQL).buildMultiRowInsert(entity, 'INSERT INTO `multi_row_item` (`name`) VALUES (?)', 3) ==
+                    'INSERT INTO `multi_row_item` (`name`) VALUES (?),(?),(?)'
+            new SqlQueryBuilder2(Dialect.SQL_SERVER).buildMultiRowInsert(entity, 'INSERT INTO [multi_row_item] ([name],[code]) VALUES (?,LOWER(?))', 2) ==
+                    'INSERT INTO [multi_row_item] ([name],[code]) OUTPUT INSERTED.[id] SELECT v_0,v_1 FROM (VALUES (?,LOWER(?),0),(?,LOWER(?),1)) AS v_(v_0,v_1,p_) ORDER BY p_'
+            new SqlQueryBuilder2(Dialect.ORACLE).buildMultiRowInsert(entity, 'INSERT INTO "MULTI_ROW_ITEM" ("NAME") VALUES (?)', 2) == null
+            new SqlQueryBuilder2(Dialect.SQL_SERVER).getMultiRowInsertSize(3) == 666
+            new SqlQueryBuilder2(Dialect.MYSQL).getMultiRowInsertSize(3) == 1000
+    }
+}
+
+@MappedEntity
+class MultiRowItem {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+}
+
+@JdbcRepository(dialect = Dialect.MYSQL)
+interface MultiRowItemRepository extends CrudRepository<MultiRowItem, Long> {
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.sqlserver
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.jdbc.h2.QueryLogCapture
+import io.micronaut.data.model.PersistentEntity
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder2
+import io.micronaut.data.repository.CrudRepository
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class SqlServerMultiRowInsertSpec extends Specification implements MSSQLTestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties() + ['datasources.default.multi-row-insert': 'true'])
+
+    @Shared
+    SqlServerMultiRowItemRepository multiRowItemRepository = applicationContext.getBean(SqlServerMultiRowItemRepository)
+
+    @AutoCleanup
+    QueryLogCapture queryLog = new QueryLogCapture()
+
+    void cleanup() {
+        multiRowItemRepository.deleteAll()
+    }
+
+    void "test the generated identities returned by OUTPUT INSERTED are assigned in the order of the entities"() {
+        given:
+            def items = (0..<2500).collect { new SqlServerMultiRowItem(name: "item " + it) }
+        when:
+            def saved = multiRowItemRepository.saveAll(items)
+        then:"the entities are inserted by the statements of up to 1000 rows"
+            queryLog.count('OUTPUT INSERTED') == 3
+            saved.size() == 2500
+            saved*.id.every { it != null }
+            saved*.id.toSet().size() == 2500
+            multiRowItemRepository.count() == 2500
+        and:"the identities generated in the order of the rows are ascending"
+            saved*.id == saved*.id.toSorted()
+            saved.every { multiRowItemRepository.findById(it.id).get().name == it.name }
+    }
+
+    void "test build multi-row insert with quoted identifiers and literals in the values"() {
+        given:
+            def entity = PersistentEntity.of(SqlServerMultiRowItem)
+            def builder = new SqlQueryBuilder2(Dialect.SQL_SERVER)
+        expect:
+            builder.buildMultiRowInsert(entity, "INSERT INTO [multi_row_item] ([name],[code]) VALUES (?,[dbo].[to_code,(](?))", 2) ==
+                    "INSERT INTO [multi_row_item] ([name],[code]) OUTPUT INSERTED.[id] SELECT v_0,v_1 FROM (VALUES (?,[dbo].[to_code,(](?),0),(?,[dbo].[to_code,(](?),1)) AS v_(v_0,v_1,p_) ORDER BY p_"
+            builder.buildMultiRowInsert(entity, "INSERT INTO [multi_row_item] ([name],[code]) VALUES (?,\"dbo\".\"to,code\"(?,'a,(b'))", 1) ==
+                    "INSERT INTO [multi_row_item] ([name],[code]) OUTPUT INSERTED.[id] SELECT v_0,v_1 FROM (VALUES (?,\"dbo\".\"to,code\"(?,'a,(b'),0)) AS v_(v_0,v_1,p_) ORDER BY p_"
+            builder.buildMultiRowInsert(entity, "INSERT INTO [multi_row_item] ([name]) VALUES (NEXT VALUE FOR [seq])", 2) == null
+    }
+}
+
+@MappedEntity("multi_row_item")
+class SqlServerMultiRowItem {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+}
+
+@JdbcRepository(dialect = Dialect.SQL_SERVER)
+interface SqlServerMultiRowItemRepository extends CrudRepository<SqlServerMultiRowItem, Long> {
+}
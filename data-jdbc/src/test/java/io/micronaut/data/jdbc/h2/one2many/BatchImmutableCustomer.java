@@ -0,0 +1,12 @@
+package io.micronaut.data.jdbc.h2.one2many;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.annotation.GeneratedValue;
+import io.micronaut.data.annotation.Id;
+import io.micronaut.data.annotation.MappedEntity;
+
+@MappedEntity("x_batch_immutable_customer")
+public record BatchImmutableCustomer(
+        @Id @GeneratedValue @Nullable Long id,
+        @Nullable String name
+){}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables the second-level cache of the entity for the JDBC and R2DBC repositories.
+ * The entities read by the ID are cached and the entries are invalidated by the updates and the deletes of the entity.
+ * The entities are copied when cached and read, the cache is intended for rarely modified entities like lookup tables.
+ *
+ * @since 4.10
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+public @interface CachedEntity {
+
+    /**
+     * The default maximum size.
+     */
+    long DEFAULT_MAXIMUM_SIZE = 1000;
+
+    /**
+     * @return The maximum count of the cached entities
+     */
+    long maximumSize() default DEFAULT_MAXIMUM_SIZE;
+
+    /**
+     * @return The ISO-8601 duration after which the cached entity expires, for example {@code PT10M}; never if empty
+     */
+    String expireAfterWrite() default "";
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Caches the results of the annotated query method of the JDBC and R2DBC repositories.
+ * The results are cached by the bound parameter values and the pageable, and invalidated by any write to the tables
+ * of the query entities done by the repositories.
+ *
+ * @since 4.10
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface CachedQuery {
+
+    /**
+     * The default maximum size.
+     */
+    long DEFAULT_MAXIMUM_SIZE = 100;
+
+    /**
+     * @return The maximum count of the cached results of the method
+     */
+    long maximumSize() default DEFAULT_MAXIMUM_SIZE;
+
+    /**
+     * @return The ISO-8601 duration after which the cached result expires, for example {@code PT10M}; never if empty
+     */
+    String expireAfterWrite() default "";
+}
@@ -49,6 +49,18 @@ public @interface GeneratedValue {
      */
     String ref() default "";
 
+    /**
+     * In the case of sequence generators the count of the sequence values allocated by one fetch of the sequence.
+     * If the value is greater than one, the values are pooled: a block of the identities is allocated by one fetch of the
+     * sequence and the identities are assigned before the insert, which allows the entities to be inserted in batches.
+     * The sequence is expected to be incremented by the same value; the generated schema creates the sequence accordingly.
+     * The pooled values are only used with the explicit {@link Type#SEQUENCE} strategy.
+     *
+     * @return The allocation size
+     * @since 4.10
+     */
+    int allocationSize() default 1;
+
     /**
      * The type of generation.
      */
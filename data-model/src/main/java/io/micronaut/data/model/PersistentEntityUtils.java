@@ -19,6 +19,7 @@ import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.naming.NameUtils;
+import io.micronaut.data.annotation.GeneratedValue;
 import io.micronaut.data.annotation.sql.JoinColumn;
 import io.micronaut.data.annotation.sql.JoinColumns;
 
@@ -44,6 +45,35 @@ public final class PersistentEntityUtils {
     private PersistentEntityUtils() {
     }
 
+    /**
+     * Get the count of the sequence values allocated by one fetch of the sequence of the generated property.
+     *
+     * @param property The property
+     * @return The allocation size, one if the sequence values are not pooled
+     * @see GeneratedValue#allocationSize()
+     * @since 4.10
+     */
+    public static int getSequenceAllocationSize(PersistentProperty property) {
+        AnnotationMetadata annotationMetadata = property.getAnnotationMetadata();
+        if (!property.isGenerated()
+            || annotationMetadata.enumValue(GeneratedValue.class, GeneratedValue.Type.class).orElse(null) != GeneratedValue.Type.SEQUENCE) {
+            return 1;
+        }
+        return Math.max(1, annotationMetadata.intValue(GeneratedValue.class, "allocationSize").orElse(1));
+    }
+
+    /**
+     * Check if the values of the generated property are allocated by blocks of a sequence before the insert.
+     *
+     * @param property The property
+     * @return true if the sequence values are pooled
+     * @see GeneratedValue#allocationSize()
+     * @since 4.10
+     */
+    public static boolean isPooledSequence(PersistentProperty property) {
+        return getSequenceAllocationSize(property) > 1;
+    }
+
     /**
      * Check if the property is an association ID that can be accessed without join. In a case it's not an ID stored outside the associated table.
      * @param association The association
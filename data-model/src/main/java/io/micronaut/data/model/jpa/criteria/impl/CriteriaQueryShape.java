@@ -0,0 +1,361 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.model.jpa.criteria.impl;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.model.jpa.criteria.ExpressionType;
+import io.micronaut.data.model.jpa.criteria.IExpression;
+import io.micronaut.data.model.jpa.criteria.IPredicate;
+import io.micronaut.data.model.jpa.criteria.ISelection;
+import io.micronaut.data.model.jpa.criteria.PersistentAssociationPath;
+import io.micronaut.data.model.jpa.criteria.PersistentEntityRoot;
+import io.micronaut.data.model.jpa.criteria.PersistentEntitySubquery;
+import io.micronaut.data.model.jpa.criteria.PersistentPropertyPath;
+import io.micronaut.data.model.jpa.criteria.impl.expression.AbstractExpression;
+import io.micronaut.data.model.jpa.criteria.impl.expression.BinaryExpression;
+import io.micronaut.data.model.jpa.criteria.impl.expression.FunctionExpression;
+import io.micronaut.data.model.jpa.criteria.impl.expression.IdExpression;
+import io.micronaut.data.model.jpa.criteria.impl.expression.LiteralExpression;
+import io.micronaut.data.model.jpa.criteria.impl.expression.SubqueryExpression;
+import io.micronaut.data.model.jpa.criteria.impl.expression.UnaryExpression;
+import io.micronaut.data.model.jpa.criteria.impl.predicate.BetweenPredicate;
+import io.micronaut.data.model.jpa.criteria.impl.predicate.BinaryPredicate;
+import io.micronaut.data.model.jpa.criteria.impl.predicate.ConjunctionPredicate;
+import io.micronaut.data.model.jpa.criteria.impl.predicate.DisjunctionPredicate;
+import io.micronaut.data.model.jpa.criteria.impl.predicate.ExistsSubqueryPredicate;
+import io.micronaut.data.model.jpa.criteria.impl.predicate.InPredicate;
+import io.micronaut.data.model.jpa.criteria.impl.predicate.LikePredicate;
+import io.micronaut.data.model.jpa.criteria.impl.predicate.NegatedPredicate;
+import io.micronaut.data.model.jpa.criteria.impl.predicate.UnaryPredicate;
+import io.micronaut.data.model.jpa.criteria.impl.selection.AliasedSelection;
+import io.micronaut.data.model.jpa.criteria.impl.selection.CompoundSelection;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * The structural shape of a criteria query.
+ * The shape key describes everything the query builder renders: the selection, the predicates, the joins,
+ * the orders and the limits, while the values of the parameters are collected separately in the order of the traversal.
+ * Two queries with equal keys are rendered to the same query with the parameters bound in the same positions,
+ * which allows reusing the built query for a different set of the values.
+ *
+ * @since 4.10
+ */
+@Internal
+public final class CriteriaQueryShape {
+
+    private final List<Object> key;
+    private final List<Object> parameterValues;
+
+    private CriteriaQueryShape(List<Object> key, List<Object> parameterValues) {
+        this.key = key;
+        this.parameterValues = parameterValues;
+    }
+
+    /**
+     * Resolve the shape of the query.
+     *
+     * @param query The criteria query
+     * @return The shape or null if the query contains a node which cannot be described, like a subquery
+     */
+    @Nullable
+    public static CriteriaQueryShape of(@NonNull AbstractPersistentEntityCriteriaQuery<?> query) {
+        if (query.entityRoot == null) {
+            return null;
+        }
+        ShapeVisitor visitor = new ShapeVisitor();
+        visitor.visitQuery(query);
+        if (!visitor.supported) {
+            return null;
+        }
+        return new CriteriaQueryShape(visitor.key, Collections.unmodifiableList(visitor.parameterValues));
+    }
+
+    /**
+     * @return The key of the shape, the values of the parameters are not included
+     */
+    @NonNull
+    public List<Object> getKey() {
+        return key;
+    }
+
+    /**
+     * @return The values of the parameters in the order of the traversal
+     */
+    @NonNull
+    public List<Object> getParameterValues() {
+        return parameterValues;
+    }
+
+    /**
+     * The visitor appending the structure of the nodes to the key.
+     */
+    private static final class ShapeVisitor implements SelectionVisitor, PredicateVisitor {
+
+        private final List<Object> key = new ArrayList<>();
+        private final List<Object> parameterValues = new ArrayList<>();
+        private boolean supported = true;
+
+        void visitQuery(AbstractPersistentEntityCriteriaQuery<?> query) {
+            key.add(query.entityRoot.getPersistentEntity().getName());
+            appendJoins(query.entityRoot.getPersistentJoins());
+            key.add("select");
+            if (query.selection == null) {
+                query.entityRoot.visitSelection(this);
+            } else {
+                visitSelection(query.selection);
+            }
+            key.add("where");
+            if (query.predicate != null) {
+                visitPredicateExpression(query.predicate);
+            }
+            key.add("order");
+            if (query.orders != null) {
+                for (Order order : query.orders) {
+                    if (order instanceof PersistentPropertyOrder<?> propertyOrder
+                        && propertyOrder.getExpression() instanceof PersistentPropertyPath<?> propertyPath) {
+                        appendPath(propertyPath);
+                        key.add(propertyOrder.isAscending());
+                    } else {
+                        supported = false;
+                    }
+                }
+            }
+            key.add(query.max);
+            key.add(query.offset);
+            key.add(query.forUpdate);
+            key.add(query.distinct);
+            key.add(new LinkedHashMap<>(query.getParametersInRole()));
+        }
+
+        private void appendJoins(Collection<? extends PersistentAssociationPath<?, ?>> joins) {
+            key.add(joins.size());
+            for (PersistentAssociationPath<?, ?> join : joins) {
+                key.add(join.getAssociation().getName());
+                key.add(join.getAssociationJoinType());
+                key.add(join.getAlias());
+                appendJoins(join.getPersistentJoins());
+            }
+        }
+
+        private void appendPath(PersistentPropertyPath<?> propertyPath) {
+            key.add(propertyPath.getPathAsString());
+            if (propertyPath instanceof PersistentAssociationPath<?, ?> associationPath) {
+                key.add(associationPath.getAssociationJoinType());
+                key.add(associationPath.getAlias());
+            }
+        }
+
+        private void appendJavaType(AbstractExpression<?> expression) {
+            ExpressionType<?> expressionType = expression.getExpressionType();
+            key.add(expressionType == null ? null : expressionType.getJavaType());
+        }
+
+        private void visitSelection(Selection<?> selection) {
+            if (selection instanceof ISelection<?> selectionVisitable) {
+                selectionVisitable.visitSelection(this);
+            } else {
+                supported = false;
+            }
+        }
+
+        private void visitPredicateExpression(Expression<?> expression) {
+            if (expression instanceof IPredicate predicateVisitable) {
+                predicateVisitable.visitPredicate(this);
+            } else {
+                visitExpression(expression);
+            }
+        }
+
+        private void visitExpression(@Nullable Expression<?> expression) {
+            if (expression == null) {
+                key.add(null);
+            } else if (expression instanceof IPredicate predicateVisitable) {
+                predicateVisitable.visitPredicate(this);
+            } else if (expression instanceof IExpression<?> expressionVisitable) {
+                expressionVisitable.visitExpression(this);
+            } else {
+                supported = false;
+            }
+        }
+
+        @Override
+        public void visit(Predicate predicate) {
+            visitPredicateExpression(predicate);
+        }
+
+        @Override
+        public void visit(PersistentPropertyPath<?> persistentPropertyPath) {
+            key.add("path");
+            appendPath(persistentPropertyPath);
+        }
+
+        @Override
+        public void visit(PersistentEntityRoot<?> entityRoot) {
+            key.add("root");
+            key.add(entityRoot.getPersistentEntity().getName());
+        }
+
+        @Override
+        public void visit(PersistentEntitySubquery<?> subquery) {
+            supported = false;
+        }
+
+        @Override
+        public void visit(LiteralExpression<?> literalExpression) {
+            // The literal is rendered in the query
+            key.add("literal");
+            appendJavaType(literalExpression);
+            key.add(literalExpression.getValue());
+        }
+
+        @Override
+        public void visit(UnaryExpression<?> unaryExpression) {
+            key.add(unaryExpression.getType());
+            appendJavaType(unaryExpression);
+            visitExpression(unaryExpression.getExpression());
+        }
+
+        @Override
+        public void visit(BinaryExpression<?> binaryExpression) {
+            key.add(binaryExpression.getType());
+            appendJavaType(binaryExpression);
+            visitExpression(binaryExpression.getLeft());
+            visitExpression(binaryExpression.getRight());
+        }
+
+        @Override
+        public void visit(IdExpression<?, ?> idExpression) {
+            key.add("id");
+            key.add(idExpression.getRoot().getPersistentEntity().getName());
+        }
+
+        @Override
+        public void visit(FunctionExpression<?> functionExpression) {
+            key.add("function");
+            key.add(functionExpression.getName());
+            appendJavaType(functionExpression);
+            key.add(functionExpression.getExpressions().size());
+            functionExpression.getExpressions().forEach(this::visitExpression);
+        }
+
+        @Override
+        public void visit(IParameterExpression<?> parameterExpression) {
+            if (parameterExpression instanceof DefaultParameterExpression<?> defaultParameterExpression) {
+                key.add("?");
+                key.add(defaultParameterExpression.getParameterType());
+                key.add(defaultParameterExpression.getName());
+                parameterValues.add(defaultParameterExpression.getValue());
+            } else {
+                // The value is resolved by the query method
+                supported = false;
+            }
+        }
+
+        @Override
+        public void visit(SubqueryExpression<?> subqueryExpression) {
+            supported = false;
+        }
+
+        @Override
+        public void visit(AliasedSelection<?> aliasedSelection) {
+            key.add("alias");
+            key.add(aliasedSelection.getAlias());
+            visitSelection(aliasedSelection.getSelection());
+        }
+
+        @Override
+        public void visit(CompoundSelection<?> compoundSelection) {
+            key.add("compound");
+            key.add(compoundSelection.getCompoundSelectionItems().size());
+            compoundSelection.getCompoundSelectionItems().forEach(this::visitSelection);
+        }
+
+        @Override
+        public void visit(ConjunctionPredicate conjunction) {
+            key.add("and");
+            key.add(conjunction.getPredicates().size());
+            conjunction.getPredicates().forEach(this::visitPredicateExpression);
+        }
+
+        @Override
+        public void visit(DisjunctionPredicate disjunction) {
+            key.add("or");
+            key.add(disjunction.getPredicates().size());
+            disjunction.getPredicates().forEach(this::visitPredicateExpression);
+        }
+
+        @Override
+        public void visit(NegatedPredicate negate) {
+            key.add("not");
+            visitPredicateExpression(negate.getNegated());
+        }
+
+        @Override
+        public void visit(InPredicate<?> inPredicate) {
+            key.add("in");
+            visitExpression(inPredicate.getExpression());
+            key.add(inPredicate.getValues().size());
+            inPredicate.getValues().forEach(this::visitExpression);
+        }
+
+        @Override
+        public void visit(UnaryPredicate unaryPredicate) {
+            key.add(unaryPredicate.getOp());
+            visitPredicateExpression(unaryPredicate.getExpression());
+        }
+
+        @Override
+        public void visit(BetweenPredicate betweenPredicate) {
+            key.add("between");
+            visitExpression(betweenPredicate.getValue());
+            visitExpression(betweenPredicate.getFrom());
+            visitExpression(betweenPredicate.getTo());
+        }
+
+        @Override
+        public void visit(BinaryPredicate binaryPredicate) {
+            key.add(binaryPredicate.getOp());
+            visitExpression(binaryPredicate.getLeftExpression());
+            visitExpression(binaryPredicate.getRightExpression());
+        }
+
+        @Override
+        public void visit(LikePredicate likePredicate) {
+            key.add("like");
+            key.add(likePredicate.isNegated());
+            key.add(likePredicate.isCaseInsensitive());
+            visitExpression(likePredicate.getExpression());
+            visitExpression(likePredicate.getPattern());
+            visitExpression(likePredicate.getEscapeChar());
+        }
+
+        @Override
+        public void visit(ExistsSubqueryPredicate existsSubqueryPredicate) {
+            supported = false;
+        }
+    }
+}
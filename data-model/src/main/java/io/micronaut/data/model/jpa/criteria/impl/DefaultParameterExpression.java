@@ -42,6 +42,15 @@ final class DefaultParameterExpression<T> extends IParameterExpression<T> {
         this.value = value;
     }
 
+    /**
+     * @return The constant value of the parameter
+     * @since 4.10
+     */
+    @Nullable
+    public Object getValue() {
+        return value;
+    }
+
     @Override
     public QueryParameterBinding bind(BindingContext bindingContext) {
         String name = bindingContext.getName() == null ? String.valueOf(bindingContext.getIndex()) : bindingContext.getName();
@@ -45,6 +45,7 @@ import io.micronaut.data.model.JsonDataType;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.Pageable.Mode;
 import io.micronaut.data.model.PersistentEntity;
+import io.micronaut.data.model.PersistentEntityUtils;
 import io.micronaut.data.model.PersistentProperty;
 import io.micronaut.data.model.PersistentPropertyPath;
 import io.micronaut.data.model.naming.NamingStrategy;
@@ -544,10 +545,15 @@ public class SqlQueryBuilder extends AbstractSqlLikeQueryBuilder implements Quer
                     }
 
                     createSequenceStmt += " MINVALUE 1 START WITH 1";
+                    int allocationSize = PersistentEntityUtils.getSequenceAllocationSize(identity);
+                    if (allocationSize > 1) {
+                        // The pooled values are allocated by the blocks of the sequence increment
+                        createSequenceStmt += " INCREMENT BY " + allocationSize;
+                    }
                     if (dialect == Dialect.ORACLE) {
                         createSequenceStmt += " CACHE 100 NOCYCLE";
                     } else {
-                        if (isSqlServer) {
+                        if (isSqlServer && allocationSize == 1) {
                             createSequenceStmt += " INCREMENT BY 1";
                         }
                     }
@@ -741,6 +747,8 @@ public class SqlQueryBuilder extends AbstractSqlLikeQueryBuilder implements Quer
                         } else {
                             column += " NOT NULL";
                         }
+                    } else if (type == SEQUENCE && PersistentEntityUtils.isPooledSequence(prop)) {
+                        column += " NOT NULL";
                     } else {
                         column += " AUTO_INCREMENT";
                     }
@@ -1129,7 +1137,8 @@ public class SqlQueryBuilder extends AbstractSqlLikeQueryBuilder implements Quer
                                 .flatMap(av -> av.enumValue(GeneratedValue.Type.class))
                                 .orElseGet(() -> selectAutoStrategy(property));
                             if (idGeneratorType == GeneratedValue.Type.SEQUENCE) {
-                                isSequence = true;
+                                // The pooled sequence values are assigned before the insert
+                                isSequence = !PersistentEntityUtils.isPooledSequence(property);
                             } else if (dialect != Dialect.MYSQL || property.getDataType() != DataType.UUID) {
                                 // Property skipped
                                 return;
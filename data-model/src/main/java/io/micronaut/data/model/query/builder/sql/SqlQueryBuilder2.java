@@ -48,6 +48,7 @@ import io.micronaut.data.model.PersistentEntity;
 import io.micronaut.data.model.PersistentEntityUtils;
 import io.micronaut.data.model.PersistentProperty;
 import io.micronaut.data.model.PersistentPropertyPath;
+import io.micronaut.data.model.Sort;
 import io.micronaut.data.model.jpa.criteria.impl.DefaultPersistentPropertyPath;
 import io.micronaut.data.model.jpa.criteria.impl.PersistentPropertyOrder;
 import io.micronaut.data.model.naming.NamingStrategy;
@@ -71,6 +72,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -109,6 +111,17 @@ public class SqlQueryBuilder2 extends AbstractSqlLikeQueryBuilder2 {
     private static final String BLANK_SPACE = " ";
     private static final String SEQ_SUFFIX = "_seq";
     private static final String INSERT_INTO = "INSERT INTO ";
+    private static final String INSERT_VALUES = ") VALUES (";
+    private static final String WINDOW_COUNT_COLUMN = ",COUNT(*) OVER() AS total_count_";
+    // The clauses following the WHERE clause of the select
+    private static final String[] WHERE_TRAILING_CLAUSES = {
+        " GROUP BY ", " HAVING ", " WINDOW ", ORDER_BY_CLAUSE, " LIMIT ", " OFFSET ", " FETCH ", " FOR UPDATE", " UNION ", " EXCEPT ", " INTERSECT "
+    };
+    // The row limit of the table value constructor of SQL Server
+    private static final int MAX_MULTI_ROW_INSERT_ROWS = 1000;
+    // SQL Server supports 2100 parameters, some are reserved for the driver
+    private static final int SQL_SERVER_MAX_PARAMETERS = 2000;
+    private static final int MAX_PARAMETERS = 65535;
     private static final String JDBC_REPO_ANNOTATION = "io.micronaut.data.jdbc.annotation.JdbcRepository";
 
     private final Dialect dialect;
@@ -524,10 +537,15 @@ public class SqlQueryBuilder2 extends AbstractSqlLikeQueryBuilder2 {
                     }
 
                     createSequenceStmt += " MINVALUE 1 START WITH 1";
+                    int allocationSize = PersistentEntityUtils.getSequenceAllocationSize(identity);
+                    if (allocationSize > 1) {
+                        // The pooled values are allocated by the blocks of the sequence increment
+                        createSequenceStmt += " INCREMENT BY " + allocationSize;
+                    }
                     if (dialect == Dialect.ORACLE) {
                         createSequenceStmt += " CACHE 100 NOCYCLE";
                     } else {
-                        if (isSqlServer) {
+                        if (isSqlServer && allocationSize == 1) {
                             createSequenceStmt += " INCREMENT BY 1";
                         }
                     }
@@ -707,6 +725,8 @@ public class SqlQueryBuilder2 extends AbstractSqlLikeQueryBuilder2 {
                         } else {
                             column += " NOT NULL";
                         }
+                    } else if (type == SEQUENCE && PersistentEntityUtils.isPooledSequence(prop)) {
+                        column += " NOT NULL";
                     } else {
                         column += " AUTO_INCREMENT";
                     }
@@ -969,7 +989,8 @@ public class SqlQueryBuilder2 extends AbstractSqlLikeQueryBuilder2 {
                                 .flatMap(av -> av.enumValue(GeneratedValue.Type.class))
                                 .orElseGet(() -> selectAutoStrategy(property));
                             if (idGeneratorType == GeneratedValue.Type.SEQUENCE) {
-                                isSequence = true;
+                                // The pooled sequence values are assigned before the insert
+                                isSequence = !PersistentEntityUtils.isPooledSequence(property);
                             } else if (dialect != Dialect.MYSQL || property.getDataType() != DataType.UUID) {
                                 // Property skipped
                                 return;
@@ -1035,6 +1056,349 @@ public class SqlQueryBuilder2 extends AbstractSqlLikeQueryBuilder2 {
         );
     }
 
+    /**
+     * Get the count of the rows inserted by one statement built by {@link #buildMultiRowInsert(PersistentEntity, String, int)}.
+     * The count is limited by the count of the parameters supported by the dialect.
+     *
+     * @param parametersPerRow The count of the parameters of one row
+     * @return The count of the rows
+     * @since 4.10
+     */
+    public int getMultiRowInsertSize(int parametersPerRow) {
+        if (parametersPerRow <= 0) {
+            return MAX_MULTI_ROW_INSERT_ROWS;
+        }
+        int maxParameters = dialect == Dialect.SQL_SERVER ? SQL_SERVER_MAX_PARAMETERS : MAX_PARAMETERS;
+        return Math.max(1, Math.min(MAX_MULTI_ROW_INSERT_ROWS, maxParameters / parametersPerRow));
+    }
+
+    /**
+     * Builds the insert of multiple rows by one statement from the single row insert built by {@link #buildInsert(AnnotationMetadata, InsertQueryDefinition)}.
+     * The values of every row are bound in the same order as the parameters of the single row insert.
+     * If the identity of SQL Server is generated, the statement returns the generated identities in the ascending order,
+     * which is the order of the rows. Oracle is not supported, as the sequence values cannot be generated for multiple rows
+     * of {@code INSERT ALL}.
+     *
+     * @param entity      The entity
+     * @param insertQuery The single row insert
+     * @param rows        The count of the rows
+     * @return The query or null if the multi-row insert is not supported
+     * @since 4.10
+     */
+    @Nullable
+    public String buildMultiRowInsert(@NonNull PersistentEntity entity, @NonNull String insertQuery, int rows) {
+        if (rows < 1) {
+            throw new IllegalArgumentException("Expected at least one row, got: " + rows);
+        }
+        int valuesIndex = insertQuery.indexOf(INSERT_VALUES);
+        if (dialect == Dialect.ORACLE || !insertQuery.startsWith(INSERT_INTO) || valuesIndex == -1
+            || insertQuery.charAt(insertQuery.length() - 1) != CLOSE_BRACKET) {
+            return null;
+        }
+        String insertColumns = insertQuery.substring(0, valuesIndex + 1);
+        String rowValues = insertQuery.substring(valuesIndex + INSERT_VALUES.length() - 1);
+        PersistentProperty identity = entity.getIdentity();
+        StringBuilder builder = new StringBuilder(insertColumns.length() + rows * (rowValues.length() + 1));
+        builder.append(insertColumns);
+        if (dialect == Dialect.SQL_SERVER && identity != null && identity.isGenerated()) {
+            if (rowValues.contains("NEXT VALUE FOR")) {
+                // The sequences cannot be used in a derived table
+                return null;
+            }
+            int valuesCount = countValues(rowValues);
+            String identityColumn = getMappedName(getNamingStrategy(entity), Collections.emptyList(), identity);
+            if (shouldEscape(entity)) {
+                identityColumn = quote(identityColumn);
+            }
+            // The identities are generated in the order of the ORDER BY clause, the order of the output is not guaranteed
+            builder.append(" OUTPUT INSERTED.").append(identityColumn).append(" SELECT ");
+            appendValuesColumns(builder, valuesCount);
+            builder.append(" FROM (VALUES ");
+            for (int i = 0; i < rows; i++) {
+                if (i > 0) {
+                    builder.append(COMMA);
+                }
+                builder.append(rowValues, 0, rowValues.length() - 1).append(COMMA).append(i).append(CLOSE_BRACKET);
+            }
+            builder.append(") AS v_(");
+            appendValuesColumns(builder, valuesCount);
+            builder.append(",p_) ORDER BY p_");
+        } else {
+            builder.append(" VALUES ");
+            for (int i = 0; i < rows; i++) {
+                if (i > 0) {
+                    builder.append(COMMA);
+                }
+                builder.append(rowValues);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Builds the query selecting the next value of the sequence of the pooled identity.
+     *
+     * @param entity The entity
+     * @return The query or null if the identity values are not pooled
+     * @see PersistentEntityUtils#isPooledSequence(PersistentProperty)
+     * @since 4.10
+     */
+    @Nullable
+    public String buildPooledSequenceQuery(@NonNull PersistentEntity entity) {
+        PersistentProperty identity = entity.getIdentity();
+        if (identity == null || !PersistentEntityUtils.isPooledSequence(identity)) {
+            return null;
+        }
+        final String sequenceName = resolveSequenceName(identity, getUnescapedTableName(entity));
+        return switch (dialect) {
+            case ORACLE -> "SELECT " + quote(sequenceName) + ".nextval FROM DUAL";
+            case POSTGRES -> "SELECT nextval('" + sequenceName + "')";
+            default -> "SELECT NEXT VALUE FOR " + quote(sequenceName);
+        };
+    }
+
+    private static void appendValuesColumns(StringBuilder builder, int valuesCount) {
+        for (int i = 0; i < valuesCount; i++) {
+            if (i > 0) {
+                builder.append(COMMA);
+            }
+            builder.append("v_").append(i);
+        }
+    }
+
+    /**
+     * Builds the query selecting the rows together with the total count of the rows computed by the {@code COUNT(*) OVER()}
+     * window function, which is added as the last column of the query. The window function is computed before the limit
+     * and the offset of the query are applied, the total count is the same as the count of the rows without the pagination.
+     * The distinct queries are not supported, as the window function is computed before the distinct rows are selected.
+     * The queries locking the rows are not supported, as the databases don't allow the window functions with the locks.
+     *
+     * @param query The select query
+     * @return The query or null if the total count cannot be computed by the window function
+     * @since 4.10
+     */
+    @Nullable
+    public String buildWindowCountQuery(@NonNull String query) {
+        if (dialect == Dialect.ANSI
+            || !query.regionMatches(true, 0, SELECT_CLAUSE, 0, SELECT_CLAUSE.length())
+            || query.regionMatches(true, SELECT_CLAUSE.length(), DISTINCT, 0, DISTINCT.length())) {
+            return null;
+        }
+        int fromIndex = indexOfClause(query, SELECT_CLAUSE.length(), FROM_CLAUSE);
+        if (fromIndex == -1 || indexOfClause(query, fromIndex, STANDARD_FOR_UPDATE_CLAUSE, SQL_SERVER_FOR_UPDATE_CLAUSE) != -1) {
+            return null;
+        }
+        return query.substring(0, fromIndex) + WINDOW_COUNT_COLUMN + query.substring(fromIndex);
+    }
+
+    /**
+     * Builds the keyset predicate of the cursored pagination selecting the rows after the cursor.
+     * If all the orders have the same direction and the dialect supports the row value comparison, the predicate is
+     * a single comparison {@code (a,b,c) > (?,?,?)}, which the database can satisfy by an index range scan.
+     * Otherwise, the predicate is expanded to {@code (a > ?) OR (a = ? AND b > ?) OR ...}.
+     *
+     * @param entity             The root entity
+     * @param annotationMetadata The annotation metadata
+     * @param nativeQuery        Whether the query is native
+     * @param tableAlias         The table alias
+     * @param query              The query
+     * @param orders             The orders of the cursor
+     * @param paramIndex         The index of the first positional parameter
+     * @param cursorParameters   The consumer of the cursor value index of each positional parameter, in the order of the parameters
+     * @return The predicate
+     * @since 4.10
+     */
+    @NonNull
+    public String buildCursorPredicate(@NonNull PersistentEntity entity,
+                                       @NonNull AnnotationMetadata annotationMetadata,
+                                       boolean nativeQuery,
+                                       @Nullable String tableAlias,
+                                       @NonNull String query,
+                                       @NonNull List<Sort.Order> orders,
+                                       int paramIndex,
+                                       @NonNull IntConsumer cursorParameters) {
+        List<String> properties = new ArrayList<>(orders.size());
+        for (Sort.Order order : orders) {
+            properties.add(buildPropertyByName(order.getProperty(), query, entity, annotationMetadata, nativeQuery, tableAlias));
+        }
+        String positionalParameterFormat = positionalParameterFormat();
+        StringBuilder predicate = new StringBuilder();
+        boolean ascending = orders.get(0).isAscending();
+        if (orders.size() > 1 && supportsRowValueComparison() && orders.stream().allMatch(order -> order.isAscending() == ascending)) {
+            predicate.append(OPEN_BRACKET).append(String.join(String.valueOf(COMMA), properties)).append(CLOSE_BRACKET)
+                .append(ascending ? " > " : " < ")
+                .append(OPEN_BRACKET);
+            for (int i = 0; i < orders.size(); i++) {
+                if (i > 0) {
+                    predicate.append(COMMA);
+                }
+                predicate.append(String.format(positionalParameterFormat, paramIndex++));
+                cursorParameters.accept(i);
+            }
+            return predicate.append(CLOSE_BRACKET).toString();
+        }
+        for (int i = 0; i < orders.size(); i++) {
+            if (i > 0) {
+                predicate.append(LOGICAL_OR);
+            }
+            predicate.append(OPEN_BRACKET);
+            for (int j = 0; j <= i; j++) {
+                if (j > 0) {
+                    predicate.append(LOGICAL_AND);
+                }
+                predicate.append(properties.get(j));
+                if (i == j) {
+                    predicate.append(orders.get(i).isAscending() ? " > " : " < ");
+                } else {
+                    predicate.append(" = ");
+                }
+                predicate.append(String.format(positionalParameterFormat, paramIndex++));
+                cursorParameters.accept(j);
+            }
+            predicate.append(CLOSE_BRACKET);
+        }
+        return predicate.toString();
+    }
+
+    /**
+     * Adds the predicate to the top-level WHERE clause of the select, the existing condition is enclosed in brackets.
+     * If the select doesn't have the WHERE clause, it's added before the clauses following it, like GROUP BY or FOR UPDATE.
+     * If the query ends inside a nested query that is not closed yet, like the part of the query template being expanded,
+     * the predicate is added to the WHERE clause of the nested query.
+     *
+     * @param query     The select query
+     * @param predicate The predicate
+     * @return The query
+     * @since 4.10
+     */
+    @NonNull
+    public String buildQueryWithPredicate(@NonNull String query, @NonNull String predicate) {
+        int nestedQueryIndex = indexOfUnclosedNestedQuery(query);
+        if (nestedQueryIndex > 0) {
+            return query.substring(0, nestedQueryIndex) + buildQueryWithPredicate(query.substring(nestedQueryIndex), predicate);
+        }
+        int whereIndex = indexOfClause(query, 0, WHERE_CLAUSE);
+        int fromIndex = whereIndex == -1 ? indexOfClause(query, 0, FROM_CLAUSE) : whereIndex + WHERE_CLAUSE.length();
+        int endIndex = indexOfClause(query, Math.max(fromIndex, 0), WHERE_TRAILING_CLAUSES);
+        if (endIndex == -1) {
+            endIndex = query.length();
+        }
+        if (DEFAULT_POSITIONAL_PARAMETER_MARKER.equals(positionalParameterFormat()) && query.indexOf('?', endIndex) != -1) {
+            // The parameters are bound in the order of the appearance
+            throw new IllegalArgumentException("Cannot add the predicate to the query with the parameters after the WHERE clause: " + query);
+        }
+        String trailing = query.substring(endIndex);
+        if (whereIndex == -1) {
+            return query.substring(0, endIndex) + WHERE_CLAUSE + OPEN_BRACKET + predicate + CLOSE_BRACKET + trailing;
+        }
+        return query.substring(0, fromIndex) + OPEN_BRACKET + query.substring(fromIndex, endIndex) + CLOSE_BRACKET
+            + LOGICAL_AND + OPEN_BRACKET + predicate + CLOSE_BRACKET + trailing;
+    }
+
+    /**
+     * The row value comparison {@code (a,b) > (?,?)} isn't supported by Oracle and SQL Server.
+     *
+     * @return Whether the dialect supports the row value comparison
+     */
+    private boolean supportsRowValueComparison() {
+        return dialect == Dialect.H2 || dialect == Dialect.POSTGRES || dialect == Dialect.MYSQL;
+    }
+
+    /**
+     * Find the top-level clause of the query, the nested queries, string literals and quoted identifiers are ignored.
+     *
+     * @param query      The query
+     * @param startIndex The index to start the search from
+     * @param clauses    The clauses including the leading space
+     * @return The index of the first found clause or -1 if not found
+     */
+    private static int indexOfClause(String query, int startIndex, String... clauses) {
+        int depth = 0;
+        char closingQuote = 0;
+        for (int i = startIndex; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (closingQuote != 0) {
+                if (c == closingQuote) {
+                    closingQuote = 0;
+                }
+            } else if (c == '\'' || c == '"' || c == '`') {
+                closingQuote = c;
+            } else if (c == '[') {
+                closingQuote = ']';
+            } else if (c == OPEN_BRACKET) {
+                depth++;
+            } else if (c == CLOSE_BRACKET) {
+                depth--;
+            } else if (depth == 0 && c == ' ') {
+                for (String clause : clauses) {
+                    if (query.regionMatches(true, i, clause, 0, clause.length())) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the start of the innermost nested query which isn't closed at the end of the query.
+     *
+     * @param query The query
+     * @return The index after the opening bracket of the nested query or 0 if all the brackets are closed
+     */
+    private static int indexOfUnclosedNestedQuery(String query) {
+        List<Integer> openBrackets = new ArrayList<>();
+        char closingQuote = 0;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (closingQuote != 0) {
+                if (c == closingQuote) {
+                    closingQuote = 0;
+                }
+            } else if (c == '\'' || c == '"' || c == '`') {
+                closingQuote = c;
+            } else if (c == '[') {
+                closingQuote = ']';
+            } else if (c == OPEN_BRACKET) {
+                openBrackets.add(i + 1);
+            } else if (c == CLOSE_BRACKET && !openBrackets.isEmpty()) {
+                openBrackets.remove(openBrackets.size() - 1);
+            }
+        }
+        return openBrackets.isEmpty() ? 0 : openBrackets.get(openBrackets.size() - 1);
+    }
+
+    /**
+     * Count the values of the row, the commas of the nested expressions, string literals and quoted identifiers are ignored.
+     *
+     * @param rowValues The row values including the brackets
+     * @return The count of the values
+     */
+    private static int countValues(String rowValues) {
+        int count = 1;
+        int depth = 0;
+        char closingQuote = 0;
+        for (int i = 1; i < rowValues.length() - 1; i++) {
+            char c = rowValues.charAt(i);
+            if (closingQuote != 0) {
+                if (c == closingQuote) {
+                    closingQuote = 0;
+                }
+            } else if (c == '\'' || c == '"' || c == '`') {
+                closingQuote = c;
+            } else if (c == '[') {
+                closingQuote = ']';
+            } else if (c == OPEN_BRACKET) {
+                depth++;
+            } else if (c == CLOSE_BRACKET) {
+                depth--;
+            } else if (c == COMMA && depth == 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     private String[] asStringPath(List<Association> associations, PersistentProperty property) {
         if (associations.isEmpty()) {
             return new String[]{property.getName()};
@@ -39,6 +39,8 @@ import jakarta.inject.Singleton;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * MongoDB reactive beans factory.
@@ -63,8 +65,9 @@ final class MongoReactiveFactory {
             PreparedQueryDecorator {
 
         private final DefaultReactiveMongoRepositoryOperations reactiveOperations;
+        private final Lock asyncOperationsLock = new ReentrantLock();
         private ExecutorService executorService;
-        private ExecutorAsyncOperations asyncOperations;
+        private volatile ExecutorAsyncOperations asyncOperations;
 
         private MongoReactiveBlockingRepositoryOperations(DefaultReactiveMongoRepositoryOperations reactiveOperations) {
             this.reactiveOperations = reactiveOperations;
@@ -95,7 +98,9 @@ final class MongoReactiveFactory {
         public ExecutorAsyncOperations async() {
             ExecutorAsyncOperations asyncOperations = this.asyncOperations;
             if (asyncOperations == null) {
-                synchronized (this) { // double check
+                // The lock doesn't pin a virtual thread
+                asyncOperationsLock.lock();
+                try { // double check
                     asyncOperations = this.asyncOperations;
                     if (asyncOperations == null) {
                         if (executorService == null) {
@@ -104,6 +109,8 @@ final class MongoReactiveFactory {
                         asyncOperations = new ExecutorAsyncOperations(this, executorService);
                         this.asyncOperations = asyncOperations;
                     }
+                } finally {
+                    asyncOperationsLock.unlock();
                 }
             }
             return asyncOperations;
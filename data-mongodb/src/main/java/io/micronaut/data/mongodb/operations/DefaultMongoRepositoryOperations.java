@@ -96,6 +96,8 @@ import java.util.Spliterators;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -120,7 +122,8 @@ final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOper
     private final MongoClient mongoClient;
     private final SyncCascadeOperations<MongoOperationContext> cascadeOperations;
     private final MongoConnectionOperations connectionOperations;
-    private ExecutorAsyncOperations asyncOperations;
+    private final Lock asyncOperationsLock = new ReentrantLock();
+    private volatile ExecutorAsyncOperations asyncOperations;
     private ExecutorService executorService;
 
     /**
@@ -1001,7 +1004,9 @@ final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOper
     public ExecutorAsyncOperations async() {
         ExecutorAsyncOperations asyncOperations = this.asyncOperations;
         if (asyncOperations == null) {
-            synchronized (this) { // double check
+            // The lock doesn't pin a virtual thread
+            asyncOperationsLock.lock();
+            try { // double check
                 asyncOperations = this.asyncOperations;
                 if (asyncOperations == null) {
                     asyncOperations = new ExecutorAsyncOperations(
@@ -1010,6 +1015,8 @@ final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOper
                     );
                     this.asyncOperations = asyncOperations;
                 }
+            } finally {
+                asyncOperationsLock.unlock();
             }
         }
         return asyncOperations;
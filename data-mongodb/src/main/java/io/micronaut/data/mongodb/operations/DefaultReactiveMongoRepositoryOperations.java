@@ -612,7 +612,7 @@ public final class DefaultReactiveMongoRepositoryOperations extends AbstractMong
             op.veto(predicate);
         }
         op.persist();
-        return op.getEntities();
+        return op.getEntitiesIncludingVetoed();
     }
 
     @Override
@@ -50,6 +50,8 @@ public class DataR2dbcConfiguration implements Named {
     private String schemaGenerateName;
     @Nullable
     private List<String> schemaGenerateNames;
+    private List<String> readReplicas = new ArrayList<>(2);
+    private boolean readReplicaFallback = true;
 
     /**
      * The configuration.
@@ -181,4 +183,45 @@ public class DataR2dbcConfiguration implements Named {
     public void setSchemaGenerateNames(@Nullable List<String> schemaGenerateNames) {
         this.schemaGenerateNames = schemaGenerateNames;
     }
+
+    /**
+     * @return The names of the connection factories serving as the read replicas
+     * @since 4.10
+     */
+    @NonNull
+    public List<String> getReadReplicas() {
+        return readReplicas;
+    }
+
+    /**
+     * Sets the names of the connection factories serving as the read replicas.
+     * The read-only connections are opened from the replicas, other connections from the connection factory itself.
+     *
+     * @param readReplicas The connection factory names
+     * @since 4.10
+     */
+    public void setReadReplicas(List<String> readReplicas) {
+        if (readReplicas != null) {
+            this.readReplicas = readReplicas;
+        }
+    }
+
+    /**
+     * @return Whether a read-only connection is opened from the connection factory itself if the selected replica is not available
+     * @since 4.10
+     */
+    public boolean isReadReplicaFallback() {
+        return readReplicaFallback;
+    }
+
+    /**
+     * Sets whether a read-only connection is opened from the connection factory itself if the selected replica is not available.
+     * Default value is true.
+     *
+     * @param readReplicaFallback The fallback to the primary connection factory
+     * @since 4.10
+     */
+    public void setReadReplicaFallback(boolean readReplicaFallback) {
+        this.readReplicaFallback = readReplicaFallback;
+    }
 }
@@ -15,6 +15,7 @@
  */
 package io.micronaut.data.r2dbc.connection;
 
+import io.micronaut.context.BeanLocator;
 import io.micronaut.context.annotation.EachBean;
 import io.micronaut.context.annotation.Parameter;
 import io.micronaut.core.annotation.Internal;
@@ -22,9 +23,11 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.data.connection.ConnectionDefinition;
 import io.micronaut.data.connection.ConnectionStatus;
 import io.micronaut.data.connection.support.AbstractReactorConnectionOperations;
+import io.micronaut.data.connection.support.ReplicaSelectionPolicy;
 import io.micronaut.data.r2dbc.config.DataR2dbcConfiguration;
 import io.micronaut.data.r2dbc.operations.R2dbcSchemaHandler;
 import io.micronaut.data.runtime.multitenancy.SchemaTenantResolver;
+import io.micronaut.inject.qualifiers.Qualifiers;
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.ConnectionFactory;
 import org.reactivestreams.Publisher;
@@ -33,6 +36,8 @@ import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
 
 /**
@@ -53,27 +58,69 @@ public final class DefaultR2dbcReactorConnectionOperations extends AbstractReact
     @Nullable
     private final SchemaTenantResolver schemaTenantResolver;
     private final R2dbcSchemaHandler schemaHandler;
+    private final BeanLocator beanLocator;
+    private final ReplicaSelectionPolicy replicaSelectionPolicy;
+    private volatile List<ConnectionFactory> replicas;
 
     DefaultR2dbcReactorConnectionOperations(@Parameter String dataSourceName,
                                             @Parameter ConnectionFactory connectionFactory,
                                             @Parameter DataR2dbcConfiguration configuration,
                                             @Nullable SchemaTenantResolver schemaTenantResolver,
-                                            R2dbcSchemaHandler schemaHandler) {
+                                            R2dbcSchemaHandler schemaHandler,
+                                            BeanLocator beanLocator,
+                                            ReplicaSelectionPolicy replicaSelectionPolicy) {
         this.dataSourceName = dataSourceName;
         this.connectionFactory = connectionFactory;
         this.configuration = configuration;
         this.schemaTenantResolver = schemaTenantResolver;
         this.schemaHandler = schemaHandler;
+        this.beanLocator = beanLocator;
+        this.replicaSelectionPolicy = replicaSelectionPolicy;
     }
 
     @Override
     protected Publisher<Connection> openConnection(ConnectionDefinition definition) {
+        if (!configuration.getReadReplicas().isEmpty() && definition.isReadOnly().orElse(false)) {
+            return openReplicaConnection(definition);
+        }
         if (LOG.isDebugEnabled()) {
             LOG.debug("Opening Connection for R2DBC configuration: {} and definition: {}", dataSourceName, definition);
         }
         return (Publisher<Connection>) connectionFactory.create();
     }
 
+    private Publisher<Connection> openReplicaConnection(ConnectionDefinition definition) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Opening read replica Connection for R2DBC configuration: {} and definition: {}", dataSourceName, definition);
+        }
+        ConnectionFactory replica = replicaSelectionPolicy.select(dataSourceName, getReplicas());
+        Mono<Connection> connection = Mono.from(replica.create());
+        if (!configuration.isReadReplicaFallback()) {
+            return connection;
+        }
+        return connection.onErrorResume(e -> {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("Failed to open read replica Connection for R2DBC configuration: {} and definition: {}, using the configuration connection factory", dataSourceName, definition, e);
+            }
+            return Mono.from(connectionFactory.create());
+        });
+    }
+
+    private List<ConnectionFactory> getReplicas() {
+        List<ConnectionFactory> connectionFactories = replicas;
+        if (connectionFactories == null) {
+            // Resolved lazily, the replicas are the connection factory beans of the same context
+            List<String> replicaNames = configuration.getReadReplicas();
+            connectionFactories = new ArrayList<>(replicaNames.size());
+            for (String replicaName : replicaNames) {
+                connectionFactories.add(beanLocator.getBean(ConnectionFactory.class, Qualifiers.byName(replicaName)));
+            }
+            connectionFactories = List.copyOf(connectionFactories);
+            replicas = connectionFactories;
+        }
+        return connectionFactories;
+    }
+
     @Override
     protected Publisher<Void> closeConnection(Connection connection, ConnectionDefinition definition) {
         if (LOG.isDebugEnabled()) {
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.r2dbc.mapper;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.convert.exceptions.ConversionErrorException;
+import io.micronaut.data.exceptions.DataAccessException;
+import io.micronaut.data.model.DataType;
+import io.micronaut.data.runtime.convert.DataConversionService;
+import io.micronaut.data.runtime.mapper.sql.SqlColumnIndexResultReader;
+import io.micronaut.data.runtime.mapper.sql.SqlResultRowPlan;
+import io.r2dbc.spi.Blob;
+import io.r2dbc.spi.Clob;
+import io.r2dbc.spi.ColumnMetadata;
+import io.r2dbc.spi.R2dbcTransientResourceException;
+import io.r2dbc.spi.Row;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Time;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The column index reader used for the columns resolved by {@link SqlResultRowPlan}.
+ * Values are read by the index with the same semantics as {@link ColumnNameR2dbcResultReader} reads them by the name.
+ *
+ * @since 4.10
+ */
+@Internal
+public final class ResolvedColumnIndexR2dbcResultReader implements SqlColumnIndexResultReader<Row> {
+
+    private final ConversionService conversionService;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param conversionService The data conversion service
+     */
+    public ResolvedColumnIndexR2dbcResultReader(DataConversionService conversionService) {
+        this.conversionService = conversionService == null ? ConversionService.SHARED : conversionService;
+    }
+
+    @Override
+    public ConversionService getConversionService() {
+        return conversionService;
+    }
+
+    @Override
+    public int getColumnCount(Row resultSet) {
+        return resultSet.getMetadata().getColumnMetadatas().size();
+    }
+
+    @Override
+    public Integer resolveColumnIndex(Row resultSet, String columnName) {
+        // R2DBC column names are case-insensitive
+        List<? extends ColumnMetadata> columnMetadatas = resultSet.getMetadata().getColumnMetadatas();
+        Integer index = null;
+        for (int i = 0; i < columnMetadatas.size(); i++) {
+            if (columnMetadatas.get(i).getName().equalsIgnoreCase(columnName)) {
+                if (index != null) {
+                    // Ambiguous column, the driver decides which one is read by the name
+                    return null;
+                }
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    @Nullable
+    @Override
+    public Object readDynamic(@NonNull Row resultSet, @NonNull Integer index, @NonNull DataType dataType) {
+        return switch (dataType) {
+            case UUID -> readUUID(resultSet, index);
+            case STRING, JSON -> readString(resultSet, index);
+            case LONG -> resultSet.get(index, Long.class);
+            case INTEGER -> {
+                Object o = resultSet.get(index);
+                if (o == null || o instanceof Integer) {
+                    yield o;
+                }
+                if (o instanceof Number number) {
+                    yield number.intValue();
+                }
+                yield convertRequired(o, Integer.class);
+            }
+            case BOOLEAN -> resultSet.get(index, Boolean.class);
+            case BYTE -> resultSet.get(index, Byte.class);
+            case TIMESTAMP -> readDynamic(resultSet, index, Instant.class);
+            case DATE -> readDynamic(resultSet, index, LocalDate.class);
+            case TIME -> readDynamic(resultSet, index, Time.class);
+            case CHARACTER -> readDynamic(resultSet, index, Character.class);
+            case FLOAT -> readDynamic(resultSet, index, Float.class);
+            case SHORT -> readDynamic(resultSet, index, Short.class);
+            case DOUBLE -> resultSet.get(index, Double.class);
+            case BYTE_ARRAY -> readBlob(resultSet, index);
+            case BIGDECIMAL -> resultSet.get(index, BigDecimal.class);
+            default -> getRequiredValue(resultSet, index, Object.class);
+        };
+    }
+
+    private byte[] readBlob(@NonNull Row resultSet, @NonNull Integer index) {
+        try {
+            return resultSet.get(index, byte[].class);
+        } catch (Exception e) {
+            // Ignore
+        }
+        // Second try for Oracle and H2
+        Object o = resultSet.get(index);
+        if (o == null) {
+            return null;
+        }
+        if (o instanceof byte[]) {
+            return null;
+        }
+        if (o instanceof ByteBuffer byteBuffer) {
+            return byteBuffer.array();
+        }
+        if (o instanceof Blob blob) {
+            ByteBuffer byteBuffer = Mono.from(blob.stream()).block();
+            if (byteBuffer == null) {
+                return new byte[0];
+            }
+            return byteBuffer.array();
+        }
+        return convertRequired(o, byte[].class);
+    }
+
+    private <T> T readDynamic(@NonNull Row resultSet, @NonNull Integer index, Class<T> type) {
+        Object o = resultSet.get(index);
+        if (o == null) {
+            return null;
+        }
+        if (type.isInstance(o)) {
+            return (T) o;
+        }
+        return convertRequired(o, type);
+    }
+
+    @Nullable
+    @Override
+    public String readString(Row resultSet, Integer index) {
+        Object o = resultSet.get(index);
+        if (o == null) {
+            return null;
+        }
+        if (o instanceof String string) {
+            return string;
+        }
+        if (o instanceof Clob clob) {
+            CharSequence charSequence = Mono.from(clob.stream()).block();
+            return charSequence == null ? null : charSequence.toString();
+        }
+        // Try to get it as a string otherwise Postgres can return an internal class
+        try {
+            return resultSet.get(index, String.class);
+        } catch (Exception e) {
+            // Ignore
+        }
+        return convertRequired(o, String.class);
+    }
+
+    @Nullable
+    @Override
+    public <T> T getRequiredValue(Row resultSet, Integer index, Class<T> type) throws DataAccessException {
+        try {
+            return resultSet.get(index, type);
+        } catch (IllegalArgumentException | ConversionErrorException |
+                 R2dbcTransientResourceException e) {
+            try {
+                return conversionService.convertRequired(resultSet.get(index), type);
+            } catch (Exception exception) {
+                throw new DataAccessException("Error reading object for index [" + index + "] from result set: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    public boolean next(Row resultSet) {
+        // not used
+        return false;
+    }
+}
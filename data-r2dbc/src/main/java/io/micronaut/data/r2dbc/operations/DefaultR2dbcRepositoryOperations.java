@@ -32,6 +32,10 @@ import io.micronaut.core.propagation.PropagatedContext;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.data.connection.ConnectionDefinition;
+import io.micronaut.data.connection.ConnectionStatus;
+import io.micronaut.data.connection.ConnectionSynchronization;
+import io.micronaut.data.connection.reactive.ReactiveConnectionStatus;
+import io.micronaut.data.connection.reactive.ReactiveConnectionSynchronization;
 import io.micronaut.data.connection.reactive.ReactorConnectionOperations;
 import io.micronaut.data.exceptions.DataAccessException;
 import io.micronaut.data.exceptions.NonUniqueResultException;
@@ -65,12 +69,15 @@ import io.micronaut.data.r2dbc.mapper.ColumnIndexR2dbcResultReader;
 import io.micronaut.data.r2dbc.mapper.ColumnNameExistenceAwareR2dbcResultSetReader;
 import io.micronaut.data.r2dbc.mapper.ColumnNameR2dbcResultReader;
 import io.micronaut.data.r2dbc.mapper.R2dbcQueryStatement;
+import io.micronaut.data.r2dbc.mapper.ResolvedColumnIndexR2dbcResultReader;
 import io.micronaut.data.r2dbc.mapper.RowTupleMapper;
 import io.micronaut.data.r2dbc.transaction.R2dbcReactorTransactionOperations;
+import io.micronaut.data.runtime.cache.QueryResultCache;
 import io.micronaut.data.runtime.convert.DataConversionService;
 import io.micronaut.data.runtime.convert.RuntimePersistentPropertyConversionContext;
 import io.micronaut.data.runtime.date.DateTimeProvider;
 import io.micronaut.data.runtime.mapper.ResultReader;
+import io.micronaut.data.runtime.mapper.sql.SqlColumnIndexResultReader;
 import io.micronaut.data.runtime.mapper.sql.SqlResultEntityTypeMapper;
 import io.micronaut.data.runtime.mapper.sql.SqlTypeMapper;
 import io.micronaut.data.runtime.multitenancy.SchemaTenantResolver;
@@ -81,6 +88,7 @@ import io.micronaut.data.runtime.operations.internal.OperationContext;
 import io.micronaut.data.runtime.operations.internal.ReactiveCascadeOperations;
 import io.micronaut.data.runtime.operations.internal.query.BindableParametersStoredQuery;
 import io.micronaut.data.runtime.operations.internal.sql.AbstractSqlRepositoryOperations;
+import io.micronaut.data.runtime.operations.internal.sql.PooledSequence;
 import io.micronaut.data.runtime.operations.internal.sql.SqlJsonColumnMapperProvider;
 import io.micronaut.data.runtime.operations.internal.sql.SqlPreparedQuery;
 import io.micronaut.data.runtime.operations.internal.sql.SqlStoredQuery;
@@ -106,11 +114,13 @@ import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.context.Context;
+import reactor.util.context.ContextView;
 import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Iterator;
 import java.util.List;
@@ -153,6 +163,7 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
     private final R2dbcSchemaHandler schemaHandler;
     private final DataR2dbcConfiguration configuration;
     private final Map<Dialect, List<R2dbcExceptionMapper>> r2dbcExceptionMappers = new EnumMap<>(Dialect.class);
+    private final ResolvedColumnIndexR2dbcResultReader rowPlanColumnIndexReader;
 
     /**
      * Default constructor.
@@ -215,6 +226,7 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         this.reactiveOperations = new DefaultR2dbcReactiveRepositoryOperations();
         this.dataSourceName = dataSourceName;
         this.cascadeOperations = new ReactiveCascadeOperations<>(conversionService, this);
+        this.rowPlanColumnIndexReader = new ResolvedColumnIndexR2dbcResultReader(conversionService);
         String name = dataSourceName;
         if (name == null) {
             name = "default";
@@ -237,6 +249,16 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         return new ColumnNameExistenceAwareR2dbcResultSetReader();
     }
 
+    @Override
+    protected SqlColumnIndexResultReader<Row> getRowPlanColumnIndexReader() {
+        return rowPlanColumnIndexReader;
+    }
+
+    @Override
+    protected Object getQueryResultCacheScope() {
+        return schemaTenantResolver == null ? null : schemaTenantResolver.resolveTenantSchemaName();
+    }
+
     @Override
     protected SqlTypeMapper<Row, Tuple> createTupleMapper() {
         return new RowTupleMapper(conversionService);
@@ -284,7 +306,7 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
             op.veto(predicate);
         }
         op.persist();
-        return op.getEntities();
+        return op.getEntitiesIncludingVetoed();
     }
 
     @Override
@@ -477,6 +499,34 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
             .map((Number n) -> n.longValue());
     }
 
+    /**
+     * Allocate the pooled sequence identity of the inserted entity.
+     * The next block of the sequence values is fetched without holding the lock of the sequence.
+     *
+     * @param ctx              The operation context
+     * @param persistentEntity The persistent entity
+     * @param entity           The entity
+     * @param <T>              The entity type
+     * @return The identity or empty if the identity is not pooled or already assigned
+     */
+    private <T> Mono<Long> nextPooledIdentity(R2dbcOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, T entity) {
+        PooledSequence sequence = findPooledSequence(ctx.repositoryType, persistentEntity);
+        if (sequence == null || !isPooledIdentityUnassigned(persistentEntity, entity)) {
+            return Mono.empty();
+        }
+        Long next = sequence.tryNextValue();
+        if (next != null) {
+            return Mono.just(next);
+        }
+        if (QUERY_LOG.isDebugEnabled()) {
+            QUERY_LOG.debug("Executing SQL query: {}", sequence.getQuery());
+        }
+        return executeAndMapEachRow(ctx.connection.createStatement(sequence.getQuery()), row -> row.get(0, Long.class))
+            .onErrorResume(errorHandler(ctx.dialect))
+            .as(DefaultR2dbcRepositoryOperations::toSingleResult)
+            .map(value -> sequence.nextValue(value.longValue()));
+    }
+
     private <T> Function<? super Throwable, ? extends Publisher<? extends T>> errorHandler(Dialect dialect) {
         return throwable -> {
             if (throwable instanceof R2dbcException r2dbcException) {
@@ -509,6 +559,52 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         @Override
         public <T, R> Mono<R> findOne(@NonNull PreparedQuery<T, R> pq) {
             SqlPreparedQuery<T, R> preparedQuery = getSqlPreparedQuery(pq);
+            Object cachedEntityId = findCachedEntityId(preparedQuery);
+            if (cachedEntityId != null) {
+                return Mono.deferContextual(contextView -> {
+                    CachedEntityLookup<R> entityLookup = lookupCachedEntity(preparedQuery, cachedEntityId);
+                    if (entityLookup.getEntity() != null) {
+                        return Mono.just(entityLookup.getEntity());
+                    }
+                    if (isInTransaction(preparedQuery, contextView)) {
+                        return findOne(preparedQuery);
+                    }
+                    return findOne(preparedQuery).doOnNext(entityLookup::cache);
+                });
+            }
+            if (isCachedQuery(preparedQuery)) {
+                return Mono.deferContextual(contextView -> {
+                    QueryResultCache.Lookup lookup = findCachedQueryResult(preparedQuery, false);
+                    if (lookup == null || !lookup.isHit() && isInTransaction(preparedQuery, contextView)) {
+                        return findOne(preparedQuery);
+                    }
+                    if (lookup.isHit()) {
+                        return Mono.justOrEmpty((R) lookup.getResult());
+                    }
+                    return findOne(preparedQuery)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .doOnNext(result -> lookup.cache(result.orElse(null)))
+                        .flatMap(Mono::justOrEmpty);
+                });
+            }
+            return findOne(preparedQuery);
+        }
+
+        /**
+         * The results read in a transaction might be modified by the transaction
+         * and the reactive transactions cannot publish them after the commit.
+         *
+         * @param preparedQuery The prepared query
+         * @param contextView   The context view
+         * @return Whether the query is executed in a transaction
+         */
+        private boolean isInTransaction(SqlPreparedQuery<?, ?> preparedQuery, ContextView contextView) {
+            return preparedQuery.getParameterInRole(R2dbcRepository.PARAMETER_TX_STATUS_ROLE, ReactiveTransactionStatus.class).isPresent()
+                || transactionOperations.findTransactionStatus(contextView).isPresent();
+        }
+
+        private <T, R> Mono<R> findOne(SqlPreparedQuery<T, R> preparedQuery) {
             return executeReadMono(preparedQuery, connection -> {
                 Statement statement = prepareStatement(connection::createStatement, preparedQuery, false, true);
                 preparedQuery.bindParameters(new R2dbcParameterBinder(connection, statement, preparedQuery));
@@ -533,18 +629,48 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         @Override
         public <T, R> Flux<R> findAll(@NonNull PreparedQuery<T, R> pq) {
             SqlPreparedQuery<T, R> preparedQuery = getSqlPreparedQuery(pq);
-            return executeReadFlux(preparedQuery, connection -> {
-                Statement statement = prepareStatement(connection::createStatement, preparedQuery, false, false);
-                preparedQuery.bindParameters(new R2dbcParameterBinder(connection, statement, preparedQuery));
+            if (!isCachedQuery(preparedQuery)) {
+                return findAll(preparedQuery);
+            }
+            return Flux.deferContextual(contextView -> {
+                QueryResultCache.Lookup lookup = findCachedQueryResult(preparedQuery, true);
+                if (lookup == null || !lookup.isHit() && isInTransaction(preparedQuery, contextView)) {
+                    return findAll(preparedQuery);
+                }
+                if (lookup.isHit()) {
+                    return Flux.fromIterable((List<R>) lookup.getResult());
+                }
+                return findAll(preparedQuery)
+                    .collectList()
+                    .doOnNext(result -> lookup.cache(Collections.unmodifiableList(result)))
+                    .flatMapIterable(result -> result);
+            });
+        }
 
+        private <T, R> Flux<R> findAll(SqlPreparedQuery<T, R> preparedQuery) {
+            return executeReadFlux(preparedQuery, connection -> {
                 SqlTypeMapper<Row, R> mapper = createMapper(preparedQuery, Row.class);
-                if (mapper instanceof SqlResultEntityTypeMapper<Row, R> entityTypeMapper) {
+                if (mapper instanceof SqlResultEntityTypeMapper<Row, R> entityTypeMapper
+                    && !isOnlySingleEndedJoins(preparedQuery.getPersistentEntity(), preparedQuery.getJoinPaths())) {
+                    Statement statement = prepareGroupedByRootIdStatement(connection::createStatement, preparedQuery);
+                    preparedQuery.bindParameters(new R2dbcParameterBinder(connection, statement, preparedQuery));
+                    if (preparedQuery.isGroupedByRootId()) {
+                        // Emit every entity once the row of the next one is read
+                        SqlResultEntityTypeMapper.GroupingMapper<Row, R> rowsMapper = entityTypeMapper.readManyGroupingMapper();
+                        return executeAndMapEachRowNullable(statement, rowsMapper::processRow)
+                            .concatWith(Mono.fromSupplier(rowsMapper::complete));
+                    }
                     SqlResultEntityTypeMapper.PushingMapper<Row, List<R>> rowsMapper = entityTypeMapper.readManyMapper();
                     return executeAndMapEachRow(statement, row -> {
                         rowsMapper.processRow(row);
                         return "";
                     }).collectList().flatMapIterable(ignore -> rowsMapper.getResult());
                 }
+                Statement statement = prepareStatement(connection::createStatement, preparedQuery, false, false);
+                preparedQuery.bindParameters(new R2dbcParameterBinder(connection, statement, preparedQuery));
+                if (mapper instanceof SqlResultEntityTypeMapper<Row, R> entityTypeMapper) {
+                    return executeAndMapEachRow(statement, entityTypeMapper::readEntity);
+                }
                 return executeAndMapEachRowNullable(statement, row -> mapper.map(row, preparedQuery.getResultType()));
             });
         }
@@ -558,7 +684,13 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                 Dialect dialect = preparedQuery.getDialect();
                 preparedQuery.bindParameters(new R2dbcParameterBinder(connection, statement, preparedQuery));
                 return executeAndGetRowsUpdatedSingle(statement, dialect)
-                    .flatMap((Number rowsUpdated) -> {
+                    .flatMap((Number rowsUpdated) -> Mono.deferContextual(contextView -> {
+                        ReactiveTransactionStatus<?> transactionStatus = preparedQuery
+                            .getParameterInRole(R2dbcRepository.PARAMETER_TX_STATUS_ROLE, ReactiveTransactionStatus.class).orElse(null);
+                        invalidateAfterWrite(transactionStatus, contextView, () -> {
+                            invalidateCachedEntities(preparedQuery);
+                            invalidateCachedQueryResults(preparedQuery.getPersistentEntity());
+                        });
                         if (QUERY_LOG.isTraceEnabled()) {
                             QUERY_LOG.trace("Update operation updated {} records", rowsUpdated);
                         }
@@ -576,7 +708,7 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                             }
                         }
                         return Mono.just(rowsUpdated);
-                    });
+                    }));
             });
         }
 
@@ -795,7 +927,9 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         }
 
         private <T> R2dbcOperationContext createContext(EntityOperation<T> operation, Connection connection, SqlStoredQuery<T, ?> storedQuery) {
-            return new R2dbcOperationContext(operation.getAnnotationMetadata(), operation.getInvocationContext(), operation.getRepositoryType(), storedQuery.getDialect(), connection);
+            ReactiveTransactionStatus<?> transactionStatus = operation
+                .getParameterInRole(R2dbcRepository.PARAMETER_TX_STATUS_ROLE, ReactiveTransactionStatus.class).orElse(null);
+            return new R2dbcOperationContext(operation.getAnnotationMetadata(), operation.getInvocationContext(), operation.getRepositoryType(), storedQuery.getDialect(), connection, transactionStatus);
         }
 
         @NonNull
@@ -987,6 +1121,17 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing SQL query: {}", storedQuery.getQuery());
             }
+            if (insert) {
+                data = data.flatMap(d -> {
+                    if (d.vetoed) {
+                        return Mono.just(d);
+                    }
+                    return nextPooledIdentity(ctx, persistentEntity, d.entity).map(id -> {
+                        d.entity = updateEntityId(persistentEntity.getIdentity().getProperty(), d.entity, id);
+                        return d;
+                    }).defaultIfEmpty(d);
+                });
+            }
             Statement statement = prepare(ctx.connection);
             setParameters(statement, storedQuery);
             if (hasGeneratedId) {
@@ -1025,6 +1170,59 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                     return d;
                 });
             }
+            data = data.flatMap(d -> Mono.deferContextual(contextView -> {
+                if (!d.vetoed) {
+                    invalidateAfterWrite(ctx.transactionStatus, contextView, () -> {
+                        invalidateCachedQueryResults(persistentEntity);
+                        if (!insert) {
+                            invalidateCachedEntity(persistentEntity, d.entity);
+                        }
+                    });
+                }
+                return Mono.just(d);
+            }));
+        }
+    }
+
+    /**
+     * Invalidates the caches now and again after the transaction completes, the results might be cached from a concurrent read in the meantime.
+     *
+     * @param transactionStatus The transaction status passed to the repository method or null
+     * @param contextView       The context view
+     * @param invalidation      The invalidation
+     */
+    private void invalidateAfterWrite(@Nullable ReactiveTransactionStatus<?> transactionStatus, ContextView contextView, Runnable invalidation) {
+        invalidation.run();
+        ReactiveTransactionStatus<?> status = transactionStatus != null ? transactionStatus : transactionOperations.findTransactionStatus(contextView).orElse(null);
+        if (status == null || status.isCompleted()) {
+            return;
+        }
+        ConnectionStatus<?> connectionStatus = status.getConnectionStatus();
+        if (connectionStatus instanceof ReactiveConnectionStatus<?> reactiveConnectionStatus) {
+            reactiveConnectionStatus.registerReactiveSynchronization(new ReactiveConnectionSynchronization() {
+
+                @Override
+                public Publisher<Void> onComplete() {
+                    return Mono.fromRunnable(invalidation);
+                }
+
+                @Override
+                public Publisher<Void> onError(Throwable throwable) {
+                    return Mono.fromRunnable(invalidation);
+                }
+
+                @Override
+                public Publisher<Void> onCancel() {
+                    return Mono.fromRunnable(invalidation);
+                }
+            });
+        } else {
+            connectionStatus.registerSynchronization(new ConnectionSynchronization() {
+                @Override
+                public void executionComplete() {
+                    invalidation.run();
+                }
+            });
         }
     }
 
@@ -1082,6 +1280,15 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing SQL query: {}", storedQuery.getQuery());
             }
+            if (insert) {
+                entities = entities.flatMap(list -> Flux.fromIterable(list)
+                    .filter(this::notVetoed)
+                    .concatMap(d -> nextPooledIdentity(ctx, persistentEntity, d.entity).map(id -> {
+                        d.entity = updateEntityId(persistentEntity.getIdentity().getProperty(), d.entity, id);
+                        return d;
+                    }))
+                    .then(Mono.just(list)));
+            }
             Statement statement;
             if (hasGeneratedId) {
                 statement = ctx.connection.createStatement(storedQuery.getQuery());
@@ -1099,7 +1306,7 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                     .flatMap(list -> {
                         List<Data> notVetoedEntities = list.stream().filter(this::notVetoed).toList();
                         if (notVetoedEntities.isEmpty()) {
-                            return Mono.just(notVetoedEntities);
+                            return Mono.just(list);
                         }
                         Function<Row, Object> idMapper;
                         if (isJsonEntityGeneratedId(storedQuery, persistentEntity)) {
@@ -1146,6 +1353,19 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                 entities = entitiesWithRowsUpdated.flatMap(t -> Mono.just(t.getT1()));
                 rowsUpdated = entitiesWithRowsUpdated.map(Tuple2::getT2);
             }
+            entities = entities.flatMap(list -> Mono.deferContextual(contextView -> {
+                invalidateAfterWrite(ctx.transactionStatus, contextView, () -> {
+                    invalidateCachedQueryResults(persistentEntity);
+                    if (!insert) {
+                        for (Data d : list) {
+                            if (notVetoed(d)) {
+                                invalidateCachedEntity(persistentEntity, d.entity);
+                            }
+                        }
+                    }
+                });
+                return Mono.just(list);
+            }));
         }
     }
 
@@ -1154,6 +1374,8 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         private final Connection connection;
         private final Dialect dialect;
         private final InvocationContext<?, ?> invocationContext;
+        @Nullable
+        private final ReactiveTransactionStatus<?> transactionStatus;
 
         /**
          * The default constructor.
@@ -1165,10 +1387,27 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
          * @param connection         the connection
          */
         public R2dbcOperationContext(AnnotationMetadata annotationMetadata, InvocationContext<?, ?> invocationContext, Class<?> repositoryType, Dialect dialect, Connection connection) {
+            this(annotationMetadata, invocationContext, repositoryType, dialect, connection, null);
+        }
+
+        /**
+         * The constructor with the transaction status passed to the repository method.
+         *
+         * @param annotationMetadata the annotation metadata
+         * @param invocationContext  the invocation context
+         * @param repositoryType     the repository type
+         * @param dialect            the dialect
+         * @param connection         the connection
+         * @param transactionStatus  the transaction status or null
+         * @since 4.10
+         */
+        public R2dbcOperationContext(AnnotationMetadata annotationMetadata, InvocationContext<?, ?> invocationContext, Class<?> repositoryType, Dialect dialect, Connection connection,
+                                     @Nullable ReactiveTransactionStatus<?> transactionStatus) {
             super(annotationMetadata, repositoryType);
             this.dialect = dialect;
             this.connection = connection;
             this.invocationContext = invocationContext;
+            this.transactionStatus = transactionStatus;
         }
     }
 
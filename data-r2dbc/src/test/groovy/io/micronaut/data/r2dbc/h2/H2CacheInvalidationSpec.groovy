@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.r2dbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.CachedEntity
+import io.micronaut.data.annotation.CachedQuery
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.r2dbc.annotation.R2dbcRepository
+import io.micronaut.data.r2dbc.operations.R2dbcOperations
+import io.micronaut.data.repository.reactive.ReactorCrudRepository
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+
+class H2CacheInvalidationSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    R2dbcCachedFlagRepository flagRepository = applicationContext.getBean(R2dbcCachedFlagRepository)
+
+    @Shared
+    R2dbcCachedCurrencyRepository currencyRepository = applicationContext.getBean(R2dbcCachedCurrencyRepository)
+
+    @Shared
+    R2dbcOperations r2dbcOperations = applicationContext.getBean(R2dbcOperations)
+
+    void cleanup() {
+        flagRepository.deleteAll().block()
+        currencyRepository.deleteAll().block()
+    }
+
+    void "test the query results read during an open write transaction are invalidated after the commit"() {
+        given:
+            flagRepository.save(new R2dbcCachedFlag(name: "search", enabled: true)).block()
+        when:
+            List<R2dbcCachedFlag> concurrentRead = Mono.from(r2dbcOperations.withTransaction { status ->
+                flagRepository.save(new R2dbcCachedFlag(name: "export", enabled: true))
+                        .then(readConcurrently { flagRepository.findByEnabled(true).collectList().block() })
+            }).block()
+        then:"the concurrent read doesn't see the uncommitted row"
+            concurrentRead*.name == ["search"]
+        and:"the results cached by the concurrent read are invalidated after the commit"
+            flagRepository.findByEnabled(true).collectList().block()*.name.sort() == ["export", "search"]
+    }
+
+    void "test the entity read during an open write transaction is invalidated after the commit"() {
+        given:
+            currencyRepository.save(new R2dbcCachedCurrency(code: "EUR", name: "Euro")).block()
+        when:
+            R2dbcCachedCurrency concurrentRead = Mono.from(r2dbcOperations.withTransaction { status ->
+                currencyRepository.update("EUR", "Changed")
+                        .then(readConcurrently { currencyRepository.findById("EUR").block() })
+            }).block()
+        then:"the concurrent read doesn't see the uncommitted update"
+            concurrentRead.name == "Euro"
+        and:"the entity cached by the concurrent read is invalidated after the commit"
+            currencyRepository.findById("EUR").block().name == "Changed"
+    }
+
+    private static <T> Mono<T> readConcurrently(Closure<T> read) {
+        // Read on another thread without the transaction in the context
+        return Mono.fromFuture(CompletableFuture.supplyAsync(read))
+    }
+}
+
+@R2dbcRepository(dialect = Dialect.H2)
+interface R2dbcCachedFlagRepository extends ReactorCrudRepository<R2dbcCachedFlag, Long> {
+
+    @CachedQuery
+    Flux<R2dbcCachedFlag> findByEnabled(boolean enabled)
+}
+
+@MappedEntity
+class R2dbcCachedFlag {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    boolean enabled
+}
+
+@R2dbcRepository(dialect = Dialect.H2)
+interface R2dbcCachedCurrencyRepository extends ReactorCrudRepository<R2dbcCachedCurrency, String> {
+
+    Mono<Long> update(@Id String code, String name)
+}
+
+@CachedEntity(maximumSize = 10, expireAfterWrite = "PT10M")
+@MappedEntity
+class R2dbcCachedCurrency {
+    @Id
+    String code
+    String name
+}
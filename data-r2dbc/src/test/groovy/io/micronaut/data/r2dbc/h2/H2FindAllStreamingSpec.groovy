@@ -0,0 +1,139 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.r2dbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.Join
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.Relation
+import io.micronaut.data.annotation.event.PostLoad
+import io.micronaut.data.model.Page
+import io.micronaut.data.model.Pageable
+import io.micronaut.data.model.Sort
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.r2dbc.annotation.R2dbcRepository
+import io.micronaut.data.repository.reactive.ReactorCrudRepository
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class H2FindAllStreamingSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    R2dbcStreamAuthorRepository authorRepository = applicationContext.getBean(R2dbcStreamAuthorRepository)
+
+    @AutoCleanup
+    QueryLogCapture queryLog = new QueryLogCapture()
+
+    void setupSpec() {
+        def authors = (1..3).collect { i ->
+            def author = new R2dbcStreamAuthor(name: "author " + i, books: [])
+            (1..3).each { j -> author.books.add(new R2dbcStreamBook(title: "book " + i + "-" + j, author: author)) }
+            author
+        }
+        authorRepository.saveAll(authors).collectList().block()
+    }
+
+    void setup() {
+        R2dbcStreamAuthor.EVENTS.clear()
+    }
+
+    void "test the entities without joins are emitted row by row"() {
+        when:
+            def names = authorRepository.findByNameStartsWith("author")
+                    .doOnNext { R2dbcStreamAuthor.EVENTS.add("emit " + it.name) }
+                    .map { it.name }
+                    .collectList()
+                    .block()
+        then:"every entity is emitted before the next one is read"
+            names.sort() == ["author 1", "author 2", "author 3"]
+            R2dbcStreamAuthor.EVENTS.collate(2).every { it.size() == 2 && it[0] == it[1].replace("emit", "load") }
+            R2dbcStreamAuthor.EVENTS.size() == 6
+    }
+
+    void "test the entities with to-many joins are emitted once their rows are read"() {
+        when:
+            def authors = authorRepository.queryByNameStartsWith("author")
+                    .doOnNext { R2dbcStreamAuthor.EVENTS.add("emit " + it.name) }
+                    .collectList()
+                    .block()
+        then:"the query is ordered by the ID to keep the rows of an entity consecutive"
+            queryLog.count('"id" ASC') == 1
+        and:"every entity is emitted with all of its children before the next one is completed"
+            authors*.name == ["author 1", "author 2", "author 3"]
+            authors.every { author -> author.books*.title.sort() == (1..3).collect { author.name.replace("author", "book") + "-" + it } }
+            R2dbcStreamAuthor.EVENTS == ["load author 1", "emit author 1", "load author 2", "emit author 2", "load author 3", "emit author 3"]
+    }
+
+    void "test the page boundary inside the rows of an entity with to-many joins"() {
+        when:"a page smaller than the count of the joined rows is read"
+            Page<R2dbcStreamAuthor> page1 = authorRepository.findByNameStartsWith("author", Pageable.from(0, 2, Sort.of(Sort.Order.asc("name")))).block()
+            Page<R2dbcStreamAuthor> page2 = authorRepository.findByNameStartsWith("author", Pageable.from(1, 2, Sort.of(Sort.Order.asc("name")))).block()
+        then:"the page is limiting the entities and not the rows"
+            page1.content*.name == ["author 1", "author 2"]
+            page2.content*.name == ["author 3"]
+            page1.totalSize == 3
+        and:"the entities at the page boundary have all of their children"
+            (page1.content + page2.content).every { it.books.size() == 3 }
+    }
+}
+
+@R2dbcRepository(dialect = Dialect.H2)
+interface R2dbcStreamAuthorRepository extends ReactorCrudRepository<R2dbcStreamAuthor, Long> {
+
+    Flux<R2dbcStreamAuthor> findByNameStartsWith(String prefix)
+
+    @Join(value = "books", type = Join.Type.LEFT_FETCH)
+    Flux<R2dbcStreamAuthor> queryByNameStartsWith(String prefix)
+
+    @Join(value = "books", type = Join.Type.LEFT_FETCH)
+    Mono<Page<R2dbcStreamAuthor>> findByNameStartsWith(String prefix, Pageable pageable)
+}
+
+@MappedEntity("x_r2dbc_stream_author")
+class R2dbcStreamAuthor {
+    static final List<String> EVENTS = Collections.synchronizedList([])
+
+    String name
+    @Relation(value = Relation.Kind.ONE_TO_MANY, mappedBy = "author", cascade = Relation.Cascade.PERSIST)
+    List<R2dbcStreamBook> books
+    @Id
+    @GeneratedValue
+    Long id
+
+    @PostLoad
+    void onPostLoad() {
+        EVENTS.add("load " + name)
+    }
+}
+
+@MappedEntity("x_r2dbc_stream_book")
+class R2dbcStreamBook {
+    String title
+    @Relation(value = Relation.Kind.MANY_TO_ONE)
+    R2dbcStreamAuthor author
+    @Id
+    @GeneratedValue
+    Long id
+}
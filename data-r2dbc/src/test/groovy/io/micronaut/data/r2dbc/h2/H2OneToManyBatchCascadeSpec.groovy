@@ -0,0 +1,142 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.r2dbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.Join
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.Relation
+import io.micronaut.data.event.listeners.PrePersistEventListener
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.r2dbc.annotation.R2dbcRepository
+import io.micronaut.data.repository.reactive.ReactorCrudRepository
+import jakarta.inject.Singleton
+import reactor.core.publisher.Mono
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class H2OneToManyBatchCascadeSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties() + ['spec.name': 'H2OneToManyBatchCascadeSpec'])
+
+    @Shared
+    R2dbcBatchOrderRepository orderRepository = applicationContext.getBean(R2dbcBatchOrderRepository)
+
+    @Shared
+    R2dbcBatchCustomerRepository customerRepository = applicationContext.getBean(R2dbcBatchCustomerRepository)
+
+    @AutoCleanup
+    QueryLogCapture queryLog = new QueryLogCapture()
+
+    void 'test the children of all the saved entities are cascaded in one batch'() {
+        given:
+            def customer = new R2dbcBatchCustomer(name: "customer")
+            def orders = (0..<3).collect { i ->
+                def order = new R2dbcBatchOrder(number: "order " + i, customer: customer, lines: [])
+                (0..<3).each { j -> order.lines.add(new R2dbcBatchOrderLine(product: "product " + i + "-" + j, order: order)) }
+                order
+            }
+        when:
+            orders = orderRepository.saveAll(orders).collectList().block()
+        then:"the shared customer is persisted once"
+            customerRepository.count().block() == 1
+            orders.every { it.id && it.customer.id }
+        and:"the lines of all the orders are inserted by one batch"
+            orders.every { order -> order.lines.size() == 3 && order.lines.every { it.id } }
+            orders.collectMany { it.lines*.id }.toSet().size() == 9
+            queryLog.count('INSERT INTO "x_r2dbc_batch_customer"') == 1
+            queryLog.count('INSERT INTO "x_r2dbc_batch_order"') == 1
+            queryLog.count('INSERT INTO "x_r2dbc_batch_order_line"') == 1
+    }
+
+    void 'test the children vetoed by the pre-persist listener keep their positions'() {
+        given:
+            def order = new R2dbcBatchOrder(number: "vetoes", customer: new R2dbcBatchCustomer(name: "vetoes"), lines: [])
+            ["first", "vetoed", "second", "vetoed", "third"].each {
+                order.lines.add(new R2dbcBatchOrderLine(product: it, order: order))
+            }
+        when:
+            order = orderRepository.save(order).block()
+        then:"the persisted lines are matched with the lines by the position"
+            order.lines*.product == ["first", "vetoed", "second", "vetoed", "third"]
+            order.lines.findAll { it.product != "vetoed" }.every { it.id }
+            order.lines.findAll { it.product == "vetoed" }.every { it.id == null }
+            queryLog.count('INSERT INTO "x_r2dbc_batch_order_line"') == 1
+        when:
+            def found = orderRepository.findById(order.id).block()
+        then:
+            found.lines*.product.toSorted() == ["first", "second", "third"]
+            found.lines.every { line -> order.lines.find { it.id == line.id }.product == line.product }
+    }
+}
+
+@Singleton
+@Requires(property = "spec.name", value = "H2OneToManyBatchCascadeSpec")
+class R2dbcBatchOrderLineVetoListener implements PrePersistEventListener<R2dbcBatchOrderLine> {
+
+    @Override
+    boolean prePersist(R2dbcBatchOrderLine entity) {
+        return entity.product != "vetoed"
+    }
+}
+
+@R2dbcRepository(dialect = Dialect.H2)
+interface R2dbcBatchOrderRepository extends ReactorCrudRepository<R2dbcBatchOrder, Long> {
+
+    @Join(value = "lines", type = Join.Type.LEFT_FETCH)
+    @Override
+    Mono<R2dbcBatchOrder> findById(Long id)
+}
+
+@R2dbcRepository(dialect = Dialect.H2)
+interface R2dbcBatchCustomerRepository extends ReactorCrudRepository<R2dbcBatchCustomer, Long> {
+}
+
+@MappedEntity("x_r2dbc_batch_order")
+class R2dbcBatchOrder {
+    String number
+    @Relation(value = Relation.Kind.MANY_TO_ONE, cascade = Relation.Cascade.PERSIST)
+    R2dbcBatchCustomer customer
+    @Relation(value = Relation.Kind.ONE_TO_MANY, mappedBy = "order", cascade = Relation.Cascade.ALL)
+    List<R2dbcBatchOrderLine> lines
+    @Id
+    @GeneratedValue
+    Long id
+}
+
+@MappedEntity("x_r2dbc_batch_order_line")
+class R2dbcBatchOrderLine {
+    String product
+    @Relation(value = Relation.Kind.MANY_TO_ONE)
+    R2dbcBatchOrder order
+    @Id
+    @GeneratedValue
+    Long id
+}
+
+@MappedEntity("x_r2dbc_batch_customer")
+class R2dbcBatchCustomer {
+    String name
+    @Id
+    @GeneratedValue
+    Long id
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.r2dbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.r2dbc.annotation.R2dbcRepository
+import io.micronaut.data.repository.reactive.ReactorCrudRepository
+import reactor.core.publisher.Flux
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class H2PooledSequenceSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    R2dbcPooledItemRepository pooledItemRepository = applicationContext.getBean(R2dbcPooledItemRepository)
+
+    @AutoCleanup
+    QueryLogCapture queryLog = new QueryLogCapture()
+
+    void "test the identities are allocated by blocks of the sequence"() {
+        when:
+            def saved = pooledItemRepository.saveAll((0..<25).collect { new R2dbcPooledItem(name: "item " + it) }).collectList().block()
+        then:"the sequence is queried once per block"
+            saved*.id == (1L..25L).toList()
+            queryLog.count("NEXT VALUE FOR") == 3
+            pooledItemRepository.count().block() == 25
+            pooledItemRepository.findById(25L).block().name == "item 24"
+
+        when:"the next entity continues with the allocated block"
+            queryLog.clear()
+            def next = pooledItemRepository.save(new R2dbcPooledItem(name: "next")).block()
+        then:
+            next.id == 26L
+            queryLog.count("NEXT VALUE FOR") == 0
+
+        when:"the concurrently saved entities get distinct identities"
+            def concurrent = Flux.range(0, 20)
+                    .flatMap { pooledItemRepository.save(new R2dbcPooledItem(name: "concurrent " + it)) }
+                    .collectList()
+                    .block()
+        then:
+            concurrent*.id.toSet().size() == 20
+            concurrent*.id.every { it > 26L }
+    }
+}
+
+@MappedEntity
+class R2dbcPooledItem {
+    @Id
+    @GeneratedValue(value = GeneratedValue.Type.SEQUENCE, allocationSize = 10)
+    Long id
+    String name
+}
+
+@R2dbcRepository(dialect = Dialect.H2)
+interface R2dbcPooledItemRepository extends ReactorCrudRepository<R2dbcPooledItem, Long> {
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.r2dbc.h2
+
+import ch.qos.logback.classic.Level
+import ch.qos.logback.classic.Logger
+import ch.qos.logback.classic.spi.ILoggingEvent
+import ch.qos.logback.core.read.ListAppender
+import io.micronaut.data.runtime.config.DataSettings
+import org.slf4j.LoggerFactory
+
+/**
+ * Captures the queries logged by the query log to count the database round trips.
+ */
+class QueryLogCapture implements AutoCloseable {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(DataSettings.QUERY_LOG.getName())
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>()
+    private final Level previousLevel = logger.level
+
+    QueryLogCapture() {
+        appender.start()
+        logger.addAppender(appender)
+        logger.level = Level.DEBUG
+    }
+
+    /**
+     * @param fragment The fragment of the query
+     * @return The count of the logged queries containing the fragment
+     */
+    int count(String fragment) {
+        return appender.list.count { it.formattedMessage.contains(fragment) }
+    }
+
+    void clear() {
+        appender.list.clear()
+    }
+
+    @Override
+    void close() {
+        logger.detachAppender(appender)
+        logger.level = previousLevel
+        appender.stop()
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.cache;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
+import io.micronaut.data.annotation.CachedEntity;
+import io.micronaut.data.model.runtime.RuntimePersistentEntity;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The default in-memory {@link EntityCacheStore}.
+ * Every entity of a data source has a separate region bounded by {@link CachedEntity#maximumSize()}, evicting the least recently
+ * used entries, the entries are expired after {@link CachedEntity#expireAfterWrite()}.
+ * The entities are copied when cached and when read, the copy is shallow except of the associated entities and the collections.
+ *
+ * @since 4.10
+ */
+@Singleton
+public class DefaultEntityCacheStore implements EntityCacheStore {
+
+    private final Map<RegionKey, Region> regions = new ConcurrentHashMap<>(10);
+
+    @Nullable
+    @Override
+    public <T> T get(@NonNull String dataSourceName, @Nullable Object scope, @NonNull RuntimePersistentEntity<T> persistentEntity, @NonNull Object id) {
+        Region region = getRegion(dataSourceName, persistentEntity);
+        EntryKey entryKey = new EntryKey(scope, id);
+        Entry entry = region.entries.get(entryKey);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired()) {
+            region.entries.remove(entryKey, entry);
+            return null;
+        }
+        return EntityCopier.copy(persistentEntity, (T) entry.value, new IdentityHashMap<>());
+    }
+
+    @Override
+    public long getGeneration(@NonNull String dataSourceName, @NonNull RuntimePersistentEntity<?> persistentEntity) {
+        return getRegion(dataSourceName, persistentEntity).generation.get();
+    }
+
+    @Override
+    public <T> void put(@NonNull String dataSourceName,
+                        @Nullable Object scope,
+                        @NonNull RuntimePersistentEntity<T> persistentEntity,
+                        @NonNull Object id,
+                        @NonNull T entity,
+                        long generation) {
+        Region region = getRegion(dataSourceName, persistentEntity);
+        if (region.generation.get() != generation) {
+            // Invalidated since the entity was read, the entity might be stale
+            return;
+        }
+        long expiresAt = region.expireAfterWriteNanos > 0 ? System.nanoTime() + region.expireAfterWriteNanos : 0;
+        EntryKey entryKey = new EntryKey(scope, id);
+        Entry entry = new Entry(EntityCopier.copy(persistentEntity, entity, new IdentityHashMap<>()), expiresAt);
+        region.entries.put(entryKey, entry);
+        if (region.generation.get() != generation) {
+            // Invalidated concurrently, the invalidation increments the generation before removing the entries
+            region.entries.remove(entryKey, entry);
+        }
+    }
+
+    @Override
+    public void invalidate(@NonNull String dataSourceName, @Nullable Object scope, @NonNull RuntimePersistentEntity<?> persistentEntity, @NonNull Object id) {
+        Region region = regions.get(new RegionKey(dataSourceName, persistentEntity.getIntrospection().getBeanType()));
+        if (region != null) {
+            region.generation.incrementAndGet();
+            region.entries.remove(new EntryKey(scope, id));
+        }
+    }
+
+    @Override
+    public void invalidateAll(@NonNull String dataSourceName, @NonNull RuntimePersistentEntity<?> persistentEntity) {
+        Region region = regions.get(new RegionKey(dataSourceName, persistentEntity.getIntrospection().getBeanType()));
+        if (region != null) {
+            region.generation.incrementAndGet();
+            region.entries.clear();
+        }
+    }
+
+    private Region getRegion(String dataSourceName, RuntimePersistentEntity<?> persistentEntity) {
+        return regions.computeIfAbsent(new RegionKey(dataSourceName, persistentEntity.getIntrospection().getBeanType()), key -> {
+            long maximumSize = persistentEntity.longValue(CachedEntity.class, "maximumSize")
+                .orElse(CachedEntity.DEFAULT_MAXIMUM_SIZE);
+            String expireAfterWrite = persistentEntity.stringValue(CachedEntity.class, "expireAfterWrite").orElse(null);
+            long expireAfterWriteNanos = StringUtils.isNotEmpty(expireAfterWrite) ? Duration.parse(expireAfterWrite).toNanos() : 0;
+            return new Region(
+                new ConcurrentLinkedHashMap.Builder<EntryKey, Entry>().maximumWeightedCapacity(maximumSize).build(),
+                expireAfterWriteNanos,
+                new AtomicLong()
+            );
+        });
+    }
+
+    /**
+     * The region key of an entity.
+     *
+     * @param dataSourceName The data source name
+     * @param entityType     The entity type
+     */
+    private record RegionKey(String dataSourceName, Class<?> entityType) {
+    }
+
+    /**
+     * The cache region of an entity.
+     *
+     * @param entries               The entries
+     * @param expireAfterWriteNanos The expiration in nanoseconds, zero if the entries don't expire
+     * @param generation            The generation incremented by the invalidations
+     */
+    private record Region(Map<EntryKey, Entry> entries, long expireAfterWriteNanos, AtomicLong generation) {
+    }
+
+    /**
+     * The key of the cached entity.
+     *
+     * @param scope The scope, like the tenant schema
+     * @param id    The entity ID
+     */
+    private record EntryKey(Object scope, Object id) {
+    }
+
+    /**
+     * The cache entry.
+     *
+     * @param value     The entity
+     * @param expiresAt The expiration time in nanoseconds, zero if the entry doesn't expire
+     */
+    private record Entry(Object value, long expiresAt) {
+
+        boolean isExpired() {
+            return expiresAt != 0 && System.nanoTime() - expiresAt >= 0;
+        }
+    }
+}
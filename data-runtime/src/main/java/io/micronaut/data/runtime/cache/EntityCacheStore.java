@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.cache;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.model.runtime.RuntimePersistentEntity;
+
+/**
+ * The backing store of the entities annotated with {@link io.micronaut.data.annotation.CachedEntity}.
+ * The default implementation is {@link DefaultEntityCacheStore}, a different store can be provided by replacing the bean.
+ * The entities are cached by the data source name, the scope, like the tenant schema, and the ID.
+ * The store must not share the cached instances with the callers, as the entities are mutable.
+ *
+ * @since 4.10
+ */
+public interface EntityCacheStore {
+
+    /**
+     * Find the cached entity.
+     *
+     * @param dataSourceName   The data source name
+     * @param scope            The scope of the entity, like the tenant schema, or null
+     * @param persistentEntity The persistent entity
+     * @param id               The entity ID
+     * @param <T>              The entity type
+     * @return The copy of the cached entity or null
+     */
+    @Nullable
+    <T> T get(@NonNull String dataSourceName, @Nullable Object scope, @NonNull RuntimePersistentEntity<T> persistentEntity, @NonNull Object id);
+
+    /**
+     * The generation of the cached entities, incremented by every invalidation.
+     * The generation is read before the entity is loaded from the database and passed to
+     * {@link #put(String, Object, RuntimePersistentEntity, Object, Object, long)}.
+     *
+     * @param dataSourceName   The data source name
+     * @param persistentEntity The persistent entity
+     * @return The generation
+     */
+    long getGeneration(@NonNull String dataSourceName, @NonNull RuntimePersistentEntity<?> persistentEntity);
+
+    /**
+     * Cache the entity, the entity is not cached if the entities were invalidated since the generation was read.
+     *
+     * @param dataSourceName   The data source name
+     * @param scope            The scope of the entity, like the tenant schema, or null
+     * @param persistentEntity The persistent entity
+     * @param id               The entity ID
+     * @param entity           The entity
+     * @param generation       The generation read before the entity was loaded, see {@link #getGeneration(String, RuntimePersistentEntity)}
+     * @param <T>              The entity type
+     */
+    <T> void put(@NonNull String dataSourceName,
+                 @Nullable Object scope,
+                 @NonNull RuntimePersistentEntity<T> persistentEntity,
+                 @NonNull Object id,
+                 @NonNull T entity,
+                 long generation);
+
+    /**
+     * Invalidate the cached entity.
+     *
+     * @param dataSourceName   The data source name
+     * @param scope            The scope of the entity, like the tenant schema, or null
+     * @param persistentEntity The persistent entity
+     * @param id               The entity ID
+     */
+    void invalidate(@NonNull String dataSourceName, @Nullable Object scope, @NonNull RuntimePersistentEntity<?> persistentEntity, @NonNull Object id);
+
+    /**
+     * Invalidate all cached entities of the persistent entity in all the scopes.
+     *
+     * @param dataSourceName   The data source name
+     * @param persistentEntity The persistent entity
+     */
+    void invalidateAll(@NonNull String dataSourceName, @NonNull RuntimePersistentEntity<?> persistentEntity);
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.cache;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanProperty;
+import io.micronaut.core.type.Argument;
+import io.micronaut.data.model.runtime.RuntimeAssociation;
+import io.micronaut.data.model.runtime.RuntimePersistentEntity;
+import io.micronaut.data.model.runtime.RuntimePersistentProperty;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Copies the cached entities, the associated entities and the collections are copied, other values are shared.
+ *
+ * @since 4.10
+ */
+@Internal
+final class EntityCopier {
+
+    private EntityCopier() {
+    }
+
+    /**
+     * Copy the entity, the associated entities and the collections are copied, other values are shared.
+     *
+     * @param persistentEntity The persistent entity
+     * @param entity           The entity
+     * @param copies           The already copied entities
+     * @param <T>              The entity type
+     * @return The copy
+     */
+    static <T> T copy(RuntimePersistentEntity<T> persistentEntity, T entity, Map<Object, Object> copies) {
+        Object existing = copies.get(entity);
+        if (existing != null) {
+            return (T) existing;
+        }
+        BeanIntrospection<T> introspection = persistentEntity.getIntrospection();
+        Argument<?>[] constructorArguments = introspection.getConstructorArguments();
+        Object[] arguments = new Object[constructorArguments.length];
+        Set<String> constructorProperties = new HashSet<>(constructorArguments.length);
+        for (int i = 0; i < constructorArguments.length; i++) {
+            String name = constructorArguments[i].getName();
+            BeanProperty<T, Object> property = introspection.getProperty(name).orElse(null);
+            if (property != null) {
+                arguments[i] = copyValue(persistentEntity.getPropertyByName(name), property.get(entity), copies);
+                constructorProperties.add(name);
+            }
+        }
+        T copy = introspection.instantiate(false, arguments);
+        copies.put(entity, copy);
+        for (BeanProperty<T, Object> property : introspection.getBeanProperties()) {
+            if (!property.isReadOnly() && !constructorProperties.contains(property.getName())) {
+                property.set(copy, copyValue(persistentEntity.getPropertyByName(property.getName()), property.get(entity), copies));
+            }
+        }
+        return copy;
+    }
+
+    private static Object copyValue(@Nullable RuntimePersistentProperty<?> property, @Nullable Object value, Map<Object, Object> copies) {
+        if (value == null) {
+            return null;
+        }
+        RuntimePersistentEntity<Object> associatedEntity = property instanceof RuntimeAssociation<?> association
+            ? (RuntimePersistentEntity<Object>) association.getAssociatedEntity() : null;
+        if (value instanceof List<?> || value instanceof Set<?>) {
+            Collection<?> collection = (Collection<?>) value;
+            Collection<Object> copy = value instanceof Set<?> ? new LinkedHashSet<>(collection.size()) : new ArrayList<>(collection.size());
+            for (Object element : collection) {
+                copy.add(associatedEntity != null && associatedEntity.getIntrospection().getBeanType().isInstance(element)
+                    ? copy(associatedEntity, element, copies) : element);
+            }
+            return copy;
+        }
+        if (associatedEntity != null && associatedEntity.getIntrospection().getBeanType().isInstance(value)) {
+            return copy(associatedEntity, value, copies);
+        }
+        return value;
+    }
+}
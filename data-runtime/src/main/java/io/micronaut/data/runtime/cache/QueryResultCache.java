@@ -0,0 +1,271 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.cache;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
+import io.micronaut.data.annotation.CachedQuery;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.runtime.PreparedQuery;
+import io.micronaut.data.model.runtime.RuntimePersistentEntity;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The cache of the results of the query methods annotated with {@link CachedQuery}.
+ * Every method has a separate region bounded by {@link CachedQuery#maximumSize()}, evicting the least recently used results.
+ * The results are invalidated by the table generations: every write to a table increments its generation and
+ * the results read with a different generation of any of their tables are not served.
+ * The entities of the results are copied when cached and when read, like the entities of the {@link DefaultEntityCacheStore},
+ * other results, like DTOs, are shared by all the readers and should be immutable.
+ *
+ * @since 4.10
+ */
+@Singleton
+public class QueryResultCache {
+
+    private final Map<String, AtomicLong> tableGenerations = new ConcurrentHashMap<>(10);
+    private final Map<RegionKey, Region> regions = new ConcurrentHashMap<>(10);
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    /**
+     * Look up the cached result of the query.
+     *
+     * @param dataSourceName The data source name
+     * @param preparedQuery  The prepared query
+     * @param entity         The queried entity, its instances in the result are copied
+     * @param scope          The additional scope of the result, like the tenant schema
+     * @param tables         The tables read by the query
+     * @param many           Whether the result is a list
+     * @return The lookup, allowing to cache the result if missing
+     */
+    @NonNull
+    public Lookup lookup(@NonNull String dataSourceName,
+                         @NonNull PreparedQuery<?, ?> preparedQuery,
+                         @NonNull RuntimePersistentEntity<?> entity,
+                         @Nullable Object scope,
+                         @NonNull String[] tables,
+                         boolean many) {
+        Region region = regions.computeIfAbsent(
+            new RegionKey(dataSourceName, preparedQuery.getRepositoryType(), preparedQuery.getName(), preparedQuery.getQuery(), many),
+            key -> newRegion(preparedQuery)
+        );
+        ResultKey resultKey = new ResultKey(
+            Arrays.asList(preparedQuery.getParameterArray().clone()),
+            preparedQuery.getPageable(),
+            scope
+        );
+        long[] generations = new long[tables.length];
+        for (int i = 0; i < tables.length; i++) {
+            generations[i] = getGeneration(tables[i]).get();
+        }
+        Entry entry = region.entries.get(resultKey);
+        if (entry != null) {
+            if (entry.isExpired()) {
+                if (region.entries.remove(resultKey, entry)) {
+                    evictionCount.increment();
+                }
+            } else if (Arrays.equals(entry.generations, generations)) {
+                hitCount.increment();
+                return new Lookup(region, (RuntimePersistentEntity<Object>) entity, resultKey, generations, entry);
+            }
+        }
+        missCount.increment();
+        return new Lookup(region, (RuntimePersistentEntity<Object>) entity, resultKey, generations, null);
+    }
+
+    /**
+     * Invalidate the cached results reading the table.
+     *
+     * @param table The table name
+     */
+    public void invalidate(@NonNull String table) {
+        getGeneration(table).incrementAndGet();
+        invalidationCount.increment();
+    }
+
+    /**
+     * @return The count of the lookups served by the cache
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return The count of the lookups not served by the cache
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return The count of the results evicted by the size limit or the expiration
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * @return The count of the table invalidations
+     */
+    public long getInvalidationCount() {
+        return invalidationCount.sum();
+    }
+
+    private AtomicLong getGeneration(String table) {
+        return tableGenerations.computeIfAbsent(table, t -> new AtomicLong());
+    }
+
+    private Region newRegion(PreparedQuery<?, ?> preparedQuery) {
+        long maximumSize = preparedQuery.getAnnotationMetadata().longValue(CachedQuery.class, "maximumSize")
+            .orElse(CachedQuery.DEFAULT_MAXIMUM_SIZE);
+        String expireAfterWrite = preparedQuery.getAnnotationMetadata().stringValue(CachedQuery.class, "expireAfterWrite").orElse(null);
+        long expireAfterWriteNanos = StringUtils.isNotEmpty(expireAfterWrite) ? Duration.parse(expireAfterWrite).toNanos() : 0;
+        return new Region(
+            new ConcurrentLinkedHashMap.Builder<ResultKey, Entry>()
+                .maximumWeightedCapacity(maximumSize)
+                .listener((key, value) -> evictionCount.increment())
+                .build(),
+            expireAfterWriteNanos
+        );
+    }
+
+    /**
+     * The lookup of a query result.
+     */
+    public static final class Lookup {
+
+        private final Region region;
+        private final RuntimePersistentEntity<Object> entity;
+        private final ResultKey resultKey;
+        private final long[] generations;
+        @Nullable
+        private final Entry entry;
+
+        private Lookup(Region region, RuntimePersistentEntity<Object> entity, ResultKey resultKey, long[] generations, @Nullable Entry entry) {
+            this.region = region;
+            this.entity = entity;
+            this.resultKey = resultKey;
+            this.generations = generations;
+            this.entry = entry;
+        }
+
+        /**
+         * @return Whether the result is cached
+         */
+        public boolean isHit() {
+            return entry != null;
+        }
+
+        /**
+         * @return The copy of the cached result, can be null if the query returned no result
+         */
+        @Nullable
+        public Object getResult() {
+            return entry == null ? null : copy(entry.result);
+        }
+
+        /**
+         * Cache the result of the query.
+         * The result is bound to the table generations of the lookup, it is never served if a table was modified since.
+         *
+         * @param result The result
+         */
+        public void cache(@Nullable Object result) {
+            long expiresAt = region.expireAfterWriteNanos > 0 ? System.nanoTime() + region.expireAfterWriteNanos : 0;
+            region.entries.put(resultKey, new Entry(copy(result), generations, expiresAt));
+        }
+
+        private Object copy(@Nullable Object result) {
+            Map<Object, Object> copies = new IdentityHashMap<>();
+            if (result instanceof List<?> list) {
+                List<Object> copy = new ArrayList<>(list.size());
+                for (Object element : list) {
+                    copy.add(copyEntity(element, copies));
+                }
+                return Collections.unmodifiableList(copy);
+            }
+            return copyEntity(result, copies);
+        }
+
+        private Object copyEntity(@Nullable Object value, Map<Object, Object> copies) {
+            if (entity.getIntrospection().getBeanType().isInstance(value)) {
+                return EntityCopier.copy(entity, value, copies);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * The region key of a query method.
+     *
+     * @param dataSourceName The data source name
+     * @param repositoryType The repository type
+     * @param name           The query name
+     * @param query          The query
+     * @param many           Whether the result is a list
+     */
+    private record RegionKey(String dataSourceName, Class<?> repositoryType, String name, String query, boolean many) {
+    }
+
+    /**
+     * The cache region of a query method.
+     *
+     * @param entries               The entries
+     * @param expireAfterWriteNanos The expiration in nanoseconds, zero if the entries don't expire
+     */
+    private record Region(Map<ResultKey, Entry> entries, long expireAfterWriteNanos) {
+    }
+
+    /**
+     * The key of the query result.
+     *
+     * @param parameters The parameter values
+     * @param pageable   The pageable
+     * @param scope      The scope
+     */
+    private record ResultKey(List<Object> parameters, Pageable pageable, Object scope) {
+    }
+
+    /**
+     * The cached result.
+     *
+     * @param result      The result
+     * @param generations The generations of the query tables at the time of the read
+     * @param expiresAt   The expiration time in nanoseconds, zero if the entry doesn't expire
+     */
+    private record Entry(Object result, long[] generations, long expiresAt) {
+
+        boolean isExpired() {
+            return expiresAt != 0 && System.nanoTime() - expiresAt >= 0;
+        }
+    }
+}
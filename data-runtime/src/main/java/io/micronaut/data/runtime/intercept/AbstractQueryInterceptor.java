@@ -21,6 +21,7 @@ import io.micronaut.context.annotation.Parameter;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.beans.BeanIntrospection;
@@ -257,17 +258,45 @@ public abstract class AbstractQueryInterceptor<T, R> implements DataInterceptor<
      */
     @NonNull
     protected final PreparedQuery<?, Number> prepareCountQuery(RepositoryMethodKey methodKey, @NonNull MethodInvocationContext<T, R> context) {
-        StoredQuery storedQuery = countQueries.get(methodKey);
+        StoredQuery storedQuery = findCountStoredQuery(methodKey, context);
+
+        Pageable pageable = storedQuery.hasPageable() ? getPageable(context) : Pageable.UNPAGED;
+        //noinspection unchecked
+        PreparedQuery<?, Number> preparedQuery = preparedQueryResolver.resolveCountQuery(context, storedQuery, pageable);
+        return preparedQueryDecorator.decorate(preparedQuery);
+    }
+
+    private StoredQuery<?, ?> findCountStoredQuery(RepositoryMethodKey methodKey, MethodInvocationContext<?, ?> context) {
+        StoredQuery<?, ?> storedQuery = countQueries.get(methodKey);
         if (storedQuery == null) {
             storedQuery = storedQueryResolver.resolveCountQuery(context);
             storedQuery = storedQueryDecorator.decorate(context, storedQuery);
             countQueries.put(methodKey, storedQuery);
         }
+        return storedQuery;
+    }
 
-        Pageable pageable = storedQuery.hasPageable() ? getPageable(context) : Pageable.UNPAGED;
-        //noinspection unchecked
-        PreparedQuery<?, Number> preparedQuery = preparedQueryResolver.resolveCountQuery(context, storedQuery, pageable);
-        return preparedQueryDecorator.decorate(preparedQuery);
+    /**
+     * Resolves and caches the stored queries of the method before its first invocation.
+     *
+     * @param methodKey The method key
+     * @param context   The context of the method, the parameter values are not used
+     * @return The count of the resolved stored queries
+     * @since 4.10
+     */
+    @Internal
+    public final int warmUp(@NonNull RepositoryMethodKey methodKey, @NonNull MethodInvocationContext<?, ?> context) {
+        AnnotationValue<Annotation> dataMethod = context.getAnnotation(DataMethod.NAME);
+        if (dataMethod == null || dataMethod.stringValue().isEmpty()) {
+            // The method without a stored query, for example, the criteria method
+            return 0;
+        }
+        findStoreQuery(methodKey, context);
+        if (dataMethod.getAnnotation(DataMethod.META_MEMBER_COUNT_QUERY).isPresent()) {
+            findCountStoredQuery(methodKey, context);
+            return 2;
+        }
+        return 1;
     }
 
     /**
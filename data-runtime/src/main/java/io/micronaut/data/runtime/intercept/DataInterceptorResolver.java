@@ -80,6 +80,25 @@ final class DataInterceptorResolver {
         return dataInterceptor;
     }
 
+    /**
+     * Resolves the interceptor of the repository method and its stored queries before the first invocation.
+     *
+     * @param key     The method key
+     * @param context The context of the method
+     * @return The count of the resolved stored queries
+     */
+    int warmUp(@NonNull RepositoryMethodKey key, @NonNull MethodInvocationContext<Object, Object> context) {
+        if (tenantResolver != null) {
+            // The interceptors of the data source tenants are resolved by the tenant of the invocation
+            return 0;
+        }
+        DataInterceptor<Object, Object> dataInterceptor = resolve(key, context, null);
+        if (dataInterceptor instanceof AbstractQueryInterceptor<Object, Object> queryInterceptor) {
+            return queryInterceptor.warmUp(key, context);
+        }
+        return 0;
+    }
+
     private DataInterceptor<Object, Object> findDataInterceptor(MethodInvocationContext<Object, Object> context, InjectionPoint<?> injectionPoint, String tenantDataSourceName) {
         final String dataSourceName;
         if (tenantDataSourceName == null) {
@@ -29,9 +29,15 @@ import io.micronaut.data.model.Pageable.Mode;
 import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.operations.RepositoryOperations;
+import io.micronaut.data.operations.async.AsyncCapableRepository;
+import io.micronaut.data.runtime.operations.internal.ConcurrentPageCountOperations;
 import io.micronaut.data.runtime.operations.internal.sql.DefaultSqlPreparedQuery;
+import io.micronaut.data.runtime.operations.internal.sql.WindowCountOperations;
+import io.micronaut.data.runtime.operations.internal.sql.WindowCountOperations.WindowCountResult;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * An abstract base implementation of query interceptor for page interceptors
@@ -58,12 +64,48 @@ public abstract class DefaultAbstractFindPageInterceptor<T, R> extends AbstractQ
         Class<R> returnType = context.getReturnType().getType();
         if (context.hasAnnotation(Query.class)) {
             PreparedQuery<?, ?> preparedQuery = prepareQuery(methodKey, context);
-
-            Iterable<?> iterable = operations.findAll(preparedQuery);
-            List<R> results = (List<R>) CollectionUtils.iterableToList(iterable);
             Pageable pageable = getPageable(context);
+
+            List<R> results = null;
             Long totalCount = null;
-            if (pageable.requestTotal()) {
+            if (pageable.requestTotal() && pageable.getMode() == Mode.OFFSET
+                && operations instanceof WindowCountOperations windowCountOperations) {
+                WindowCountResult<?> windowCountResult = windowCountOperations.findAllWithWindowCount(preparedQuery);
+                if (windowCountResult != null) {
+                    results = (List<R>) windowCountResult.results();
+                    totalCount = windowCountResult.totalCount();
+                    if (totalCount == null && pageable.getOffset() == 0) {
+                        // The first page is empty, there are no results
+                        totalCount = 0L;
+                    }
+                }
+            }
+            if (results == null) {
+                CompletableFuture<Number> concurrentCount = null;
+                if (pageable.requestTotal()
+                    && operations instanceof ConcurrentPageCountOperations concurrentPageCountOperations
+                    && concurrentPageCountOperations.isConcurrentPageCount()
+                    && operations instanceof AsyncCapableRepository asyncCapableRepository) {
+                    // The count query is executed by a different connection while the page is read
+                    PreparedQuery<?, Number> countQuery = prepareCountQuery(methodKey, context);
+                    concurrentCount = asyncCapableRepository.async().findOne(countQuery).toCompletableFuture();
+                }
+                try {
+                    Iterable<?> iterable = operations.findAll(preparedQuery);
+                    results = (List<R>) CollectionUtils.iterableToList(iterable);
+                } catch (RuntimeException e) {
+                    if (concurrentCount != null) {
+                        // The count of the failed page is not needed
+                        concurrentCount.cancel(false);
+                    }
+                    throw e;
+                }
+                if (concurrentCount != null) {
+                    Number n = joinCount(concurrentCount);
+                    totalCount = n != null ? n.longValue() : null;
+                }
+            }
+            if (pageable.requestTotal() && totalCount == null) {
                 PreparedQuery<?, Number> countQuery = prepareCountQuery(methodKey, context);
                 Number n = operations.findOne(countQuery);
                 totalCount = n != null ? n.longValue() : null;
@@ -104,4 +146,15 @@ public abstract class DefaultAbstractFindPageInterceptor<T, R> extends AbstractQ
             }
         }
     }
+
+    private static Number joinCount(CompletableFuture<Number> count) {
+        try {
+            return count.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.intercept;
+
+import io.micronaut.aop.Interceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.aop.chain.MethodInterceptorChain;
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.intercept.RepositoryMethodKey;
+import io.micronaut.data.intercept.annotation.DataMethod;
+import io.micronaut.data.runtime.config.DataSettings;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Resolves the stored queries of all the repository methods at the startup, so that the first invocation
+ * of a method doesn't pay for building its queries. The methods whose queries cannot be resolved are reported.
+ *
+ * @since 4.10
+ */
+@Internal
+@Singleton
+@Requires(property = RepositoryWarmUp.ENABLED_PROPERTY, value = StringUtils.TRUE)
+final class RepositoryWarmUp implements ApplicationEventListener<StartupEvent> {
+
+    static final String ENABLED_PROPERTY = DataSettings.PREFIX + ".warm-up.enabled";
+
+    private static final Logger LOG = LoggerFactory.getLogger(RepositoryWarmUp.class);
+
+    private final BeanContext beanContext;
+    private final DataInterceptorResolver dataInterceptorResolver;
+
+    RepositoryWarmUp(BeanContext beanContext, DataInterceptorResolver dataInterceptorResolver) {
+        this.beanContext = beanContext;
+        this.dataInterceptorResolver = dataInterceptorResolver;
+    }
+
+    @Override
+    public void onApplicationEvent(StartupEvent event) {
+        long start = System.nanoTime();
+        List<MethodInvocationContext<Object, Object>> methods = collectRepositoryMethods();
+        AtomicInteger queries = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        // The interceptors and their query caches are thread-safe, the queries are built in parallel
+        methods.parallelStream().forEach(context -> {
+            try {
+                RepositoryMethodKey key = new RepositoryMethodKey(context.getTarget(), context.getExecutableMethod());
+                queries.addAndGet(dataInterceptorResolver.warmUp(key, context));
+            } catch (Exception e) {
+                failures.incrementAndGet();
+                LOG.warn("Failed to resolve the queries of the repository method [{}]: {}", context.getExecutableMethod(), e.getMessage(), e);
+            }
+        });
+        if (LOG.isInfoEnabled()) {
+            LOG.info("Resolved {} stored queries of {} repository methods in {}ms, {} methods failed",
+                queries.get(), methods.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), failures.get());
+        }
+    }
+
+    private List<MethodInvocationContext<Object, Object>> collectRepositoryMethods() {
+        List<MethodInvocationContext<Object, Object>> methods = new ArrayList<>();
+        for (BeanDefinition<Object> definition : beanContext.getBeanDefinitions(Object.class, Qualifiers.byStereotype(Repository.class))) {
+            Object repository;
+            try {
+                repository = beanContext.getBean(definition);
+            } catch (Exception e) {
+                LOG.warn("Failed to create the repository [{}]: {}", definition.getBeanType().getName(), e.getMessage(), e);
+                continue;
+            }
+            for (ExecutableMethod<Object, ?> method : definition.getExecutableMethods()) {
+                if (method.hasAnnotation(DataMethod.class)) {
+                    // The context of the method without the parameter values, the queries are resolved by the method metadata
+                    methods.add(new MethodInterceptorChain<>(
+                        new Interceptor[0],
+                        repository,
+                        (ExecutableMethod<Object, Object>) method,
+                        new Object[method.getArguments().length]
+                    ));
+                }
+            }
+        }
+        return methods;
+    }
+}
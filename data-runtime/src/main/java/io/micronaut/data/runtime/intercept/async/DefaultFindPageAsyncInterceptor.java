@@ -24,6 +24,7 @@ import io.micronaut.data.intercept.async.FindPageAsyncInterceptor;
 import io.micronaut.data.model.Page;
 import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.operations.RepositoryOperations;
+import io.micronaut.data.runtime.operations.internal.ConcurrentPageCountOperations;
 
 import java.util.List;
 import java.util.concurrent.CompletionStage;
@@ -50,6 +51,15 @@ public class DefaultFindPageAsyncInterceptor extends AbstractConvertCompletionSt
         if (context.hasAnnotation(Query.class)) {
             PreparedQuery<?, ?> preparedQuery = prepareQuery(methodKey, context);
             PreparedQuery<?, Number> countQuery = prepareCountQuery(methodKey, context);
+            if (operations instanceof ConcurrentPageCountOperations concurrentPageCountOperations
+                && concurrentPageCountOperations.isConcurrentPageCount()) {
+                // Both queries are executed at the same time by different connections
+                return asyncDatastoreOperations.findOne(countQuery)
+                    .thenCombine(asyncDatastoreOperations.findAll(preparedQuery), (total, objects) -> {
+                        List<Object> resultList = CollectionUtils.iterableToList((Iterable<Object>) objects);
+                        return Page.of(resultList, getPageable(context), total.longValue());
+                    });
+            }
             return asyncDatastoreOperations.findOne(countQuery)
                 .thenCompose(total -> asyncDatastoreOperations.findAll(preparedQuery)
                     .thenApply(objects -> {
@@ -59,16 +59,19 @@ public abstract class AbstractPreparedQueryCriteriaRepositoryOperations {
     private final PreparedQueryResolver preparedQueryResolver;
     private final MethodInvocationContext<?, ?> context;
     private final QueryBuilder queryBuilder;
+    private final CriteriaQueryResultCache queryResultCache;
     private final Class<?> entityRoot;
     private final Pageable pageable;
 
     protected AbstractPreparedQueryCriteriaRepositoryOperations(RepositoryOperations operations,
                                                                 MethodInvocationContext<?, ?> context,
                                                                 QueryBuilder queryBuilder,
+                                                                CriteriaQueryResultCache queryResultCache,
                                                                 Class<?> entityRoot,
                                                                 Pageable pageable) {
         this.context = context;
         this.queryBuilder = queryBuilder;
+        this.queryResultCache = queryResultCache;
         this.entityRoot = entityRoot;
         this.pageable = pageable == null ? Pageable.unpaged() : pageable;
         if (operations instanceof MethodContextAwareStoredQueryDecorator) {
@@ -133,7 +136,7 @@ public abstract class AbstractPreparedQueryCriteriaRepositoryOperations {
     private <E, T> StoredQuery<E, T> buildFind(CriteriaQuery<T> criteriaQuery,
                                                boolean isSingle) {
 
-        QueryResult queryResult = ((QueryResultPersistentEntityCriteriaQuery) criteriaQuery).buildQuery(context, queryBuilder);
+        QueryResult queryResult = queryResultCache.buildQuery((QueryResultPersistentEntityCriteriaQuery) criteriaQuery, context, queryBuilder);
         Collection<JoinPath> joinPaths = queryResult.getJoinPaths();
         Selection<?> selection = ((AbstractPersistentEntityCriteriaQuery<?>) criteriaQuery).getSelection();
         boolean isCompoundSelection = selection != null && selection.isCompoundSelection();
@@ -146,7 +149,7 @@ public abstract class AbstractPreparedQueryCriteriaRepositoryOperations {
     }
 
     private <E> StoredQuery<E, ?> buildExists(CriteriaQuery<?> criteriaQuery) {
-        QueryResult queryResult = ((QueryResultPersistentEntityCriteriaQuery) criteriaQuery).buildQuery(context, queryBuilder);
+        QueryResult queryResult = queryResultCache.buildQuery((QueryResultPersistentEntityCriteriaQuery) criteriaQuery, context, queryBuilder);
 
         return QueryResultStoredQuery.single(StoredQuery.OperationType.EXISTS, context.getName(), context.getAnnotationMetadata(),
             queryResult, (Class<E>) entityRoot);
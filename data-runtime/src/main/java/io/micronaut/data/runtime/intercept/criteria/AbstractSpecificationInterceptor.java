@@ -85,6 +85,7 @@ public abstract class AbstractSpecificationInterceptor<T, R> extends AbstractQue
     protected final CriteriaBuilder criteriaBuilder;
     private final Map<RepositoryMethodKey, QueryBuilder> sqlQueryBuilderForRepositories = new ConcurrentHashMap<>();
     private final Map<RepositoryMethodKey, Set<JoinPath>> methodsJoinPaths = new ConcurrentHashMap<>();
+    private final Map<RepositoryMethodKey, CriteriaQueryResultCache> queryResultCaches = new ConcurrentHashMap<>();
 
     /**
      * Default constructor.
@@ -114,6 +115,7 @@ public abstract class AbstractSpecificationInterceptor<T, R> extends AbstractQue
             operations,
             context,
             sqlQueryBuilder,
+            getCriteriaQueryResultCache(methodKey),
             getRequiredRootEntity(context),
             pageable
         );
@@ -174,6 +176,21 @@ public abstract class AbstractSpecificationInterceptor<T, R> extends AbstractQue
         );
     }
 
+    /**
+     * Get the cache of the queries built from the criteria of the method.
+     *
+     * @param methodKey The method key
+     * @return The cache
+     * @since 4.10
+     */
+    @NonNull
+    protected final CriteriaQueryResultCache getCriteriaQueryResultCache(RepositoryMethodKey methodKey) {
+        return queryResultCaches.computeIfAbsent(methodKey, repositoryMethodKey -> new CriteriaQueryResultCache(
+            operations.getApplicationContext().getProperty(CriteriaQueryResultCache.MAX_QUERY_SHAPES_PROPERTY, Integer.class)
+                .orElse(CriteriaQueryResultCache.DEFAULT_MAX_QUERY_SHAPES)
+        ));
+    }
+
     @NonNull
     protected final <E> CriteriaQuery<E> buildExistsQuery(RepositoryMethodKey methodKey, MethodInvocationContext<?, ?> context) {
         return this.<E>getCriteriaQueryBuilder(context, getMethodJoinPaths(methodKey, context)).build(criteriaBuilder);
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.intercept.criteria;
+
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
+import io.micronaut.data.model.DataType;
+import io.micronaut.data.model.JsonDataType;
+import io.micronaut.data.model.jpa.criteria.impl.AbstractPersistentEntityCriteriaQuery;
+import io.micronaut.data.model.jpa.criteria.impl.CriteriaQueryShape;
+import io.micronaut.data.model.jpa.criteria.impl.QueryResultPersistentEntityCriteriaQuery;
+import io.micronaut.data.model.query.JoinPath;
+import io.micronaut.data.model.query.builder.QueryBuilder;
+import io.micronaut.data.model.query.builder.QueryParameterBinding;
+import io.micronaut.data.model.query.builder.QueryResult;
+import io.micronaut.data.runtime.config.DataSettings;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The cache of the queries built from the criteria of a repository method.
+ * The queries are cached by the {@link CriteriaQueryShape}, so a criteria with the same structure and different
+ * parameter values skips the query building; the cached query is bound to the values of the new criteria.
+ * The count of the cached shapes of a method is configured by {@value #MAX_QUERY_SHAPES_PROPERTY}, a list of values
+ * of a different size is a different shape, the least recently used shapes are evicted.
+ *
+ * @since 4.10
+ */
+@Internal
+public final class CriteriaQueryResultCache {
+
+    /**
+     * The property of the maximum count of the cached query shapes of a method.
+     */
+    public static final String MAX_QUERY_SHAPES_PROPERTY = DataSettings.PREFIX + ".criteria.max-query-shapes";
+
+    /**
+     * The default maximum count of the cached query shapes of a method.
+     */
+    public static final int DEFAULT_MAX_QUERY_SHAPES = 512;
+
+    private static final int NOT_A_PARAMETER = -1;
+
+    private final Map<List<Object>, CachedQueryResult> queryResults;
+
+    /**
+     * The cache with the default capacity.
+     */
+    public CriteriaQueryResultCache() {
+        this(DEFAULT_MAX_QUERY_SHAPES);
+    }
+
+    /**
+     * @param maxQueryShapes The maximum count of the cached query shapes
+     */
+    public CriteriaQueryResultCache(int maxQueryShapes) {
+        if (maxQueryShapes < 1) {
+            throw new IllegalArgumentException("The maximum count of the query shapes must be positive: " + maxQueryShapes);
+        }
+        this.queryResults = new ConcurrentLinkedHashMap.Builder<List<Object>, CachedQueryResult>()
+            .maximumWeightedCapacity(maxQueryShapes)
+            .build();
+    }
+
+    /**
+     * @return The count of the cached query shapes
+     */
+    public int size() {
+        return queryResults.size();
+    }
+
+    /**
+     * Build the query of the criteria or reuse the query built for a criteria of the same shape.
+     *
+     * @param criteriaQuery      The criteria query
+     * @param annotationMetadata The annotation metadata
+     * @param queryBuilder       The query builder
+     * @return The query result
+     */
+    @NonNull
+    public QueryResult buildQuery(@NonNull QueryResultPersistentEntityCriteriaQuery criteriaQuery,
+                                  @NonNull AnnotationMetadata annotationMetadata,
+                                  @NonNull QueryBuilder queryBuilder) {
+        CriteriaQueryShape shape = criteriaQuery instanceof AbstractPersistentEntityCriteriaQuery<?> query ? CriteriaQueryShape.of(query) : null;
+        if (shape == null) {
+            return criteriaQuery.buildQuery(annotationMetadata, queryBuilder);
+        }
+        CachedQueryResult cachedQueryResult = queryResults.get(shape.getKey());
+        if (cachedQueryResult != null) {
+            return cachedQueryResult.bind(shape.getParameterValues());
+        }
+        QueryResult queryResult = criteriaQuery.buildQuery(annotationMetadata, queryBuilder);
+        int[] parameterIndexes = resolveParameterIndexes(queryResult.getParameterBindings(), shape.getParameterValues());
+        if (parameterIndexes != null) {
+            queryResults.put(shape.getKey(), new CachedQueryResult(queryResult, parameterIndexes));
+        }
+        return queryResult;
+    }
+
+    /**
+     * Resolve the index of the parameter value of every binding.
+     * The bindings are matched by the identity of the values, the query is not cached if the values cannot be
+     * distinguished or a binding has a value not coming from the parameters.
+     *
+     * @param bindings        The bindings
+     * @param parameterValues The parameter values
+     * @return The parameter indexes or null if the bindings cannot be matched
+     */
+    @Nullable
+    private static int[] resolveParameterIndexes(List<QueryParameterBinding> bindings, List<Object> parameterValues) {
+        Map<Object, Integer> indexes = new IdentityHashMap<>(parameterValues.size());
+        for (int i = 0; i < parameterValues.size(); i++) {
+            Object value = parameterValues.get(i);
+            if (value == null || indexes.put(value, i) != null) {
+                return null;
+            }
+        }
+        int[] parameterIndexes = new int[bindings.size()];
+        for (int i = 0; i < bindings.size(); i++) {
+            Object value = bindings.get(i).getValue();
+            if (value == null) {
+                parameterIndexes[i] = NOT_A_PARAMETER;
+            } else {
+                Integer index = indexes.get(value);
+                if (index == null) {
+                    return null;
+                }
+                parameterIndexes[i] = index;
+            }
+        }
+        return parameterIndexes;
+    }
+
+    /**
+     * The cached query.
+     *
+     * @param queryResult      The query built for the first criteria of the shape
+     * @param parameterIndexes The index of the parameter value of every binding
+     */
+    private record CachedQueryResult(QueryResult queryResult, int[] parameterIndexes) {
+
+        QueryResult bind(List<Object> parameterValues) {
+            List<QueryParameterBinding> bindings = queryResult.getParameterBindings();
+            List<QueryParameterBinding> boundBindings = new ArrayList<>(bindings.size());
+            for (int i = 0; i < bindings.size(); i++) {
+                int parameterIndex = parameterIndexes[i];
+                QueryParameterBinding binding = bindings.get(i);
+                boundBindings.add(parameterIndex == NOT_A_PARAMETER ? binding : new BoundQueryParameterBinding(binding, parameterValues.get(parameterIndex)));
+            }
+            return new BoundQueryResult(queryResult, boundBindings);
+        }
+    }
+
+    /**
+     * The cached query with the new bindings.
+     *
+     * @param queryResult       The cached query
+     * @param parameterBindings The bindings
+     */
+    private record BoundQueryResult(QueryResult queryResult,
+                                    List<QueryParameterBinding> parameterBindings) implements QueryResult {
+
+        @Override
+        public String getQuery() {
+            return queryResult.getQuery();
+        }
+
+        @Override
+        public String getUpdate() {
+            return queryResult.getUpdate();
+        }
+
+        @Override
+        public String getAggregate() {
+            return queryResult.getAggregate();
+        }
+
+        @Override
+        public List<String> getQueryParts() {
+            return queryResult.getQueryParts();
+        }
+
+        @Override
+        public List<QueryParameterBinding> getParameterBindings() {
+            return parameterBindings;
+        }
+
+        @Override
+        public Map<String, String> getAdditionalRequiredParameters() {
+            return queryResult.getAdditionalRequiredParameters();
+        }
+
+        @Override
+        public int getMax() {
+            return queryResult.getMax();
+        }
+
+        @Override
+        public long getOffset() {
+            return queryResult.getOffset();
+        }
+
+        @Override
+        public Collection<JoinPath> getJoinPaths() {
+            return queryResult.getJoinPaths();
+        }
+    }
+
+    /**
+     * The cached binding with the value of the new criteria.
+     *
+     * @param binding The cached binding
+     * @param value   The value
+     */
+    private record BoundQueryParameterBinding(QueryParameterBinding binding, Object value) implements QueryParameterBinding {
+
+        @Override
+        public String getName() {
+            return binding.getName();
+        }
+
+        @Override
+        public String getKey() {
+            return binding.getKey();
+        }
+
+        @Override
+        public DataType getDataType() {
+            return binding.getDataType();
+        }
+
+        @Override
+        public JsonDataType getJsonDataType() {
+            return binding.getJsonDataType();
+        }
+
+        @Override
+        public String getConverterClassName() {
+            return binding.getConverterClassName();
+        }
+
+        @Override
+        public int getParameterIndex() {
+            return binding.getParameterIndex();
+        }
+
+        @Override
+        public String[] getParameterBindingPath() {
+            return binding.getParameterBindingPath();
+        }
+
+        @Override
+        public String[] getPropertyPath() {
+            return binding.getPropertyPath();
+        }
+
+        @Override
+        public boolean isAutoPopulated() {
+            return binding.isAutoPopulated();
+        }
+
+        @Override
+        public boolean isRequiresPreviousPopulatedValue() {
+            return binding.isRequiresPreviousPopulatedValue();
+        }
+
+        @Override
+        public boolean isExpandable() {
+            return binding.isExpandable();
+        }
+
+        @Override
+        public Object getValue() {
+            return value;
+        }
+
+        @Override
+        public boolean isExpression() {
+            return binding.isExpression();
+        }
+
+        @Override
+        public String getRole() {
+            return binding.getRole();
+        }
+
+        @Override
+        public String getTableAlias() {
+            return binding.getTableAlias();
+        }
+    }
+}
@@ -46,9 +46,10 @@ final class PreparedQueryCriteriaRepositoryOperations extends AbstractPreparedQu
                                                      RepositoryOperations operations,
                                                      MethodInvocationContext<?, ?> context,
                                                      QueryBuilder queryBuilder,
+                                                     CriteriaQueryResultCache queryResultCache,
                                                      Class<?> entityRoot,
                                                      Pageable pageable) {
-        super(operations, context, queryBuilder, entityRoot, pageable);
+        super(operations, context, queryBuilder, queryResultCache, entityRoot, pageable);
         this.criteriaBuilder = criteriaBuilder;
         this.operations = operations;
     }
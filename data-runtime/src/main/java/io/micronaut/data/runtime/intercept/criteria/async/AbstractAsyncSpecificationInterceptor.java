@@ -86,6 +86,7 @@ public abstract class AbstractAsyncSpecificationInterceptor<T, R> extends Abstra
             operations,
             context,
             sqlQueryBuilder,
+            getCriteriaQueryResultCache(methodKey),
             getRequiredRootEntity(context),
             pageable
         );
@@ -24,6 +24,7 @@ import io.micronaut.data.operations.RepositoryOperations;
 import io.micronaut.data.operations.async.AsyncCriteriaRepositoryOperations;
 import io.micronaut.data.operations.async.AsyncRepositoryOperations;
 import io.micronaut.data.runtime.intercept.criteria.AbstractPreparedQueryCriteriaRepositoryOperations;
+import io.micronaut.data.runtime.intercept.criteria.CriteriaQueryResultCache;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
@@ -49,9 +50,10 @@ final class PreparedQueryAsyncCriteriaRepositoryOperations extends AbstractPrepa
                                                           RepositoryOperations operations,
                                                           MethodInvocationContext<?, ?> context,
                                                           QueryBuilder queryBuilder,
+                                                          CriteriaQueryResultCache queryResultCache,
                                                           Class<?> entityRoot,
                                                           Pageable pageable) {
-        super(operations, context, queryBuilder, entityRoot, pageable);
+        super(operations, context, queryBuilder, queryResultCache, entityRoot, pageable);
         this.criteriaBuilder = criteriaBuilder;
         this.operations = asyncRepositoryOperations;
     }
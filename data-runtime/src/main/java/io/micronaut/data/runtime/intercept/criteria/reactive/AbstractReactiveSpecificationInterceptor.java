@@ -80,6 +80,7 @@ public abstract class AbstractReactiveSpecificationInterceptor<T, R> extends Abs
             operations,
             context,
             sqlQueryBuilder,
+            getCriteriaQueryResultCache(methodKey),
             getRequiredRootEntity(context),
             pageable
         );
@@ -23,6 +23,7 @@ import io.micronaut.data.operations.RepositoryOperations;
 import io.micronaut.data.operations.reactive.ReactiveCriteriaRepositoryOperations;
 import io.micronaut.data.operations.reactive.ReactiveRepositoryOperations;
 import io.micronaut.data.runtime.intercept.criteria.AbstractPreparedQueryCriteriaRepositoryOperations;
+import io.micronaut.data.runtime.intercept.criteria.CriteriaQueryResultCache;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
@@ -46,9 +47,10 @@ final class PreparedQueryReactiveCriteriaRepositoryOperations extends AbstractPr
                                                              RepositoryOperations operations,
                                                              MethodInvocationContext<?, ?> context,
                                                              QueryBuilder queryBuilder,
+                                                             CriteriaQueryResultCache queryResultCache,
                                                              Class<?> entityRoot,
                                                              Pageable pageable) {
-        super(operations, context, queryBuilder, entityRoot, pageable);
+        super(operations, context, queryBuilder, queryResultCache, entityRoot, pageable);
         this.criteriaBuilder = criteriaBuilder;
         this.operations = reactiveRepositoryOperations;
     }
@@ -27,9 +27,11 @@ import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.operations.RepositoryOperations;
+import io.micronaut.data.runtime.operations.internal.ConcurrentPageCountOperations;
 import io.micronaut.data.runtime.operations.internal.sql.DefaultSqlPreparedQuery;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -56,33 +58,42 @@ public class DefaultFindPageReactiveInterceptor extends AbstractPublisherInterce
             PreparedQuery<?, ?> preparedQuery = prepareQuery(methodKey, context);
             PreparedQuery<?, Number> countQuery = prepareCountQuery(methodKey, context);
 
+            if (operations instanceof ConcurrentPageCountOperations concurrentPageCountOperations
+                && concurrentPageCountOperations.isConcurrentPageCount()) {
+                // Both queries are subscribed at the same time and executed by different connections
+                return Mono.zip(
+                    Mono.from(reactiveOperations.findOne(countQuery)),
+                    Flux.from(reactiveOperations.findAll(preparedQuery)).collectList()
+                ).map(tuple -> createPage(preparedQuery, (List<Object>) tuple.getT2(), tuple.getT1()));
+            }
             return Flux.from(reactiveOperations.findOne(countQuery))
                 .flatMap(total -> {
                     Flux<Object> resultList = Flux.from(reactiveOperations.findAll(preparedQuery));
-                    return resultList.collectList().map(list -> {
-                            Pageable pageable = preparedQuery.getPageable();
-                            Page page;
-                            if (pageable.getMode() == Pageable.Mode.OFFSET) {
-                                page = Page.of(list, pageable, total.longValue());
-                            } else if (preparedQuery instanceof DefaultSqlPreparedQuery<?, ?> sqlPreparedQuery) {
-                                List<Pageable.Cursor> cursors;
-                                if (preparedQuery.getResultDataType() == DataType.ENTITY) {
-                                    cursors = sqlPreparedQuery.createCursors(list, pageable);
-                                } else if (sqlPreparedQuery.isDtoProjection()) {
-                                    RuntimePersistentEntity<Object> runtimePersistentEntity = (RuntimePersistentEntity<Object>) operations.getEntity(sqlPreparedQuery.getResultType());
-                                    cursors = sqlPreparedQuery.createCursors(list, pageable, runtimePersistentEntity);
-                                } else {
-                                    throw new IllegalStateException("CursoredPage cannot produce projection result");
-                                }
-                                page = CursoredPage.of(list, pageable, cursors, total.longValue());
-                            } else {
-                                throw new UnsupportedOperationException("Only offset pageable mode is supported by this query implementation");
-                            }
-                            return page;
-                        }
-                    );
+                    return resultList.collectList().map(list -> createPage(preparedQuery, list, total));
                 });
         }
         return reactiveOperations.findPage(getPagedQuery(context));
     }
+
+    private Page<Object> createPage(PreparedQuery<?, ?> preparedQuery, List<Object> list, Number total) {
+        Pageable pageable = preparedQuery.getPageable();
+        Page<Object> page;
+        if (pageable.getMode() == Pageable.Mode.OFFSET) {
+            page = Page.of(list, pageable, total.longValue());
+        } else if (preparedQuery instanceof DefaultSqlPreparedQuery<?, ?> sqlPreparedQuery) {
+            List<Pageable.Cursor> cursors;
+            if (preparedQuery.getResultDataType() == DataType.ENTITY) {
+                cursors = sqlPreparedQuery.createCursors(list, pageable);
+            } else if (sqlPreparedQuery.isDtoProjection()) {
+                RuntimePersistentEntity<Object> runtimePersistentEntity = (RuntimePersistentEntity<Object>) operations.getEntity(sqlPreparedQuery.getResultType());
+                cursors = sqlPreparedQuery.createCursors(list, pageable, runtimePersistentEntity);
+            } else {
+                throw new IllegalStateException("CursoredPage cannot produce projection result");
+            }
+            page = CursoredPage.of(list, pageable, cursors, total.longValue());
+        } else {
+            throw new UnsupportedOperationException("Only offset pageable mode is supported by this query implementation");
+        }
+        return page;
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.mapper.sql;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.runtime.mapper.ResultReader;
+
+/**
+ * The column index {@link ResultReader} that is able to resolve the native index of a column from the result set metadata.
+ * Used by {@link SqlResultRowPlan} to translate the column names into indexes once per result layout.
+ *
+ * @param <RS> The result set type
+ * @since 4.10
+ */
+@Internal
+public interface SqlColumnIndexResultReader<RS> extends ResultReader<RS, Integer> {
+
+    /**
+     * Get the number of columns of the result.
+     *
+     * @param resultSet The result set
+     * @return The column count
+     */
+    int getColumnCount(@NonNull RS resultSet);
+
+    /**
+     * Resolve the index of the column with the given name.
+     *
+     * @param resultSet  The result set
+     * @param columnName The column name
+     * @return The index usable with the column index reader or null if the column cannot be resolved unambiguously
+     */
+    @Nullable
+    Integer resolveColumnIndex(@NonNull RS resultSet, @NonNull String columnName);
+
+}
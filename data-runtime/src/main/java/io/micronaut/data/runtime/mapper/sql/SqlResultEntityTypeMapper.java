@@ -74,6 +74,9 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
     private final SqlJsonColumnReader<RS> jsonColumnReader;
     private final DataConversionService conversionService;
     private final BiFunction<RuntimePersistentEntity<Object>, Object, Object> eventListener;
+    private final SqlResultRowPlan rowPlan;
+    private final SqlColumnIndexResultReader<RS> columnIndexReader;
+    private SqlResultRowPlan.Node rowPlanRoot;
     private boolean callNext = true;
 
     /**
@@ -90,7 +93,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
             @NonNull RuntimePersistentEntity<R> entity,
             @NonNull ResultReader<RS, String> resultReader,
             @Nullable SqlJsonColumnReader<RS> jsonColumnReader, DataConversionService conversionService) {
-        this(entity, resultReader, Collections.emptySet(), prefix, jsonColumnReader, conversionService, null);
+        this(entity, resultReader, Collections.emptySet(), prefix, jsonColumnReader, conversionService, null, null, null);
     }
 
     /**
@@ -107,7 +110,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
             @NonNull ResultReader<RS, String> resultReader,
             @Nullable Set<JoinPath> joinPaths,
             @Nullable SqlJsonColumnReader<RS> jsonColumnReader, DataConversionService conversionService) {
-        this(entity, resultReader, joinPaths, null, jsonColumnReader, conversionService, null);
+        this(entity, resultReader, joinPaths, null, jsonColumnReader, conversionService, null, null, null);
     }
 
     /**
@@ -126,27 +129,58 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
             @Nullable Set<JoinPath> joinPaths,
             @Nullable SqlJsonColumnReader<RS> jsonColumnReader,
             @Nullable BiFunction<RuntimePersistentEntity<Object>, Object, Object> loadListener, DataConversionService conversionService) {
-        this(entity, resultReader, joinPaths, null, jsonColumnReader, conversionService, loadListener);
+        this(entity, resultReader, joinPaths, null, jsonColumnReader, conversionService, loadListener, null, null);
+    }
+
+    /**
+     * Constructor used to read the columns by the index resolved by the row plan.
+     *
+     * @param entity              The entity
+     * @param resultReader        The result reader
+     * @param joinPaths           The join paths
+     * @param jsonColumnReader    The json column reader
+     * @param loadListener        The event listener
+     * @param conversionService   The conversion service
+     * @param rowPlan             The row plan of the query
+     * @param columnIndexReader   The column index result reader
+     * @since 4.10
+     */
+    @SuppressWarnings("ParameterNumber")
+    public SqlResultEntityTypeMapper(
+            @NonNull RuntimePersistentEntity<R> entity,
+            @NonNull ResultReader<RS, String> resultReader,
+            @Nullable Set<JoinPath> joinPaths,
+            @Nullable SqlJsonColumnReader<RS> jsonColumnReader,
+            @Nullable BiFunction<RuntimePersistentEntity<Object>, Object, Object> loadListener,
+            DataConversionService conversionService,
+            @NonNull SqlResultRowPlan rowPlan,
+            @NonNull SqlColumnIndexResultReader<RS> columnIndexReader) {
+        this(entity, resultReader, joinPaths, null, jsonColumnReader, conversionService, loadListener, rowPlan, columnIndexReader);
     }
 
     /**
      * Constructor used to customize the join paths.
      *
-     * @param entity            The entity
-     * @param resultReader      The result reader
-     * @param joinPaths         The join paths
-     * @param startingPrefix    The starting prefix
-     * @param jsonColumnReader  The json column reader
-     * @param eventListener     The event listener used for trigger post load if configured
-     * @param conversionService The conversion service
+     * @param entity              The entity
+     * @param resultReader        The result reader
+     * @param joinPaths           The join paths
+     * @param startingPrefix      The starting prefix
+     * @param jsonColumnReader    The json column reader
+     * @param eventListener       The event listener used for trigger post load if configured
+     * @param conversionService   The conversion service
+     * @param rowPlan             The row plan
+     * @param columnIndexReader   The column index result reader
      */
+    @SuppressWarnings("ParameterNumber")
     private SqlResultEntityTypeMapper(
             @NonNull RuntimePersistentEntity<R> entity,
             @NonNull ResultReader<RS, String> resultReader,
             @Nullable Set<JoinPath> joinPaths,
             String startingPrefix,
             @Nullable SqlJsonColumnReader<RS> jsonColumnReader,
-            DataConversionService conversionService, @Nullable BiFunction<RuntimePersistentEntity<Object>, Object, Object> eventListener) {
+            DataConversionService conversionService, @Nullable BiFunction<RuntimePersistentEntity<Object>, Object, Object> eventListener,
+            @Nullable SqlResultRowPlan rowPlan,
+            @Nullable SqlColumnIndexResultReader<RS> columnIndexReader) {
         this.conversionService = conversionService;
         ArgumentUtils.requireNonNull("entity", entity);
         ArgumentUtils.requireNonNull("resultReader", resultReader);
@@ -154,6 +188,13 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         this.jsonColumnReader = jsonColumnReader;
         this.resultReader = resultReader;
         this.eventListener = eventListener;
+        if (rowPlan != null && columnIndexReader != null) {
+            this.rowPlan = rowPlan;
+            this.columnIndexReader = columnIndexReader;
+        } else {
+            this.rowPlan = null;
+            this.columnIndexReader = null;
+        }
         if (CollectionUtils.isNotEmpty(joinPaths)) {
             this.hasJoins = true;
             this.fetchJoinPaths = CollectionUtils.newLinkedHashMap(joinPaths.size());
@@ -205,7 +246,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
      */
     @NonNull
     public R readEntity(@NonNull RS rs) {
-        R entityInstance = readEntity(rs, MappingContext.of(entity, startingPrefix), null, null);
+        R entityInstance = readEntity(rs, newMappingContext(rs), null, null);
         if (entityInstance == null) {
             throw new DataAccessException("Unable to map result to entity of type [" + entity.getIntrospection().getBeanType() + "]. Missing result data.");
         }
@@ -262,12 +303,15 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         if (hasJoins) {
             return new PushingMapper<>() {
 
-                final MappingContext<R> ctx = MappingContext.of(entity, startingPrefix);
+                MappingContext<R> ctx;
                 Object entityId;
                 R entityInstance;
 
                 @Override
                 public void processRow(RS row) {
+                    if (ctx == null) {
+                        ctx = newMappingContext(row);
+                    }
                     Object id = readEntityId(row, ctx);
                     if (id == null) {
                         throw new IllegalStateException("Entity needs to have an ID when JOINs are used!");
@@ -295,13 +339,12 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         }
         return new PushingMapper<>() {
 
-            final MappingContext<R> ctx = MappingContext.of(entity, startingPrefix);
             R entityInstance;
 
             @Override
             public void processRow(RS row) {
                 if (entityInstance == null) {
-                    entityInstance = readEntity(row, ctx, null, null);
+                    entityInstance = readEntity(row, newMappingContext(row), null, null);
                 } else {
                     throw new NonUniqueResultException();
                 }
@@ -331,7 +374,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
 
                 @Override
                 public void processRow(RS row) {
-                    MappingContext<R> ctx = MappingContext.of(entity, startingPrefix);
+                    MappingContext<R> ctx = newMappingContext(row);
                     Object id = readEntityId(row, ctx);
                     if (id == null) {
                         throw new IllegalStateException("Entity needs to have an ID when JOINs are used!");
@@ -368,10 +411,13 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         return new PushingMapper<>() {
 
             final List<R> allProcessed = new ArrayList<>(20);
-            final MappingContext<R> ctx = MappingContext.of(entity, startingPrefix);
+            MappingContext<R> ctx;
 
             @Override
             public void processRow(RS row) {
+                if (ctx == null) {
+                    ctx = newMappingContext(row);
+                }
                 allProcessed.add(
                     readEntity(row, ctx, null, null)
                 );
@@ -381,7 +427,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
             public List<R> getResult() {
                 for (ListIterator<R> iterator = allProcessed.listIterator(); iterator.hasNext(); ) {
                     R entity = iterator.next();
-                    R newEntity = triggerPostLoad(ctx.persistentEntity, entity);
+                    R newEntity = triggerPostLoad(SqlResultEntityTypeMapper.this.entity, entity);
                     if (entity != newEntity) {
                         iterator.set(newEntity);
                     }
@@ -391,6 +437,60 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         };
     }
 
+    /**
+     * Read multiple entities with a grouping mapper emitting every entity once all of its rows are processed.
+     * The rows of one entity are required to be consecutive, for example, by ordering the query by the entity ID.
+     *
+     * @return The grouping mapper
+     * @since 4.10
+     */
+    public GroupingMapper<RS, R> readManyGroupingMapper() {
+        return new GroupingMapper<>() {
+
+            MappingContext<R> ctx;
+            Object entityId;
+
+            @Override
+            public R processRow(RS row) {
+                MappingContext<R> rowCtx = newMappingContext(row);
+                Object id = readEntityId(row, rowCtx);
+                if (id == null) {
+                    throw new IllegalStateException("Entity needs to have an ID when JOINs are used!");
+                }
+                if (ctx != null && entityId.equals(id)) {
+                    readChildren(row, ctx.entity, null, ctx);
+                    return null;
+                }
+                R previousEntity = complete();
+                rowCtx.entity = readEntity(row, rowCtx, null, id);
+                ctx = rowCtx;
+                entityId = id;
+                return previousEntity;
+            }
+
+            @Override
+            public R complete() {
+                if (ctx == null) {
+                    return null;
+                }
+                MappingContext<R> completedCtx = ctx;
+                ctx = null;
+                entityId = null;
+                if (!fetchJoinPaths.isEmpty()) {
+                    return (R) setChildrenAndTriggerPostLoad(completedCtx.entity, completedCtx, null);
+                }
+                return triggerPostLoad(completedCtx.persistentEntity, completedCtx.entity);
+            }
+        };
+    }
+
+    private MappingContext<R> newMappingContext(RS rs) {
+        if (rowPlan != null && rowPlanRoot == null) {
+            rowPlanRoot = rowPlan.getRoot(rs, columnIndexReader);
+        }
+        return MappingContext.of(entity, startingPrefix, rowPlanRoot);
+    }
+
     private void readChildren(RS rs, Object instance, Object parent, MappingContext<R> ctx) {
         if (ctx.manyAssociations != null) {
             Object id = readEntityId(rs, ctx);
@@ -691,21 +791,37 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         return true;
     }
 
-    private <K> Object readProperty(RS rs, MappingContext<K> ctx, RuntimePersistentProperty<K> prop) {
-        String columnName = ctx.namingStrategy.mappedName(ctx.embeddedPath, prop);
+    private <K> String getColumnName(MappingContext<K> ctx, RuntimePersistentProperty<K> prop) {
         String columnAlias = prop.getAlias();
         if (StringUtils.isNotEmpty(columnAlias)) {
-            columnName = columnAlias;
-        } else if (ctx.prefix != null && !ctx.prefix.isEmpty()) {
-            columnName = ctx.prefix + columnName;
+            return columnAlias;
+        }
+        String columnName = ctx.namingStrategy.mappedName(ctx.embeddedPath, prop);
+        if (ctx.prefix != null && !ctx.prefix.isEmpty()) {
+            return ctx.prefix + columnName;
         }
+        return columnName;
+    }
+
+    private <K> Object readProperty(RS rs, MappingContext<K> ctx, RuntimePersistentProperty<K> prop) {
         DataType dataType = prop.getDataType();
         Object result;
         if (dataType == DataType.JSON && jsonColumnReader != null) {
             JsonDataType jsonDataType = prop.getJsonDataType();
-            result = jsonColumnReader.readJsonColumn(resultReader, rs, columnName, jsonDataType, prop.getArgument());
+            result = jsonColumnReader.readJsonColumn(resultReader, rs, getColumnName(ctx, prop), jsonDataType, prop.getArgument());
+        } else if (ctx.rowPlan != null) {
+            Integer columnIndex = ctx.rowPlan.findColumnIndex(prop);
+            if (columnIndex == null) {
+                columnIndex = ctx.rowPlan.addColumnIndex(prop, columnIndexReader.resolveColumnIndex(rs, getColumnName(ctx, prop)));
+            }
+            if (columnIndex < 0) {
+                // The column cannot be resolved by the index, let the name reader decide
+                result = resultReader.readDynamic(rs, getColumnName(ctx, prop), dataType);
+            } else {
+                result = columnIndexReader.readDynamic(rs, columnIndex, dataType);
+            }
         } else {
-            result = resultReader.readDynamic(rs, columnName, dataType);
+            result = resultReader.readDynamic(rs, getColumnName(ctx, prop), dataType);
         }
         AttributeConverter<Object, Object> converter = prop.getConverter();
         if (converter != null) {
@@ -814,6 +930,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         private final List<Association> joinPath;
         private final List<Association> embeddedPath;
         private final Association association;
+        private final SqlResultRowPlan.Node rowPlan;
 
         private Map<Object, MappingContext> manyAssociations;
         private Map<Association, MappingContext> associations;
@@ -827,7 +944,8 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
                                JoinPath jp,
                                List<Association> joinPath,
                                List<Association> embeddedPath,
-                               Association association) {
+                               Association association,
+                               SqlResultRowPlan.Node rowPlan) {
             this.rootPersistentEntity = rootPersistentEntity;
             this.persistentEntity = persistentEntity;
             this.namingStrategy = namingStrategy;
@@ -836,9 +954,10 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
             this.joinPath = joinPath;
             this.embeddedPath = embeddedPath;
             this.association = association;
+            this.rowPlan = rowPlan;
         }
 
-        public static <K> MappingContext<K> of(RuntimePersistentEntity<K> persistentEntity, String prefix) {
+        public static <K> MappingContext<K> of(RuntimePersistentEntity<K> persistentEntity, String prefix, SqlResultRowPlan.Node rowPlan) {
             return new MappingContext<>(
                     persistentEntity,
                     persistentEntity,
@@ -847,7 +966,8 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
                     null,
                     Collections.emptyList(),
                     Collections.emptyList(),
-                    null);
+                    null,
+                    rowPlan);
         }
 
         public <K> MappingContext<K> embedded(Embedded embedded) {
@@ -867,7 +987,8 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
                     jp,
                     joinPath,
                     associated(embeddedPath, association),
-                    association
+                    association,
+                    childRowPlan(association, SqlResultRowPlan.Node.PATH)
             );
         }
 
@@ -896,7 +1017,8 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
                     jp,
                     joinPath,
                     embeddedPath,
-                    association
+                    association,
+                    rowPlan
             );
             return ctx;
         }
@@ -912,7 +1034,8 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
                     jp,
                     associated(this.joinPath, association),
                     Collections.emptyList(), // Reset path,
-                    association
+                    association,
+                    childRowPlan(association, SqlResultRowPlan.Node.JOIN)
             );
         }
 
@@ -926,10 +1049,15 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
                     jp,
                     joinPath,
                     associated(embeddedPath, embedded),
-                    embedded
+                    embedded,
+                    childRowPlan(embedded, SqlResultRowPlan.Node.EMBEDDED)
             );
         }
 
+        private SqlResultRowPlan.Node childRowPlan(Association association, int kind) {
+            return rowPlan == null ? null : rowPlan.child(association, kind);
+        }
+
         private JoinPath findJoinPath(Map<String, JoinPath> joinPaths, Association association) {
             JoinPath jp = null;
             if (!joinPaths.isEmpty()) {
@@ -1029,4 +1157,32 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
 
     }
 
+    /**
+     * The grouping mapper helper interface.
+     *
+     * @param <RS> The row type
+     * @param <R>  The result type
+     * @since 4.10
+     */
+    public interface GroupingMapper<RS, R> {
+
+        /**
+         * Process row.
+         *
+         * @param row The row
+         * @return The previous result if the row starts a new one, otherwise null
+         */
+        @Nullable
+        R processRow(@NonNull RS row);
+
+        /**
+         * Complete the last result.
+         *
+         * @return the result or null if no rows were processed
+         */
+        @Nullable
+        R complete();
+
+    }
+
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.mapper.sql;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.model.Association;
+import io.micronaut.data.model.PersistentProperty;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The row mapping plan of a stored query.
+ * The plan remembers the column index of every property read by {@link SqlResultEntityTypeMapper}, so that only
+ * the first rows of a query need to compute the column names; all later rows read the values by the index.
+ * The plan is bound to the result layout, a separate plan is kept for every column count of the result,
+ * like the page query and the same query extended with the window count column.
+ *
+ * @since 4.10
+ */
+@Internal
+public final class SqlResultRowPlan {
+
+    private static final Integer UNRESOLVED = -1;
+
+    private final Map<Integer, Node> roots = new ConcurrentHashMap<>(2);
+
+    /**
+     * Get the root node of the plan for the result set layout.
+     *
+     * @param resultSet The result set
+     * @param resolver  The column index resolver
+     * @param <RS>      The result set type
+     * @return The root node
+     */
+    @NonNull
+    <RS> Node getRoot(@NonNull RS resultSet, @NonNull SqlColumnIndexResultReader<RS> resolver) {
+        return roots.computeIfAbsent(resolver.getColumnCount(resultSet), columnCount -> new Node());
+    }
+
+    /**
+     * The plan node of one mapping context, the children are representing the embedded, path and joined contexts.
+     * The nodes are modified only when a new column is resolved, the state is published by copying the maps.
+     */
+    static final class Node {
+
+        static final int EMBEDDED = 0;
+        static final int PATH = 1;
+        static final int JOIN = 2;
+        private static final int CHILDREN_KINDS = 3;
+
+        private volatile Map<PersistentProperty, Integer> columns = Collections.emptyMap();
+        private volatile Map<Association, Node[]> children = Collections.emptyMap();
+
+        /**
+         * Find the resolved index of the property column.
+         *
+         * @param property The property
+         * @return The index, a negative index if the column cannot be read by the index or null if not resolved yet
+         */
+        @Nullable
+        Integer findColumnIndex(@NonNull PersistentProperty property) {
+            return columns.get(property);
+        }
+
+        /**
+         * Remember the resolved index of the property column.
+         *
+         * @param property    The property
+         * @param columnIndex The resolved index or null if the column couldn't be resolved
+         * @return The index to use, negative if the column should be read by the name
+         */
+        @NonNull
+        Integer addColumnIndex(@NonNull PersistentProperty property, @Nullable Integer columnIndex) {
+            Integer index = columnIndex == null ? UNRESOLVED : columnIndex;
+            synchronized (this) {
+                Map<PersistentProperty, Integer> newColumns = new IdentityHashMap<>(columns);
+                newColumns.put(property, index);
+                columns = newColumns;
+            }
+            return index;
+        }
+
+        /**
+         * Get or create the child node.
+         *
+         * @param association The association
+         * @param kind        The kind of the child context
+         * @return The child node
+         */
+        @NonNull
+        Node child(@NonNull Association association, int kind) {
+            Node[] nodes = children.get(association);
+            if (nodes != null && nodes[kind] != null) {
+                return nodes[kind];
+            }
+            synchronized (this) {
+                nodes = children.get(association);
+                if (nodes != null && nodes[kind] != null) {
+                    return nodes[kind];
+                }
+                Node[] newNodes = nodes == null ? new Node[CHILDREN_KINDS] : nodes.clone();
+                Node node = new Node();
+                newNodes[kind] = node;
+                Map<Association, Node[]> newChildren = new IdentityHashMap<>(children);
+                newChildren.put(association, newNodes);
+                children = newChildren;
+                return node;
+            }
+        }
+    }
+}
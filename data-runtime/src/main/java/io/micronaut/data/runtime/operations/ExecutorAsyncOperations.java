@@ -63,6 +63,11 @@ public class ExecutorAsyncOperations implements AsyncRepositoryOperations {
         this.executor = executor;
     }
 
+    @Internal
+    final RepositoryOperations getRepositoryOperations() {
+        return datastore;
+    }
+
     @Internal
     final <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
         CompletableFuture<T> cf = new CompletableFuture<>();
@@ -36,10 +36,12 @@ import io.micronaut.data.runtime.convert.DataConversionService;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * An implementation of {@link ReactiveRepositoryOperations} that delegates to a blocking operations and specified {@link Executor}.
@@ -55,6 +57,7 @@ public class ExecutorReactiveOperations implements ReactiveRepositoryOperations
 
     private final ExecutorAsyncOperations asyncOperations;
     private final ConversionService dataConversionService;
+    private final boolean streamResults;
 
     /**
      * Default constructor.
@@ -74,10 +77,25 @@ public class ExecutorReactiveOperations implements ReactiveRepositoryOperations
      * @param dataConversionService The data conversion service
      */
     public ExecutorReactiveOperations(@NonNull ExecutorAsyncOperations asyncOperations, DataConversionService dataConversionService) {
+        this(asyncOperations, dataConversionService, false);
+    }
+
+    /**
+     * Constructor allowing to stream the results of the queries.
+     * If the results are streamed, the elements of {@link #findAll(PreparedQuery)} are pulled from
+     * {@link RepositoryOperations#findStream(PreparedQuery)} on the demand of the subscriber, instead of loading the whole result.
+     *
+     * @param asyncOperations       The instance operations instance
+     * @param dataConversionService The data conversion service
+     * @param streamResults         Whether to stream the results
+     * @since 4.10
+     */
+    public ExecutorReactiveOperations(@NonNull ExecutorAsyncOperations asyncOperations, DataConversionService dataConversionService, boolean streamResults) {
         ArgumentUtils.requireNonNull("asyncOperations", asyncOperations);
         this.asyncOperations = asyncOperations;
         // Backwards compatibility should be removed in the next version
         this.dataConversionService = dataConversionService == null ? ConversionService.SHARED : dataConversionService;
+        this.streamResults = streamResults;
     }
 
     @NonNull
@@ -140,6 +158,9 @@ public class ExecutorReactiveOperations implements ReactiveRepositoryOperations
     @NonNull
     @Override
     public <T, R> Publisher<R> findAll(@NonNull PreparedQuery<T, R> preparedQuery) {
+        if (streamResults) {
+            return fromStream(() -> asyncOperations.getRepositoryOperations().findStream(preparedQuery));
+        }
         return fromCompletableFuture(() -> asyncOperations.findAll(preparedQuery))
                 .flatMapMany(Flux::fromIterable);
     }
@@ -194,6 +215,21 @@ public class ExecutorReactiveOperations implements ReactiveRepositoryOperations
         return Mono.fromCompletionStage(PropagatedContext.wrapCurrent(futureSupplier));
     }
 
+    /**
+     * Create a publisher of the blocking stream.
+     * The stream is opened and the elements are pulled on the executor only when requested by the subscriber,
+     * one task at a time. The stream is closed on the completion, the error or the cancellation.
+     *
+     * @param streamSupplier The stream supplier
+     * @param <R>            The element type
+     * @return The publisher
+     * @since 4.10
+     */
+    protected final <R> Flux<R> fromStream(Supplier<Stream<R>> streamSupplier) {
+        return Flux.fromStream(PropagatedContext.wrapCurrent(streamSupplier))
+                .subscribeOn(Schedulers.fromExecutor(asyncOperations.getExecutor(), true));
+    }
+
     /**
      * Convert a number argument if necessary.
      *
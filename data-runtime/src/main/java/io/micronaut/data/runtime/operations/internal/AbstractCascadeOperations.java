@@ -31,9 +31,12 @@ import io.micronaut.data.model.runtime.RuntimeAssociation;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 
 /**
  * Abstract cascade operations.
@@ -125,6 +128,39 @@ abstract class AbstractCascadeOperations {
         }
     }
 
+    /**
+     * Collect the cascade operations of multiple entities grouped by the association path.
+     * The levels are ordered by the first occurrence of the association path and the operations
+     * of a level are ordered by the entities.
+     *
+     * @param ctx              The operation context
+     * @param entities         The entity instances
+     * @param persistentEntity The persistent entity
+     * @param fkOnly           Is FK only
+     * @param cascadeType      The cascade type
+     * @param <T>              The entity type
+     * @return The cascade operations of each association level
+     * @since 4.10
+     */
+    protected <T> Collection<List<IndexedCascadeOp>> collectCascadeLevels(OperationContext ctx,
+                                                                          List<T> entities,
+                                                                          RuntimePersistentEntity<T> persistentEntity,
+                                                                          boolean fkOnly,
+                                                                          Relation.Cascade cascadeType) {
+        Map<List<Association>, List<IndexedCascadeOp>> levels = new LinkedHashMap<>();
+        for (int i = 0; i < entities.size(); i++) {
+            T entity = entities.get(i);
+            List<CascadeOp> cascadeOps = new ArrayList<>();
+            cascade(ctx.annotationMetadata, ctx.repositoryType, fkOnly, cascadeType,
+                    CascadeContext.of(ctx.associations, entity, (RuntimePersistentEntity<Object>) persistentEntity),
+                    persistentEntity, entity, cascadeOps);
+            for (CascadeOp cascadeOp : cascadeOps) {
+                levels.computeIfAbsent(cascadeOp.ctx.associations, associations -> new ArrayList<>()).add(new IndexedCascadeOp(i, cascadeOp));
+            }
+        }
+        return levels.values();
+    }
+
     /**
      * Process after a child element has been cascaded.
      *
@@ -288,6 +324,16 @@ abstract class AbstractCascadeOperations {
         }
     }
 
+    /**
+     * The cascade operation of the entity at the index.
+     *
+     * @param index The index of the entity
+     * @param op    The cascade operation
+     * @since 4.10
+     */
+    protected record IndexedCascadeOp(int index, CascadeOp op) {
+    }
+
     /**
      * The cascade context.
      */
@@ -20,6 +20,7 @@ import io.micronaut.core.convert.ConversionService;
 import io.micronaut.data.annotation.Relation;
 import io.micronaut.data.event.EntityEventContext;
 import io.micronaut.data.event.EntityEventListener;
+import io.micronaut.data.model.PersistentEntityUtils;
 import io.micronaut.data.model.runtime.QueryParameterBinding;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.runtime.event.DefaultEntityEventContext;
@@ -74,7 +75,9 @@ public abstract class AbstractReactiveEntitiesOperations<Ctx extends OperationCo
         this.ctx = ctx;
         this.cascadeOperations = cascadeOperations;
         this.insert = insert;
-        this.hasGeneratedId = insert && persistentEntity.getIdentity() != null && persistentEntity.getIdentity().isGenerated();
+        // The pooled sequence identities are assigned before the insert
+        this.hasGeneratedId = insert && persistentEntity.getIdentity() != null && persistentEntity.getIdentity().isGenerated()
+            && !PersistentEntityUtils.isPooledSequence(persistentEntity.getIdentity());
         Objects.requireNonNull(entities, "Entities cannot be null");
         this.entities = Flux.fromIterable(entities).map(entity -> {
             Data data = new Data();
@@ -94,16 +97,20 @@ public abstract class AbstractReactiveEntitiesOperations<Ctx extends OperationCo
     }
 
     private void doCascade(boolean isPost, Relation.Cascade cascadeType) {
-        this.entities = entities.flatMapIterable(list -> list).concatMap(d -> {
-            if (d.vetoed) {
-                return Mono.just(d);
+        this.entities = entities.flatMap(list -> {
+            List<Data> notVetoed = list.stream().filter(this::notVetoed).toList();
+            if (notVetoed.isEmpty()) {
+                return Mono.just(list);
             }
-            Mono<T> entity = cascadeOperations.cascadeEntity(ctx, d.entity, persistentEntity, isPost, cascadeType);
-            return entity.map(e -> {
-                d.entity = e;
-                return d;
-            });
-        }).collectList();
+            // The children of all the entities are cascaded together
+            return cascadeOperations.cascadeEntities(ctx, notVetoed.stream().map(d -> d.entity).toList(), persistentEntity, isPost, cascadeType)
+                .map(cascaded -> {
+                    for (int i = 0; i < notVetoed.size(); i++) {
+                        notVetoed.get(i).entity = cascaded.get(i);
+                    }
+                    return list;
+                });
+        });
     }
 
     @Override
@@ -165,6 +172,16 @@ public abstract class AbstractReactiveEntitiesOperations<Ctx extends OperationCo
         return entities.flatMapIterable(list -> list).filter(this::notVetoed).map(d -> d.entity);
     }
 
+    /**
+     * The entities including the vetoed entities, which are kept unchanged at their positions.
+     *
+     * @return The entities in the order of the given entities
+     * @since 4.10
+     */
+    public Flux<T> getEntitiesIncludingVetoed() {
+        return entities.flatMapIterable(list -> list).map(d -> d.entity);
+    }
+
     /**
      * @return Rows updated.
      */
@@ -22,6 +22,7 @@ import io.micronaut.core.propagation.PropagatedContext;
 import io.micronaut.data.annotation.Relation;
 import io.micronaut.data.event.EntityEventContext;
 import io.micronaut.data.event.EntityEventListener;
+import io.micronaut.data.model.PersistentEntityUtils;
 import io.micronaut.data.model.runtime.QueryParameterBinding;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.runtime.event.DefaultEntityEventContext;
@@ -72,7 +73,9 @@ public abstract class AbstractReactiveEntityOperations<Ctx extends OperationCont
         this.cascadeOperations = cascadeOperations;
         this.ctx = ctx;
         this.insert = insert;
-        this.hasGeneratedId = insert && persistentEntity.getIdentity() != null && persistentEntity.getIdentity().isGenerated();
+        // The pooled sequence identities are assigned before the insert
+        this.hasGeneratedId = insert && persistentEntity.getIdentity() != null && persistentEntity.getIdentity().isGenerated()
+            && !PersistentEntityUtils.isPooledSequence(persistentEntity.getIdentity());
         Data data = new Data();
         data.entity = entity;
         this.data = Mono.just(data);
@@ -21,6 +21,7 @@ import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.data.annotation.Relation;
 import io.micronaut.data.event.EntityEventContext;
 import io.micronaut.data.event.EntityEventListener;
+import io.micronaut.data.model.PersistentEntityUtils;
 import io.micronaut.data.model.runtime.QueryParameterBinding;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.runtime.event.DefaultEntityEventContext;
@@ -77,7 +78,9 @@ public abstract class AbstractSyncEntitiesOperations<Ctx extends OperationContex
         this.conversionService = conversionService;
         this.ctx = ctx;
         this.insert = insert;
-        this.hasGeneratedId = insert && persistentEntity.getIdentity() != null && persistentEntity.getIdentity().isGenerated();
+        // The pooled sequence identities are assigned before the insert
+        this.hasGeneratedId = insert && persistentEntity.getIdentity() != null && persistentEntity.getIdentity().isGenerated()
+            && !PersistentEntityUtils.isPooledSequence(persistentEntity.getIdentity());
         Objects.requireNonNull(entities, "Entities cannot be null");
         Stream<T> stream;
         if (entities instanceof Collection collection) {
@@ -94,21 +97,23 @@ public abstract class AbstractSyncEntitiesOperations<Ctx extends OperationContex
 
     @Override
     protected void cascadePre(Relation.Cascade cascadeType) {
-        for (Data d : entities) {
-            if (d.vetoed) {
-                continue;
-            }
-            d.entity = cascadeOperations.cascadeEntity(ctx, d.entity, persistentEntity, false, cascadeType);
-        }
+        cascade(false, cascadeType);
     }
 
     @Override
     protected void cascadePost(Relation.Cascade cascadeType) {
-        for (Data d : entities) {
-            if (d.vetoed) {
-                continue;
-            }
-            d.entity = cascadeOperations.cascadeEntity(ctx, d.entity, persistentEntity, true, cascadeType);
+        cascade(true, cascadeType);
+    }
+
+    private void cascade(boolean isPost, Relation.Cascade cascadeType) {
+        List<Data> notVetoed = entities.stream().filter(d -> !d.vetoed).toList();
+        if (notVetoed.isEmpty()) {
+            return;
+        }
+        // The children of all the entities are cascaded together
+        List<T> cascaded = cascadeOperations.cascadeEntities(ctx, notVetoed.stream().map(d -> d.entity).toList(), persistentEntity, isPost, cascadeType);
+        for (int i = 0; i < notVetoed.size(); i++) {
+            notVetoed.get(i).entity = cascaded.get(i);
         }
     }
 
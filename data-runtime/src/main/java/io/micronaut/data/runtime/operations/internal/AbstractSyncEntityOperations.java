@@ -20,6 +20,7 @@ import io.micronaut.core.convert.ConversionService;
 import io.micronaut.data.annotation.Relation;
 import io.micronaut.data.event.EntityEventContext;
 import io.micronaut.data.event.EntityEventListener;
+import io.micronaut.data.model.PersistentEntityUtils;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.runtime.event.DefaultEntityEventContext;
 
@@ -68,7 +69,9 @@ public abstract class AbstractSyncEntityOperations<Ctx extends OperationContext,
         this.cascadeOperations = cascadeOperations;
         this.ctx = ctx;
         this.insert = insert;
-        this.hasGeneratedId = insert && persistentEntity.getIdentity() != null && persistentEntity.getIdentity().isGenerated();
+        // The pooled sequence identities are assigned before the insert
+        this.hasGeneratedId = insert && persistentEntity.getIdentity() != null && persistentEntity.getIdentity().isGenerated()
+            && !PersistentEntityUtils.isPooledSequence(persistentEntity.getIdentity());
         Objects.requireNonNull(entity, "Passed entity cannot be null");
         this.entity = entity;
     }
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations.internal;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The executor running at most the given count of the tasks concurrently on the delegate executor.
+ * The tasks exceeding the limit are queued without blocking the caller, and are submitted to the delegate
+ * when a running task completes. It allows using an unbounded executor, like the virtual threads executor,
+ * without creating more concurrent operations than the connection pool can serve.
+ * <p>
+ * The limit counts the running tasks and not the connections. A result streamed on the demand of the subscriber
+ * is pulled by a task per request, the connection of the stream is held between the tasks and is not counted.
+ * <p>
+ * If the delegate rejects a queued task submitted by a completed task, the queued task is run on the thread
+ * of the completed task, so it is never lost. If the delegate rejects the task of the caller, the exception is
+ * thrown to the caller.
+ *
+ * @since 4.10
+ */
+@Internal
+public final class ConcurrencyLimitedExecutor implements Executor {
+
+    private final Executor executor;
+    private final int limit;
+    private final Deque<Runnable> tasks = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger running = new AtomicInteger();
+
+    /**
+     * @param executor The delegate executor
+     * @param limit    The maximum count of the concurrently running tasks
+     */
+    public ConcurrencyLimitedExecutor(@NonNull Executor executor, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("The concurrency limit must be positive: " + limit);
+        }
+        this.executor = executor;
+        this.limit = limit;
+    }
+
+    /**
+     * @return The maximum count of the concurrently running tasks
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public void execute(@NonNull Runnable command) {
+        tasks.add(command);
+        drain(command);
+    }
+
+    /**
+     * Submit the queued tasks while the limit allows it.
+     *
+     * @param command The task of the caller or null if called by a completed task
+     */
+    private void drain(Runnable command) {
+        while (!tasks.isEmpty()) {
+            int current = running.get();
+            if (current >= limit) {
+                // One of the running tasks will submit the queued task
+                return;
+            }
+            if (!running.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            Runnable task = tasks.poll();
+            if (task == null) {
+                running.decrementAndGet();
+                continue;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        running.decrementAndGet();
+                        drain(null);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                if (command == null) {
+                    // Called by a completed task: run the task on this thread instead of losing it
+                    try {
+                        task.run();
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                    continue;
+                }
+                running.decrementAndGet();
+                if (task != command) {
+                    // The task of another caller stays queued for the running tasks
+                    tasks.offerFirst(task);
+                    if (!tasks.remove(command)) {
+                        // The task of the caller was already submitted by another caller
+                        return;
+                    }
+                }
+                throw e;
+            }
+        }
+    }
+}
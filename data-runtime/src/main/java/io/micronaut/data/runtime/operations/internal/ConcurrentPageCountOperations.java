@@ -0,0 +1,35 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations.internal;
+
+import io.micronaut.core.annotation.Internal;
+
+/**
+ * The operations executing the count query of a page concurrently with the page query.
+ *
+ * @since 4.10
+ */
+@Internal
+public interface ConcurrentPageCountOperations {
+
+    /**
+     * Whether the count query of a page can be executed by the async operations concurrently with the page query.
+     * The queries must not share a connection, for example, the queries executed in a transaction.
+     *
+     * @return true if the count query can be executed concurrently
+     */
+    boolean isConcurrentPageCount();
+}
@@ -28,7 +28,10 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -72,132 +75,190 @@ public final class ReactiveCascadeOperations<Ctx extends OperationContext> exten
                                      RuntimePersistentEntity<T> persistentEntity,
                                      boolean isPost,
                                      Relation.Cascade cascadeType) {
-        List<CascadeOp> cascadeOps = new ArrayList<>();
-
-        cascade(ctx.annotationMetadata, ctx.repositoryType, isPost, cascadeType,
-                CascadeContext.of(ctx.associations, entity, (RuntimePersistentEntity<Object>) persistentEntity), persistentEntity, entity, cascadeOps);
-
-        Mono<T> monoEntity = Mono.just(entity);
+        return cascadeEntities(ctx, Collections.singletonList(entity), persistentEntity, isPost, cascadeType).map(entities -> entities.get(0));
+    }
 
-        for (CascadeOp cascadeOp : cascadeOps) {
-            if (cascadeOp instanceof CascadeOneOp cascadeOneOp) {
-                Object child = cascadeOneOp.child;
-                RuntimePersistentEntity<Object> childPersistentEntity = cascadeOneOp.childPersistentEntity;
-                RuntimeAssociation<Object> association = (RuntimeAssociation) cascadeOp.ctx.getAssociation();
+    /**
+     * Cascade the operation of multiple entities.
+     * The children of the same association are collected across all the entities and cascaded
+     * one association level after another, the persisted children of a level are inserted in one batch.
+     *
+     * @param ctx              The context
+     * @param entities         The entity instances
+     * @param persistentEntity The persistent entity
+     * @param isPost           Is post cascade?
+     * @param cascadeType      The cascade type
+     * @param <T>              The entity type
+     * @return The entity instances
+     * @since 4.10
+     */
+    public <T> Mono<List<T>> cascadeEntities(Ctx ctx,
+                                             List<T> entities,
+                                             RuntimePersistentEntity<T> persistentEntity,
+                                             boolean isPost,
+                                             Relation.Cascade cascadeType) {
+        List<T> cascadedEntities = new ArrayList<>(entities);
+        Mono<List<T>> result = Mono.just(cascadedEntities);
+        for (List<IndexedCascadeOp> level : collectCascadeLevels(ctx, entities, persistentEntity, isPost, cascadeType)) {
+            CascadeOp firstOp = level.get(0).op();
+            if (firstOp instanceof CascadeManyOp
+                    && cascadeType == Relation.Cascade.PERSIST
+                    && helper.isSupportsBatchInsert(ctx, firstOp.childPersistentEntity)) {
+                result = result.flatMap(list -> persistManyLevel(ctx, list, persistentEntity, level));
+            } else {
+                result = result.flatMap(list -> Flux.fromIterable(level)
+                        .concatMap(indexedOp -> cascadeOp(ctx, list.get(indexedOp.index()), persistentEntity, indexedOp.op(), cascadeType)
+                                .doOnNext(e -> list.set(indexedOp.index(), e)))
+                        .then(Mono.just(list)));
+            }
+        }
+        return result;
+    }
 
-                if (ctx.persisted.contains(child)) {
-                    continue;
+    private <T> Mono<T> cascadeOp(Ctx ctx,
+                                  T entity,
+                                  RuntimePersistentEntity<T> persistentEntity,
+                                  CascadeOp cascadeOp,
+                                  Relation.Cascade cascadeType) {
+        if (cascadeOp instanceof CascadeOneOp cascadeOneOp) {
+            Object child = cascadeOneOp.child;
+            if (ctx.persisted.contains(child)) {
+                return Mono.just(entity);
+            }
+            RuntimePersistentEntity<Object> childPersistentEntity = cascadeOneOp.childPersistentEntity;
+            RuntimeAssociation<Object> association = (RuntimeAssociation) cascadeOp.ctx.getAssociation();
+            RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
+            boolean hasId = identity.getProperty().get(child) != null;
+            Mono<T> thisEntity;
+            Mono<Object> childMono;
+            if ((!hasId || identity instanceof Association) && (cascadeType == Relation.Cascade.PERSIST)) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Cascading one PERSIST for '{}' association: '{}'", persistentEntity.getName(), cascadeOp.ctx.associations);
                 }
+                Mono<Object> persisted = helper.persistOne(ctx, child, childPersistentEntity).cache();
+                thisEntity = persisted.map(persistedEntity -> afterCascadedOne(entity, cascadeOp.ctx.associations, child, persistedEntity));
+                childMono = persisted;
+            } else if (hasId && (cascadeType == Relation.Cascade.UPDATE)) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Cascading one UPDATE for '{}' ({}) association: '{}'", persistentEntity.getName(),
+                            persistentEntity.getIdentity().getProperty().get(entity), cascadeOp.ctx.associations);
+                }
+                Mono<Object> updated = helper.updateOne(ctx, child, childPersistentEntity).cache();
+                thisEntity = updated.map(updatedEntity -> afterCascadedOne(entity, cascadeOp.ctx.associations, child, updatedEntity));
+                childMono = updated;
+            } else {
+                childMono = Mono.just(child);
+                thisEntity = Mono.just(entity);
+            }
 
-                monoEntity = monoEntity.flatMap(e -> {
-
-                RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
-                boolean hasId = identity.getProperty().get(child) != null;
-                Mono<T> thisEntity;
-                Mono<Object> childMono;
-                if ((!hasId || identity instanceof Association) && (cascadeType == Relation.Cascade.PERSIST)) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Cascading one PERSIST for '{}' association: '{}'", persistentEntity.getName(), cascadeOp.ctx.associations);
+            if (!hasId
+                    && (cascadeType == Relation.Cascade.PERSIST || cascadeType == Relation.Cascade.UPDATE)
+                    && SqlQueryBuilder.isForeignKeyWithJoinTable(association)) {
+                return childMono.flatMap(c -> {
+                    if (ctx.persisted.contains(c)) {
+                        return Mono.just(entity);
                     }
-                    Mono<Object> persisted = helper.persistOne(ctx, child, childPersistentEntity).cache();
-                    thisEntity = persisted.map(persistedEntity -> afterCascadedOne(e, cascadeOp.ctx.associations, child, persistedEntity));
-                    childMono = persisted;
-                } else if (hasId && (cascadeType == Relation.Cascade.UPDATE)) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Cascading one UPDATE for '{}' ({}) association: '{}'", persistentEntity.getName(),
-                                persistentEntity.getIdentity().getProperty().get(entity), cascadeOp.ctx.associations);
+                    ctx.persisted.add(c);
+                    return thisEntity.flatMap(e2 -> {
+                        Mono<Void> op = helper.persistManyAssociation(ctx, association, e2, (RuntimePersistentEntity<Object>) persistentEntity, c, childPersistentEntity);
+                        return op.thenReturn(e2);
+                    });
+                });
+            }
+            return childMono.flatMap(c -> {
+                ctx.persisted.add(c);
+                return thisEntity;
+            });
+        }
+        CascadeManyOp cascadeManyOp = (CascadeManyOp) cascadeOp;
+        RuntimePersistentEntity<Object> childPersistentEntity = cascadeManyOp.childPersistentEntity;
+        if (cascadeType == Relation.Cascade.UPDATE) {
+            return updateChildren(ctx, Mono.just(entity), cascadeOp, cascadeManyOp, childPersistentEntity, e -> {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Cascading many UPDATE for '{}' association: '{}'", persistentEntity.getName(), cascadeOp.ctx.associations);
+                }
+                Flux<Object> childrenFlux = Flux.empty();
+                for (Object child : cascadeManyOp.children) {
+                    if (ctx.persisted.contains(child)) {
+                        continue;
                     }
-                    Mono<Object> updated = helper.updateOne(ctx, child, childPersistentEntity).cache();
-                    thisEntity = updated.map(updatedEntity -> afterCascadedOne(e, cascadeOp.ctx.associations, child, updatedEntity));
-                    childMono = updated;
-                } else {
-                    childMono = Mono.just(child);
-                    thisEntity = Mono.just(e);
+                    Mono<Object> modifiedEntity;
+                    if (childPersistentEntity.getIdentity().getProperty().get(child) == null) {
+                        modifiedEntity = helper.persistOne(ctx, child, childPersistentEntity);
+                    } else {
+                        modifiedEntity = helper.updateOne(ctx, child, childPersistentEntity);
+                    }
+                    childrenFlux = childrenFlux.concatWith(modifiedEntity);
                 }
-
-                if (!hasId
-                        && (cascadeType == Relation.Cascade.PERSIST || cascadeType == Relation.Cascade.UPDATE)
-                        && SqlQueryBuilder.isForeignKeyWithJoinTable(association)) {
-                    return childMono.flatMap(c -> {
-                        if (ctx.persisted.contains(c)) {
-                            return Mono.just(e);
-                        }
-                        ctx.persisted.add(c);
-                        return thisEntity.flatMap(e2 -> {
-                            Mono<Void> op = helper.persistManyAssociation(ctx, association, e2, (RuntimePersistentEntity<Object>) persistentEntity, c, childPersistentEntity);
-                            return op.thenReturn(e2);
-                        });
-                    });
-                } else {
-                    return childMono.flatMap(c -> {
-                        ctx.persisted.add(c);
-                        return thisEntity;
-                    });
+                return childrenFlux.collectList();
+            });
+        }
+        if (cascadeType == Relation.Cascade.PERSIST) {
+            // The children persisted in batch are cascaded by the level
+            return updateChildren(ctx, Mono.just(entity), cascadeOp, cascadeManyOp, childPersistentEntity, e -> {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Cascading many PERSIST for '{}' association: '{}'", persistentEntity.getName(), cascadeOp.ctx.associations);
                 }
-                });
 
-            } else if (cascadeOp instanceof CascadeManyOp cascadeManyOp) {
-                RuntimePersistentEntity<Object> childPersistentEntity = cascadeManyOp.childPersistentEntity;
-
-                if (cascadeType == Relation.Cascade.UPDATE) {
-                    monoEntity = updateChildren(ctx, monoEntity, cascadeOp, cascadeManyOp, childPersistentEntity, e -> {
-                        if (LOG.isDebugEnabled()) {
-                            LOG.debug("Cascading many UPDATE for '{}' association: '{}'", persistentEntity.getName(), cascadeOp.ctx.associations);
-                        }
-                        Flux<Object> childrenFlux = Flux.empty();
-                        for (Object child : cascadeManyOp.children) {
-                            if (ctx.persisted.contains(child)) {
-                                continue;
-                            }
-                            Mono<Object> modifiedEntity;
-                            if (childPersistentEntity.getIdentity().getProperty().get(child) == null) {
-                                modifiedEntity = helper.persistOne(ctx, child, childPersistentEntity);
-                            } else {
-                                modifiedEntity = helper.updateOne(ctx, child, childPersistentEntity);
-                            }
-                            childrenFlux = childrenFlux.concatWith(modifiedEntity);
-                        }
-                        return childrenFlux.collectList();
-                    });
-                } else if (cascadeType == Relation.Cascade.PERSIST) {
-                    if (helper.isSupportsBatchInsert(ctx, persistentEntity)) {
-                        monoEntity = updateChildren(ctx, monoEntity, cascadeOp, cascadeManyOp, childPersistentEntity, e -> {
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("Cascading many PERSIST for '{}' association: '{}'", persistentEntity.getName(), cascadeOp.ctx.associations);
-                            }
-                            RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
-                            Predicate<Object> veto = val -> ctx.persisted.contains(val) || identity.getProperty().get(val) != null && !(identity instanceof Association);
-                            Flux<Object> childrenFlux = helper.persistBatch(ctx, cascadeManyOp.children, childPersistentEntity, veto);
-                            // Concat children inserted now with children that were persisted before
-                            for (Object child : cascadeManyOp.children) {
-                                if (veto.test(child)) {
-                                    childrenFlux = childrenFlux.concatWith(Flux.just(child));
-                                }
-                            }
-                            return childrenFlux.collectList();
-                        });
-                    } else {
-                        monoEntity = updateChildren(ctx, monoEntity, cascadeOp, cascadeManyOp, childPersistentEntity, e -> {
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("Cascading many PERSIST for '{}' association: '{}'", persistentEntity.getName(), cascadeOp.ctx.associations);
-                            }
+                Flux<Object> childrenFlux = Flux.empty();
+                for (Object child : cascadeManyOp.children) {
+                    if (ctx.persisted.contains(child) || childPersistentEntity.getIdentity().getProperty().get(child) != null) {
+                        childrenFlux = childrenFlux.concatWith(Mono.just(child));
+                        continue;
+                    }
+                    Mono<Object> persisted = helper.persistOne(ctx, child, childPersistentEntity);
+                    childrenFlux = childrenFlux.concatWith(persisted);
+                }
+                return childrenFlux.collectList();
+            });
+        }
+        return Mono.just(entity);
+    }
 
-                            Flux<Object> childrenFlux = Flux.empty();
-                            for (Object child : cascadeManyOp.children) {
-                                if (ctx.persisted.contains(child) || childPersistentEntity.getIdentity().getProperty().get(child) != null) {
-                                    childrenFlux = childrenFlux.concatWith(Mono.just(child));
-                                    continue;
-                                }
-                                Mono<Object> persisted = helper.persistOne(ctx, child, childPersistentEntity);
-                                childrenFlux = childrenFlux.concatWith(persisted);
-                            }
-                            return childrenFlux.collectList();
-                        });
+    private <T> Mono<List<T>> persistManyLevel(Ctx ctx,
+                                               List<T> entities,
+                                               RuntimePersistentEntity<T> persistentEntity,
+                                               List<IndexedCascadeOp> level) {
+        CascadeOp firstOp = level.get(0).op();
+        RuntimePersistentEntity<Object> childPersistentEntity = firstOp.childPersistentEntity;
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cascading many PERSIST for '{}' association: '{}'", persistentEntity.getName(), firstOp.ctx.associations);
+        }
+        RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
+        Predicate<Object> veto = val -> ctx.persisted.contains(val) || identity.getProperty().get(val) != null && !(identity instanceof Association);
+        // The children of all the entities, the child shared by multiple entities is persisted once
+        Map<Object, Object> cascadedChildren = new IdentityHashMap<>();
+        List<Object> persistChildren = new ArrayList<>();
+        for (IndexedCascadeOp indexedOp : level) {
+            for (Object child : ((CascadeManyOp) indexedOp.op()).children) {
+                if (!cascadedChildren.containsKey(child)) {
+                    cascadedChildren.put(child, child);
+                    if (!veto.test(child)) {
+                        persistChildren.add(child);
                     }
                 }
             }
         }
-        return monoEntity;
+        Mono<List<Object>> persisted = persistChildren.isEmpty() ? Mono.just(List.of())
+                : helper.persistBatch(ctx, persistChildren, childPersistentEntity, veto).collectList();
+        return persisted.flatMap(values -> {
+            // The vetoed children keep their positions in the persisted values
+            for (int i = 0; i < persistChildren.size(); i++) {
+                cascadedChildren.put(persistChildren.get(i), values.get(i));
+            }
+            return Flux.fromIterable(level)
+                    .concatMap(indexedOp -> {
+                        CascadeManyOp cascadeManyOp = (CascadeManyOp) indexedOp.op();
+                        List<Object> newChildren = new ArrayList<>();
+                        for (Object child : cascadeManyOp.children) {
+                            newChildren.add(cascadedChildren.get(child));
+                        }
+                        return updateChildren(ctx, Mono.just(entities.get(indexedOp.index())), cascadeManyOp, cascadeManyOp,
+                                childPersistentEntity, e -> Mono.just(newChildren))
+                                .doOnNext(e -> entities.set(indexedOp.index(), e));
+                    })
+                    .then(Mono.just(entities));
+        });
     }
 
     private <T> Mono<T> updateChildren(Ctx ctx,
@@ -291,7 +352,7 @@ public final class ReactiveCascadeOperations<Ctx extends OperationContext> exten
          * @param persistentEntity The persistent entity
          * @param predicate        The veto predicate
          * @param <T>              The entity type
-         * @return The entity values
+         * @return The entity values in the order of the given values, including the vetoed values
          */
         <T> Flux<T> persistBatch(Ctx ctx,
                                  Iterable<T> entityValues,
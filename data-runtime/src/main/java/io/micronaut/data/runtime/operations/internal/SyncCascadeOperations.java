@@ -17,7 +17,6 @@ package io.micronaut.data.runtime.operations.internal;
 
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.convert.ConversionService;
-import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.data.annotation.Relation;
 import io.micronaut.data.model.Association;
 import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder;
@@ -28,8 +27,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.function.Predicate;
 
 /**
@@ -72,109 +74,219 @@ public final class SyncCascadeOperations<Ctx extends OperationContext> extends A
                                RuntimePersistentEntity<T> persistentEntity,
                                boolean isPost,
                                Relation.Cascade cascadeType) {
-        List<CascadeOp> cascadeOps = new ArrayList<>();
-        cascade(ctx.annotationMetadata, ctx.repositoryType,
-                isPost, cascadeType,
-                CascadeContext.of(ctx.associations, entity, (RuntimePersistentEntity<Object>) persistentEntity),
-                persistentEntity, entity, cascadeOps);
-        for (CascadeOp cascadeOp : cascadeOps) {
-            if (cascadeOp instanceof CascadeOneOp cascadeOneOp) {
-                RuntimePersistentEntity<Object> childPersistentEntity = cascadeOp.childPersistentEntity;
-                Object child = cascadeOneOp.child;
+        return cascadeEntities(ctx, Collections.singletonList(entity), persistentEntity, isPost, cascadeType).get(0);
+    }
+
+    /**
+     * Cascade the operation of multiple entities.
+     * The children of the same association are collected across all the entities and cascaded together,
+     * one association level after another, instead of cascading the children of each entity separately.
+     *
+     * @param ctx              The context
+     * @param entities         The entity instances
+     * @param persistentEntity The persistent entity
+     * @param isPost           Is post cascade?
+     * @param cascadeType      The cascade type
+     * @param <T>              The entity type
+     * @return The entity instances
+     * @since 4.10
+     */
+    public <T> List<T> cascadeEntities(Ctx ctx,
+                                       List<T> entities,
+                                       RuntimePersistentEntity<T> persistentEntity,
+                                       boolean isPost,
+                                       Relation.Cascade cascadeType) {
+        List<T> cascadedEntities = new ArrayList<>(entities);
+        for (List<IndexedCascadeOp> level : collectCascadeLevels(ctx, entities, persistentEntity, isPost, cascadeType)) {
+            if (level.get(0).op() instanceof CascadeOneOp) {
+                cascadeOneLevel(ctx, cascadedEntities, persistentEntity, level, cascadeType);
+            } else {
+                cascadeManyLevel(ctx, cascadedEntities, persistentEntity, level, cascadeType);
+            }
+        }
+        return cascadedEntities;
+    }
+
+    private <T> void cascadeOneLevel(Ctx ctx,
+                                     List<T> entities,
+                                     RuntimePersistentEntity<T> persistentEntity,
+                                     List<IndexedCascadeOp> level,
+                                     Relation.Cascade cascadeType) {
+        CascadeOp firstOp = level.get(0).op();
+        RuntimePersistentEntity<Object> childPersistentEntity = firstOp.childPersistentEntity;
+        RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
+        // The child shared by multiple entities is cascaded once
+        Map<Object, CascadedChild> cascadedChildren = new IdentityHashMap<>();
+        List<Object> persistChildren = new ArrayList<>();
+        List<Object> updateChildren = new ArrayList<>();
+        for (IndexedCascadeOp indexedOp : level) {
+            Object child = ((CascadeOneOp) indexedOp.op()).child;
+            if (ctx.persisted.contains(child) || cascadedChildren.containsKey(child)) {
+                continue;
+            }
+            boolean hasId = identity.getProperty().get(child) != null;
+            CascadedChild cascadedChild = new CascadedChild(child, !hasId);
+            if ((!hasId || identity instanceof Association) && (cascadeType == Relation.Cascade.PERSIST)) {
+                persistChildren.add(child);
+                cascadedChild.modified = true;
+            } else if (hasId && (cascadeType == Relation.Cascade.UPDATE)) {
+                updateChildren.add(child);
+                cascadedChild.modified = true;
+            }
+            cascadedChildren.put(child, cascadedChild);
+        }
+        if (!persistChildren.isEmpty()) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Cascading PERSIST for '{}' association: '{}'", persistentEntity.getName(), firstOp.ctx.associations);
+            }
+            setCascadedValues(cascadedChildren, persistChildren, persistChildren(ctx, persistChildren, childPersistentEntity));
+        }
+        if (!updateChildren.isEmpty()) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Cascading MERGE for '{}' association: '{}'", persistentEntity.getName(), firstOp.ctx.associations);
+            }
+            setCascadedValues(cascadedChildren, updateChildren, updateChildren(ctx, updateChildren, childPersistentEntity));
+        }
+        for (IndexedCascadeOp indexedOp : level) {
+            CascadeOp cascadeOp = indexedOp.op();
+            CascadedChild cascadedChild = cascadedChildren.get(((CascadeOneOp) cascadeOp).child);
+            if (cascadedChild == null) {
+                // Already persisted
+                continue;
+            }
+            T entity = entities.get(indexedOp.index());
+            if (cascadedChild.modified) {
+                entity = afterCascadedOne(entity, cascadeOp.ctx.associations, cascadedChild.child, cascadedChild.value);
+                entities.set(indexedOp.index(), entity);
+            }
+            RuntimeAssociation<Object> association = (RuntimeAssociation) cascadeOp.ctx.getAssociation();
+            if (cascadedChild.isNew
+                    && (cascadeType == Relation.Cascade.PERSIST || cascadeType == Relation.Cascade.UPDATE)
+                    && SqlQueryBuilder.isForeignKeyWithJoinTable(association)) {
+
+                helper.persistManyAssociation(ctx, association, entity, (RuntimePersistentEntity<Object>) persistentEntity, cascadedChild.value, childPersistentEntity);
+            }
+        }
+        // The child shared by multiple entities is marked as persisted once all of them are rewired
+        for (CascadedChild cascadedChild : cascadedChildren.values()) {
+            ctx.persisted.add(cascadedChild.value);
+        }
+    }
+
+    private <T> void cascadeManyLevel(Ctx ctx,
+                                      List<T> entities,
+                                      RuntimePersistentEntity<T> persistentEntity,
+                                      List<IndexedCascadeOp> level,
+                                      Relation.Cascade cascadeType) {
+        if (cascadeType != Relation.Cascade.UPDATE && cascadeType != Relation.Cascade.PERSIST) {
+            return;
+        }
+        CascadeOp firstOp = level.get(0).op();
+        RuntimePersistentEntity<Object> childPersistentEntity = firstOp.childPersistentEntity;
+        RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
+        // The children of all the entities, the child shared by multiple entities is cascaded once
+        Map<Object, CascadedChild> cascadedChildren = new IdentityHashMap<>();
+        List<Object> children = new ArrayList<>();
+        for (IndexedCascadeOp indexedOp : level) {
+            for (Object child : ((CascadeManyOp) indexedOp.op()).children) {
+                if (!cascadedChildren.containsKey(child)) {
+                    cascadedChildren.put(child, new CascadedChild(child, false));
+                    children.add(child);
+                }
+            }
+        }
+        if (cascadeType == Relation.Cascade.UPDATE) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Cascading many UPDATE for '{}' association: '{}'", persistentEntity.getName(), firstOp.ctx.associations);
+            }
+            List<Object> persistChildren = new ArrayList<>();
+            List<Object> updateChildren = new ArrayList<>();
+            for (Object child : children) {
                 if (ctx.persisted.contains(child)) {
                     continue;
                 }
-                RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
-                boolean hasId = identity.getProperty().get(child) != null;
-                if ((!hasId || identity instanceof Association) && (cascadeType == Relation.Cascade.PERSIST)) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Cascading PERSIST for '{}' association: '{}'", persistentEntity.getName(), cascadeOp.ctx.associations);
-                    }
-                    Object persisted = helper.persistOne(ctx, child, childPersistentEntity);
-                    entity = afterCascadedOne(entity, cascadeOp.ctx.associations, child, persisted);
-                    child = persisted;
-                } else if (hasId && (cascadeType == Relation.Cascade.UPDATE)) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Cascading MERGE for '{}' ({}) association: '{}'", persistentEntity.getName(),
-                                persistentEntity.getIdentity().getProperty().get(entity), cascadeOp.ctx.associations);
-                    }
-                    Object updated = helper.updateOne(ctx, child, childPersistentEntity);
-                    entity = afterCascadedOne(entity, cascadeOp.ctx.associations, child, updated);
-                    child = updated;
+                if (identity.getProperty().get(child) == null) {
+                    persistChildren.add(child);
+                } else {
+                    updateChildren.add(child);
                 }
-                RuntimeAssociation<Object> association = (RuntimeAssociation) cascadeOp.ctx.getAssociation();
-                if (!hasId
-                        && (cascadeType == Relation.Cascade.PERSIST || cascadeType == Relation.Cascade.UPDATE)
-                        && SqlQueryBuilder.isForeignKeyWithJoinTable(association)) {
-
-                    helper.persistManyAssociation(ctx, association, entity, (RuntimePersistentEntity<Object>) persistentEntity, child, childPersistentEntity);
+            }
+            setCascadedValues(cascadedChildren, persistChildren, persistChildren(ctx, persistChildren, childPersistentEntity));
+            setCascadedValues(cascadedChildren, updateChildren, updateChildren(ctx, updateChildren, childPersistentEntity));
+        } else {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Cascading many PERSIST for '{}' association: '{}'", persistentEntity.getName(), firstOp.ctx.associations);
+            }
+            List<Object> values;
+            if (helper.isSupportsBatchInsert(ctx, childPersistentEntity)) {
+                Predicate<Object> veto = val -> ctx.persisted.contains(val) || identity.getProperty().get(val) != null && !(identity instanceof Association);
+                values = helper.persistBatch(ctx, children, childPersistentEntity, veto);
+            } else {
+                values = new ArrayList<>(children);
+                for (ListIterator<Object> iterator = values.listIterator(); iterator.hasNext(); ) {
+                    Object child = iterator.next();
+                    if (ctx.persisted.contains(child) || identity.getProperty().get(child) != null) {
+                        continue;
+                    }
+                    iterator.set(helper.persistOne(ctx, child, childPersistentEntity));
                 }
-                ctx.persisted.add(child);
-            } else if (cascadeOp instanceof CascadeManyOp cascadeManyOp) {
-                RuntimePersistentEntity<Object> childPersistentEntity = cascadeManyOp.childPersistentEntity;
+            }
+            setCascadedValues(cascadedChildren, children, values);
+        }
+        for (IndexedCascadeOp indexedOp : level) {
+            CascadeManyOp cascadeManyOp = (CascadeManyOp) indexedOp.op();
+            List<Object> cascaded = new ArrayList<>();
+            for (Object child : cascadeManyOp.children) {
+                cascaded.add(cascadedChildren.get(child).value);
+            }
+            T entity = afterCascadedMany(entities.get(indexedOp.index()), cascadeManyOp.ctx.associations, cascadeManyOp.children, cascaded);
+            entities.set(indexedOp.index(), entity);
 
-                List<Object> entities;
-                if (cascadeType == Relation.Cascade.UPDATE) {
-                    entities = CollectionUtils.iterableToList(cascadeManyOp.children);
-                    for (ListIterator<Object> iterator = entities.listIterator(); iterator.hasNext(); ) {
-                        Object child = iterator.next();
-                        if (ctx.persisted.contains(child)) {
+            RuntimeAssociation<Object> association = (RuntimeAssociation) cascadeManyOp.ctx.getAssociation();
+            if (SqlQueryBuilder.isForeignKeyWithJoinTable(association) && !cascaded.isEmpty()) {
+                if (helper.isSupportsBatchInsert(ctx, childPersistentEntity)) {
+                    helper.persistManyAssociationBatch(ctx, association,
+                            cascadeManyOp.ctx.parent, cascadeManyOp.ctx.parentPersistentEntity, cascaded, childPersistentEntity);
+                } else {
+                    for (Object e : cascadeManyOp.children) {
+                        if (ctx.persisted.contains(e)) {
                             continue;
                         }
-                        RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
-                        Object value;
-                        if (identity.getProperty().get(child) == null) {
-                            value = helper.persistOne(ctx, child, childPersistentEntity);
-                        } else {
-                            value = helper.updateOne(ctx, child, childPersistentEntity);
-                        }
-                        iterator.set(value);
-                    }
-                } else if (cascadeType == Relation.Cascade.PERSIST) {
-                    if (helper.isSupportsBatchInsert(ctx, childPersistentEntity)) {
-                        RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
-                        Predicate<Object> veto = val -> ctx.persisted.contains(val) || identity.getProperty().get(val) != null && !(identity instanceof Association);
-                        entities = helper.persistBatch(ctx, cascadeManyOp.children, childPersistentEntity, veto);
-                    } else {
-                        entities = CollectionUtils.iterableToList(cascadeManyOp.children);
-                        for (ListIterator<Object> iterator = entities.listIterator(); iterator.hasNext(); ) {
-                            Object child = iterator.next();
-                            if (ctx.persisted.contains(child)) {
-                                continue;
-                            }
-                            RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
-                            if (identity.getProperty().get(child) != null) {
-                                continue;
-                            }
-                            Object persisted = helper.persistOne(ctx, child, childPersistentEntity);
-                            iterator.set(persisted);
-                        }
+                        helper.persistManyAssociation(ctx, association,
+                                cascadeManyOp.ctx.parent, cascadeManyOp.ctx.parentPersistentEntity, e, childPersistentEntity);
                     }
-                } else {
-                    continue;
                 }
+            }
+            ctx.persisted.addAll(cascaded);
+        }
+    }
 
-                entity = afterCascadedMany(entity, cascadeOp.ctx.associations, cascadeManyOp.children, entities);
+    private List<Object> persistChildren(Ctx ctx, List<Object> children, RuntimePersistentEntity<Object> childPersistentEntity) {
+        if (children.size() > 1 && helper.isSupportsBatchInsert(ctx, childPersistentEntity)) {
+            return helper.persistBatch(ctx, children, childPersistentEntity, child -> false);
+        }
+        List<Object> persisted = new ArrayList<>(children.size());
+        for (Object child : children) {
+            persisted.add(helper.persistOne(ctx, child, childPersistentEntity));
+        }
+        return persisted;
+    }
 
-                RuntimeAssociation<Object> association = (RuntimeAssociation) cascadeOp.ctx.getAssociation();
-                if (SqlQueryBuilder.isForeignKeyWithJoinTable(association) && !entities.isEmpty()) {
-                    if (helper.isSupportsBatchInsert(ctx, childPersistentEntity)) {
-                        helper.persistManyAssociationBatch(ctx, association,
-                                cascadeOp.ctx.parent, cascadeOp.ctx.parentPersistentEntity, entities, childPersistentEntity);
-                    } else {
-                        for (Object e : cascadeManyOp.children) {
-                            if (ctx.persisted.contains(e)) {
-                                continue;
-                            }
-                            helper.persistManyAssociation(ctx, association,
-                                    cascadeOp.ctx.parent, cascadeOp.ctx.parentPersistentEntity, e, childPersistentEntity);
-                        }
-                    }
-                }
-                ctx.persisted.addAll(entities);
-            }
+    private List<Object> updateChildren(Ctx ctx, List<Object> children, RuntimePersistentEntity<Object> childPersistentEntity) {
+        if (children.size() > 1 && helper.isSupportsBatchUpdate(ctx, childPersistentEntity)) {
+            return helper.updateBatch(ctx, children, childPersistentEntity);
+        }
+        List<Object> updated = new ArrayList<>(children.size());
+        for (Object child : children) {
+            updated.add(helper.updateOne(ctx, child, childPersistentEntity));
+        }
+        return updated;
+    }
+
+    private static void setCascadedValues(Map<Object, CascadedChild> cascadedChildren, List<Object> children, List<Object> values) {
+        for (int i = 0; i < children.size(); i++) {
+            cascadedChildren.get(children.get(i)).value = values.get(i);
         }
-        return entity;
     }
 
     /**
@@ -254,6 +366,24 @@ public final class SyncCascadeOperations<Ctx extends OperationContext> extends A
          */
         <T> T updateOne(Ctx ctx, T entityValue, RuntimePersistentEntity<T> persistentEntity);
 
+        /**
+         * Update multiple entities in batch during cascade.
+         *
+         * @param ctx              The context
+         * @param entityValues     The entity values
+         * @param persistentEntity The persistent entity
+         * @param <T>              The entity type
+         * @return The entity values
+         * @since 4.10
+         */
+        default <T> List<T> updateBatch(Ctx ctx, Iterable<T> entityValues, RuntimePersistentEntity<T> persistentEntity) {
+            List<T> updated = new ArrayList<>();
+            for (T entityValue : entityValues) {
+                updated.add(updateOne(ctx, entityValue, persistentEntity));
+            }
+            return updated;
+        }
+
         /**
          * Persist JOIN table relationship.
          *
@@ -285,5 +415,20 @@ public final class SyncCascadeOperations<Ctx extends OperationContext> extends A
                                          Iterable<Object> childEntityValues, RuntimePersistentEntity<Object> childPersistentEntity);
     }
 
+    /**
+     * The state of the cascaded child.
+     */
+    private static final class CascadedChild {
+
+        private final Object child;
+        private final boolean isNew;
+        private Object value;
+        private boolean modified;
 
+        private CascadedChild(Object child, boolean isNew) {
+            this.child = child;
+            this.isNew = isNew;
+            this.value = child;
+        }
+    }
 }
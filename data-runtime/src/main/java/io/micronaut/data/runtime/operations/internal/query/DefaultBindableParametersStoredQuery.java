@@ -20,6 +20,8 @@ import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanProperty;
 import io.micronaut.core.beans.BeanWrapper;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.CollectionUtils;
@@ -45,6 +47,8 @@ import java.util.Objects;
 
 /**
  * Implementation of {@link BindableParametersStoredQuery}.
+ * The query bindings are bound using the binding plans created on the first use, which keep the parts of the binding
+ * that don't depend on the bound values.
  *
  * @param <E> The entity type
  * @param <R> The result type
@@ -56,6 +60,7 @@ public class DefaultBindableParametersStoredQuery<E, R> implements BindableParam
 
     private final StoredQuery<E, R> storedQuery;
     private final RuntimePersistentEntity<E> runtimePersistentEntity;
+    private volatile BindingPlans bindingPlans;
 
     /**
      * @param storedQuery             The stored query
@@ -85,8 +90,8 @@ public class DefaultBindableParametersStoredQuery<E, R> implements BindableParam
                                E entity,
                                @Nullable
                                Map<QueryParameterBinding, Object> previousValues) {
-        for (QueryParameterBinding queryParameterBinding : storedQuery.getQueryBindings()) {
-            bindParameter(binder, invocationContext, entity, previousValues, queryParameterBinding);
+        for (BindingPlan bindingPlan : getBindingPlans()) {
+            bindParameter(binder, invocationContext, entity, previousValues, bindingPlan);
         }
     }
 
@@ -95,7 +100,43 @@ public class DefaultBindableParametersStoredQuery<E, R> implements BindableParam
                                        @Nullable E entity,
                                        @Nullable Map<QueryParameterBinding, Object> previousValues,
                                        QueryParameterBinding binding) {
+        bindParameter(binder, invocationContext, entity, previousValues, createBindingPlan(binding));
+    }
+
+    private BindingPlan createBindingPlan(QueryParameterBinding binding) {
+        AnnotationValue<?> expression = null;
+        if (binding.isExpression() && binding.getValue() == null) {
+            expression = storedQuery.getParameterExpressions().get(binding.getName());
+        }
+        return new BindingPlan(binding, expression);
+    }
+
+    /**
+     * The binding plans of the query bindings are created on the first use, the stored query bindings are not expected to change.
+     *
+     * @return The binding plans
+     */
+    private BindingPlan[] getBindingPlans() {
+        List<QueryParameterBinding> queryBindings = storedQuery.getQueryBindings();
+        BindingPlans plans = bindingPlans;
+        if (plans == null || plans.queryBindings != queryBindings) {
+            BindingPlan[] newPlans = new BindingPlan[queryBindings.size()];
+            for (int i = 0; i < newPlans.length; i++) {
+                newPlans[i] = createBindingPlan(queryBindings.get(i));
+            }
+            plans = new BindingPlans(queryBindings, newPlans);
+            bindingPlans = plans;
+        }
+        return plans.plans;
+    }
+
+    private void bindParameter(Binder binder,
+                               @Nullable InvocationContext<?, ?> invocationContext,
+                               @Nullable E entity,
+                               @Nullable Map<QueryParameterBinding, Object> previousValues,
+                               BindingPlan bindingPlan) {
         RuntimePersistentEntity<E> persistentEntity = getPersistentEntity();
+        QueryParameterBinding binding = bindingPlan.binding;
         Class<?> parameterConverter = binding.getParameterConverterClass();
         Object value = binding.getValue();
         RuntimePersistentProperty<Object> persistentProperty = null;
@@ -103,7 +144,7 @@ public class DefaultBindableParametersStoredQuery<E, R> implements BindableParam
         if (value == null) {
             if (binding.isExpression()) {
                 requireInvocationContext(invocationContext);
-                AnnotationValue<?> annotationValue = storedQuery.getParameterExpressions().get(binding.getName());
+                AnnotationValue<?> annotationValue = bindingPlan.expression;
                 if (annotationValue == null) {
                     throw new IllegalStateException("Required annotation value for parameter expression: " + binding.getName());
                 }
@@ -118,10 +159,10 @@ public class DefaultBindableParametersStoredQuery<E, R> implements BindableParam
                 }
             } else if (binding.getParameterIndex() != -1) {
                 requireInvocationContext(invocationContext);
-                value = resolveParameterValue(binding, invocationContext.getParameterValues());
+                value = bindingPlan.resolveParameterValue(invocationContext.getParameterValues());
                 argument = invocationContext.getArguments()[binding.getParameterIndex()];
             } else if (binding.isAutoPopulated()) {
-                PersistentPropertyPath pp = getRequiredPropertyPath(binding, persistentEntity);
+                PersistentPropertyPath pp = bindingPlan.getRequiredPropertyPath(persistentEntity);
                 persistentProperty = (RuntimePersistentProperty<Object>) pp.getProperty();
                 if (binding.isRequiresPreviousPopulatedValue()) {
                     if (previousValues != null) {
@@ -149,7 +190,7 @@ public class DefaultBindableParametersStoredQuery<E, R> implements BindableParam
                 if (isJsonEntity() && binding.getDataType() == DataType.JSON) {
                     value = entity;
                 } else {
-                    PersistentPropertyPath pp = getRequiredPropertyPath(binding, persistentEntity);
+                    PersistentPropertyPath pp = bindingPlan.getRequiredPropertyPath(persistentEntity);
                     value = pp.getPropertyValue(entity);
                     persistentProperty = (RuntimePersistentProperty<Object>) pp.getProperty();
                 }
@@ -167,8 +208,7 @@ public class DefaultBindableParametersStoredQuery<E, R> implements BindableParam
                 } else {
                     // Otherwise, value got from binding object meaning it was set to null, so we can at least check
                     // since value is null whether the property is nullable
-                    String[] propertyPath = binding.getPropertyPath();
-                    PersistentPropertyPath pp = persistentEntity.getPropertyPath(propertyPath);
+                    PersistentPropertyPath pp = bindingPlan.findPropertyPath(persistentEntity);
                     if (pp != null && pp.getProperty().isRequired()) {
                         throw new IllegalStateException("Field [" + pp.getProperty().getName() + "] does not allow null value.");
                     }
@@ -183,21 +223,7 @@ public class DefaultBindableParametersStoredQuery<E, R> implements BindableParam
 
         if (persistentProperty != null) {
             argument = persistentProperty.getArgument();
-            if (binding.getDataType() != persistentProperty.getDataType()) {
-                RuntimePersistentProperty<?> finalPersistentProperty = persistentProperty;
-                binding = new DelegatingQueryParameterBinding(binding) {
-
-                    @Override
-                    public DataType getDataType() {
-                        return finalPersistentProperty.getDataType();
-                    }
-
-                    @Override
-                    public JsonDataType getJsonDataType() {
-                        return finalPersistentProperty.getJsonDataType();
-                    }
-                };
-            }
+            binding = bindingPlan.getPropertyBinding(persistentProperty);
         }
 
         List<Object> values;
@@ -290,4 +316,113 @@ public class DefaultBindableParametersStoredQuery<E, R> implements BindableParam
         }
     }
 
+    /**
+     * The binding plans of the query bindings.
+     *
+     * @param queryBindings The query bindings
+     * @param plans         The plans
+     */
+    private record BindingPlans(List<QueryParameterBinding> queryBindings, BindingPlan[] plans) {
+    }
+
+    /**
+     * The binding of a query parameter with the parts resolved ahead of the binding: the parameter expression,
+     * the property path and the binding with the data type of the property.
+     * The parts are resolved lazily and only once, the races are harmless as the resolved values are equal.
+     */
+    private static final class BindingPlan {
+
+        private final QueryParameterBinding binding;
+        @Nullable
+        private final AnnotationValue<?> expression;
+        @Nullable
+        private PersistentPropertyPath propertyPath;
+        @Nullable
+        private QueryParameterBinding propertyBinding;
+        @Nullable
+        private BeanProperty<Object, Object>[] parameterBindingProperties;
+
+        private BindingPlan(QueryParameterBinding binding, @Nullable AnnotationValue<?> expression) {
+            this.binding = binding;
+            this.expression = expression;
+        }
+
+        PersistentPropertyPath getRequiredPropertyPath(RuntimePersistentEntity<?> persistentEntity) {
+            PersistentPropertyPath pp = propertyPath;
+            if (pp == null) {
+                String[] path = binding.getRequiredPropertyPath();
+                pp = persistentEntity.getPropertyPath(path);
+                if (pp == null) {
+                    throw new IllegalStateException("Cannot find property: " + String.join(".", path));
+                }
+                propertyPath = pp;
+            }
+            return pp;
+        }
+
+        @Nullable
+        PersistentPropertyPath findPropertyPath(RuntimePersistentEntity<?> persistentEntity) {
+            PersistentPropertyPath pp = propertyPath;
+            if (pp == null) {
+                pp = persistentEntity.getPropertyPath(binding.getPropertyPath());
+                propertyPath = pp;
+            }
+            return pp;
+        }
+
+        /**
+         * Resolve the parameter value, the bean properties of the parameter binding path are remembered for the last seen types.
+         *
+         * @param parameterArray The parameter values
+         * @return The parameter value
+         */
+        @Nullable
+        Object resolveParameterValue(Object[] parameterArray) {
+            Object value = parameterArray[binding.getParameterIndex()];
+            String[] parameterBindingPath = binding.getParameterBindingPath();
+            if (parameterBindingPath == null) {
+                return value;
+            }
+            BeanProperty<Object, Object>[] properties = parameterBindingProperties;
+            if (properties == null) {
+                properties = new BeanProperty[parameterBindingPath.length];
+                parameterBindingProperties = properties;
+            }
+            for (int i = 0; i < parameterBindingPath.length && value != null; i++) {
+                BeanProperty<Object, Object> property = properties[i];
+                if (property == null || property.getDeclaringBean().getBeanType() != value.getClass()) {
+                    BeanIntrospection<Object> introspection = (BeanIntrospection<Object>) BeanIntrospection.getIntrospection(value.getClass());
+                    property = introspection.getRequiredProperty(parameterBindingPath[i], Object.class);
+                    properties[i] = property;
+                }
+                value = property.get(value);
+            }
+            return value;
+        }
+
+        QueryParameterBinding getPropertyBinding(RuntimePersistentProperty<?> persistentProperty) {
+            QueryParameterBinding b = propertyBinding;
+            if (b == null) {
+                if (binding.getDataType() == persistentProperty.getDataType()) {
+                    b = binding;
+                } else {
+                    b = new DelegatingQueryParameterBinding(binding) {
+
+                        @Override
+                        public DataType getDataType() {
+                            return persistentProperty.getDataType();
+                        }
+
+                        @Override
+                        public JsonDataType getJsonDataType() {
+                            return persistentProperty.getJsonDataType();
+                        }
+                    };
+                }
+                propertyBinding = b;
+            }
+            return b;
+        }
+    }
+
 }
@@ -22,12 +22,18 @@ import io.micronaut.core.annotation.AnnotationClassValue;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.beans.BeanProperty;
 import io.micronaut.core.reflect.ReflectionUtils;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
 import io.micronaut.data.annotation.AutoPopulated;
+import io.micronaut.data.annotation.CachedEntity;
+import io.micronaut.data.annotation.CachedQuery;
+import io.micronaut.data.annotation.IgnoreWhere;
 import io.micronaut.data.annotation.MappedProperty;
 import io.micronaut.data.annotation.Repository;
 import io.micronaut.data.annotation.TypeDef;
+import io.micronaut.data.annotation.Where;
 import io.micronaut.data.exceptions.DataAccessException;
 import io.micronaut.data.model.Association;
 import io.micronaut.data.model.DataType;
@@ -37,6 +43,7 @@ import io.micronaut.data.model.PersistentEntityUtils;
 import io.micronaut.data.model.PersistentProperty;
 import io.micronaut.data.model.PersistentPropertyPath;
 import io.micronaut.data.model.jpa.criteria.impl.QueryResultPersistentEntityCriteriaQuery;
+import io.micronaut.data.model.query.JoinPath;
 import io.micronaut.data.model.query.builder.QueryResult;
 import io.micronaut.data.model.query.builder.sql.Dialect;
 import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder2;
@@ -51,6 +58,8 @@ import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.model.runtime.RuntimePersistentProperty;
 import io.micronaut.data.model.runtime.StoredQuery;
 import io.micronaut.data.operations.HintsCapableRepository;
+import io.micronaut.data.runtime.cache.EntityCacheStore;
+import io.micronaut.data.runtime.cache.QueryResultCache;
 import io.micronaut.data.runtime.config.DataSettings;
 import io.micronaut.data.runtime.convert.DataConversionService;
 import io.micronaut.data.runtime.criteria.RuntimeCriteriaBuilder;
@@ -58,8 +67,10 @@ import io.micronaut.data.runtime.date.DateTimeProvider;
 import io.micronaut.data.runtime.mapper.QueryStatement;
 import io.micronaut.data.runtime.mapper.ResultReader;
 import io.micronaut.data.runtime.mapper.sql.JsonQueryResultMapper;
+import io.micronaut.data.runtime.mapper.sql.SqlColumnIndexResultReader;
 import io.micronaut.data.runtime.mapper.sql.SqlJsonValueMapper;
 import io.micronaut.data.runtime.mapper.sql.SqlResultEntityTypeMapper;
+import io.micronaut.data.runtime.mapper.sql.SqlResultRowPlan;
 import io.micronaut.data.runtime.mapper.sql.SqlTypeMapper;
 import io.micronaut.data.runtime.operations.internal.AbstractRepositoryOperations;
 import io.micronaut.data.runtime.query.MethodContextAwareStoredQueryDecorator;
@@ -78,9 +89,12 @@ import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.stream.Stream;
@@ -105,6 +119,7 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
     HintsCapableRepository {
 
     protected static final Logger QUERY_LOG = DataSettings.QUERY_LOG;
+    private static final int MAX_MULTI_ROW_INSERTS = 256;
 
     protected final String dataSourceName;
     @SuppressWarnings("WeakerAccess")
@@ -120,6 +135,15 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
     private final Map<QueryKey, SqlStoredQuery> entityInserts = new ConcurrentHashMap<>(10);
     private final Map<QueryKey, SqlStoredQuery> entityUpdates = new ConcurrentHashMap<>(10);
     private final Map<Association, String> associationInserts = new ConcurrentHashMap<>(10);
+    private final Map<DtoEntityKey, RuntimePersistentEntity<?>> dtoEntities = new ConcurrentHashMap<>(10);
+    private final Map<MultiRowInsertKey, String> multiRowInserts = new ConcurrentLinkedHashMap.Builder<MultiRowInsertKey, String>()
+        .maximumWeightedCapacity(MAX_MULTI_ROW_INSERTS)
+        .build();
+    private final Map<PooledSequenceKey, Optional<PooledSequence>> pooledSequences = new ConcurrentHashMap<>(10);
+    @Nullable
+    private final EntityCacheStore entityCacheStore;
+    @Nullable
+    private final QueryResultCache queryResultCache;
 
     /**
      * Default constructor.
@@ -155,6 +179,8 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         this.preparedStatementWriter = preparedStatementWriter;
         this.jsonMapper = jsonMapper;
         this.sqlJsonColumnMapperProvider = sqlJsonColumnMapperProvider;
+        this.entityCacheStore = beanContext.findBean(EntityCacheStore.class).orElse(null);
+        this.queryResultCache = beanContext.findBean(QueryResultCache.class).orElse(null);
         Collection<BeanDefinition<Object>> beanDefinitions = beanContext
             .getBeanDefinitions(Object.class, Qualifiers.byStereotype(Repository.class));
         for (BeanDefinition<Object> beanDefinition : beanDefinitions) {
@@ -176,6 +202,27 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         return columnNameResultSetReader;
     }
 
+    /**
+     * The reader used to read the columns resolved by the {@link SqlResultRowPlan} of a stored query.
+     *
+     * @return The reader or null if the entity columns should be always read by the name
+     * @since 4.10
+     */
+    @Nullable
+    protected SqlColumnIndexResultReader<RS> getRowPlanColumnIndexReader() {
+        return null;
+    }
+
+    /**
+     * Whether the collections of the expandable parameters should be padded to limit the count of distinct queries.
+     *
+     * @return true if the padding is enabled
+     * @since 4.10
+     */
+    protected boolean isExpandableParameterPadding() {
+        return false;
+    }
+
     @Override
     public <E, R> PreparedQuery<E, R> decorate(PreparedQuery<E, R> preparedQuery) {
         return new DefaultSqlPreparedQuery<>(preparedQuery);
@@ -186,7 +233,7 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         Class<?> repositoryType = context.getTarget().getClass();
         SqlQueryBuilder2 queryBuilder = findQueryBuilder(repositoryType);
         RuntimePersistentEntity<E> runtimePersistentEntity = runtimeEntityRegistry.getEntity(storedQuery.getRootEntity());
-        return new DefaultSqlStoredQuery<>(storedQuery, runtimePersistentEntity, queryBuilder);
+        return new DefaultSqlStoredQuery<>(storedQuery, runtimePersistentEntity, queryBuilder, isExpandableParameterPadding());
     }
 
     /**
@@ -209,8 +256,29 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         if (!isUpdate) {
             sqlPreparedQuery.attachPageable(preparedQuery.getPageable(), isSingleResult);
         }
+        return createStatement(statementFunction, sqlPreparedQuery.getQuery());
+    }
 
-        String query = sqlPreparedQuery.getQuery();
+    /**
+     * Prepare a statement reading the entities with the to-many joins.
+     * The query is ordered by the root entity ID if no order is defined, allowing the entities to be emitted once
+     * all of their rows are read, see {@link SqlPreparedQuery#isGroupedByRootId()}.
+     *
+     * @param statementFunction The statement function
+     * @param preparedQuery     The prepared query
+     * @param <T>               The query declaring type
+     * @param <R>               The query result type
+     * @return The prepared statement
+     * @since 4.10
+     */
+    protected <T, R> PS prepareGroupedByRootIdStatement(StatementSupplier<PS> statementFunction,
+                                                        @NonNull SqlPreparedQuery<T, R> preparedQuery) throws Exc {
+        preparedQuery.prepare(null);
+        preparedQuery.attachPageableGroupedByRootId(preparedQuery.getPageable());
+        return createStatement(statementFunction, preparedQuery.getQuery());
+    }
+
+    private PS createStatement(StatementSupplier<PS> statementFunction, String query) {
         if (QUERY_LOG.isDebugEnabled()) {
             QUERY_LOG.debug("Executing Query: {}", query);
         }
@@ -532,6 +600,11 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
      * @return true if supported
      */
     protected boolean isSupportsBatchInsert(PersistentEntity persistentEntity, Dialect dialect) {
+        PersistentProperty identity = persistentEntity.getIdentity();
+        if (identity != null && PersistentEntityUtils.isPooledSequence(identity)) {
+            // The pooled identities are assigned before the insert
+            return true;
+        }
         // Oracle and MySql doesn't support a batch with returning generated ID: "DML Returning cannot be batched"
         return switch (dialect) {
             case SQL_SERVER -> false;
@@ -546,6 +619,103 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         };
     }
 
+    /**
+     * Does supports the insert of multiple rows by one statement for the inserts that cannot be batched.
+     *
+     * @param repositoryType   The repository type
+     * @param persistentEntity The persistent entity
+     * @param sqlStoredQuery   The sqlStoredQuery
+     * @return true if supported
+     * @since 4.10
+     */
+    protected boolean isSupportsMultiRowInsert(Class<?> repositoryType, PersistentEntity persistentEntity, SqlStoredQuery<?, ?> sqlStoredQuery) {
+        return sqlStoredQuery.getOperationType() == OperationType.INSERT
+            && !isSupportsBatchInsert(persistentEntity, sqlStoredQuery)
+            && findMultiRowInsertQuery(repositoryType, sqlStoredQuery, 1) != null;
+    }
+
+    /**
+     * Find the pooled sequence of the entity identity.
+     * The sequences are pooled per {@link #getQueryResultCacheScope()}, the blocks of one tenant schema are never used by another.
+     *
+     * @param repositoryType   The repository type
+     * @param persistentEntity The persistent entity
+     * @return The pooled sequence or null if the identity values are not pooled
+     * @since 4.10
+     */
+    @Nullable
+    protected final PooledSequence findPooledSequence(Class<?> repositoryType, RuntimePersistentEntity<?> persistentEntity) {
+        RuntimePersistentProperty<?> identity = persistentEntity.getIdentity();
+        if (identity == null || !identity.isGenerated()) {
+            return null;
+        }
+        PooledSequenceKey sequenceKey = new PooledSequenceKey(repositoryType, persistentEntity.getIntrospection().getBeanType(), getQueryResultCacheScope());
+        return pooledSequences.computeIfAbsent(sequenceKey, key -> {
+            String query = findQueryBuilder(repositoryType).buildPooledSequenceQuery(persistentEntity);
+            if (query == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new PooledSequence(query, PersistentEntityUtils.getSequenceAllocationSize(identity)));
+        }).orElse(null);
+    }
+
+    /**
+     * Check if the pooled identity of the entity is still unassigned.
+     * The primitive identity is unassigned if it has the default value.
+     *
+     * @param persistentEntity The persistent entity
+     * @param entity           The entity
+     * @param <T>              The entity type
+     * @return true if the identity should be allocated from the pooled sequence
+     * @since 4.10
+     */
+    protected final <T> boolean isPooledIdentityUnassigned(RuntimePersistentEntity<T> persistentEntity, T entity) {
+        RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
+        Object id = identity.getProperty().get(entity);
+        if (id == null) {
+            return true;
+        }
+        return identity.getType().isPrimitive() && id instanceof Number number && number.longValue() == 0;
+    }
+
+    /**
+     * Get the count of the rows inserted by one multi-row insert.
+     *
+     * @param repositoryType The repository type
+     * @param sqlStoredQuery The single row insert
+     * @return The count of the rows
+     * @since 4.10
+     */
+    protected final int getMultiRowInsertSize(Class<?> repositoryType, SqlStoredQuery<?, ?> sqlStoredQuery) {
+        return findQueryBuilder(repositoryType).getMultiRowInsertSize(sqlStoredQuery.getQueryBindings().size());
+    }
+
+    /**
+     * Find the insert of multiple rows by one statement.
+     *
+     * @param repositoryType The repository type
+     * @param sqlStoredQuery The single row insert
+     * @param rows           The count of the rows
+     * @return The query or null if not supported
+     * @since 4.10
+     */
+    @Nullable
+    protected final String findMultiRowInsertQuery(Class<?> repositoryType, SqlStoredQuery<?, ?> sqlStoredQuery, int rows) {
+        SqlQueryBuilder2 queryBuilder = queryBuilders.get(repositoryType);
+        if (queryBuilder == null) {
+            return null;
+        }
+        MultiRowInsertKey key = new MultiRowInsertKey(repositoryType, sqlStoredQuery.getQuery(), rows);
+        String query = multiRowInserts.get(key);
+        if (query == null) {
+            query = queryBuilder.buildMultiRowInsert(sqlStoredQuery.getPersistentEntity(), sqlStoredQuery.getQuery(), rows);
+            if (query != null) {
+                multiRowInserts.put(key, query);
+            }
+        }
+        return query;
+    }
+
     /**
      * Does supports batch for update queries.
      *
@@ -714,40 +884,11 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         if (isEntityResult) {
             ResultReader<RS, String> resultReader =
                 preparedQuery.isDtoProjection() ? createColumnNameResultSetReaderWithColumnExistenceAware() : columnNameResultSetReader;
-            return new SqlResultEntityTypeMapper<>(
-                getEntity(preparedQuery.getResultType()),
-                resultReader,
-                preparedQuery.getJoinPaths(),
-                sqlJsonColumnMapperProvider.getJsonColumnReader(preparedQuery, rsType),
-                loadListener,
-                conversionService);
+            return createEntityMapper(preparedQuery, rsType, getEntity(preparedQuery.getResultType()), resultReader, loadListener);
         }
         if (preparedQuery.isDtoProjection()) {
-            RuntimePersistentEntity<R> resultPersistentEntity = getEntity(preparedQuery.getResultType());
-            Collection<BeanProperty<R, Object>> beanProperties = resultPersistentEntity.getIntrospection().getBeanProperties();
-            RuntimePersistentEntity<R> dtoPersistentEntity = new RuntimePersistentEntity<>(
-                resultPersistentEntity.getIntrospection(),
-                beanProperties.stream().map(p -> {
-                    if (p.hasAnnotation(MappedProperty.class)) {
-                        return p;
-                    }
-                    RuntimePersistentProperty<E> entityProperty = persistentEntity.getPropertyByName(p.getName());
-                    if (entityProperty == null || !ReflectionUtils.getWrapperType(entityProperty.getType()).equals(ReflectionUtils.getWrapperType(p.getType()))) {
-                        return p;
-                    }
-                    return new BeanPropertyWithAnnotationMetadata<>(
-                        p,
-                        new AnnotationMetadataHierarchy(p.getAnnotationMetadata(), entityProperty.getAnnotationMetadata())
-                    );
-                }).toList()
-            );
-            return new SqlResultEntityTypeMapper<>(
-                dtoPersistentEntity,
-                columnNameResultSetReader,
-                preparedQuery.getJoinPaths(),
-                sqlJsonColumnMapperProvider.getJsonColumnReader(preparedQuery, rsType),
-                null,
-                conversionService);
+            RuntimePersistentEntity<R> dtoPersistentEntity = getDtoEntity(persistentEntity, preparedQuery.getResultType());
+            return createEntityMapper(preparedQuery, rsType, dtoPersistentEntity, columnNameResultSetReader, null);
         }
         return new SqlTypeMapper<>() {
             @Override
@@ -774,6 +915,242 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         };
     }
 
+    private <E, R> SqlResultEntityTypeMapper<RS, R> createEntityMapper(SqlStoredQuery<E, R> preparedQuery,
+                                                                      Class<RS> rsType,
+                                                                      RuntimePersistentEntity<R> resultPersistentEntity,
+                                                                      ResultReader<RS, String> resultReader,
+                                                                      @Nullable BiFunction<RuntimePersistentEntity<Object>, Object, Object> loadListener) {
+        SqlResultRowPlan rowPlan = preparedQuery.getRowPlan();
+        SqlColumnIndexResultReader<RS> rowPlanColumnIndexReader = getRowPlanColumnIndexReader();
+        if (rowPlan != null && rowPlanColumnIndexReader != null) {
+            return new SqlResultEntityTypeMapper<>(
+                resultPersistentEntity,
+                resultReader,
+                preparedQuery.getJoinPaths(),
+                sqlJsonColumnMapperProvider.getJsonColumnReader(preparedQuery, rsType),
+                loadListener,
+                conversionService,
+                rowPlan,
+                rowPlanColumnIndexReader);
+        }
+        return new SqlResultEntityTypeMapper<>(
+            resultPersistentEntity,
+            resultReader,
+            preparedQuery.getJoinPaths(),
+            sqlJsonColumnMapperProvider.getJsonColumnReader(preparedQuery, rsType),
+            loadListener,
+            conversionService);
+    }
+
+    /**
+     * Get the persistent entity of the DTO projection.
+     * The DTO properties matching the entity properties inherit the annotation metadata of the entity properties.
+     *
+     * @param persistentEntity The persistent entity
+     * @param dtoType          The DTO type
+     * @param <E>              The entity type
+     * @param <R>              The DTO type
+     * @return The cached DTO entity
+     */
+    private <E, R> RuntimePersistentEntity<R> getDtoEntity(RuntimePersistentEntity<E> persistentEntity, Class<R> dtoType) {
+        return (RuntimePersistentEntity<R>) dtoEntities.computeIfAbsent(new DtoEntityKey(persistentEntity.getIntrospection().getBeanType(), dtoType), key -> {
+            RuntimePersistentEntity<R> resultPersistentEntity = getEntity(dtoType);
+            Collection<BeanProperty<R, Object>> beanProperties = resultPersistentEntity.getIntrospection().getBeanProperties();
+            return new RuntimePersistentEntity<>(
+                resultPersistentEntity.getIntrospection(),
+                beanProperties.stream().map(p -> {
+                    if (p.hasAnnotation(MappedProperty.class)) {
+                        return p;
+                    }
+                    RuntimePersistentProperty<E> entityProperty = persistentEntity.getPropertyByName(p.getName());
+                    if (entityProperty == null || !ReflectionUtils.getWrapperType(entityProperty.getType()).equals(ReflectionUtils.getWrapperType(p.getType()))) {
+                        return p;
+                    }
+                    return new BeanPropertyWithAnnotationMetadata<>(
+                        p,
+                        new AnnotationMetadataHierarchy(p.getAnnotationMetadata(), entityProperty.getAnnotationMetadata())
+                    );
+                }).toList()
+            );
+        });
+    }
+
+    /**
+     * Whether the entity is cached, see {@link CachedEntity}.
+     *
+     * @param persistentEntity The persistent entity
+     * @return true if the entity is cached
+     * @since 4.10
+     */
+    protected final boolean isCachedEntity(@NonNull RuntimePersistentEntity<?> persistentEntity) {
+        return entityCacheStore != null && persistentEntity.hasAnnotation(CachedEntity.class);
+    }
+
+    /**
+     * Find the ID of the cached entity looked up by the query.
+     * Only the queries selecting the cached entity by its ID without any joins, locks or additional criteria are served by the cache.
+     *
+     * @param preparedQuery The prepared query
+     * @return The ID or null if the query is not an ID lookup of a cached entity
+     * @since 4.10
+     */
+    @Nullable
+    protected final Object findCachedEntityId(@NonNull SqlPreparedQuery<?, ?> preparedQuery) {
+        RuntimePersistentEntity<?> persistentEntity = preparedQuery.getPersistentEntity();
+        if (!isCachedEntity(persistentEntity)
+            || preparedQuery.getOperationType() != OperationType.QUERY
+            || preparedQuery.isNative() || preparedQuery.isProcedure() || preparedQuery.isCount()
+            || preparedQuery.isDtoProjection() || preparedQuery.hasPageable()
+            || preparedQuery.getResultDataType() != DataType.ENTITY
+            || preparedQuery.getResultType() != persistentEntity.getIntrospection().getBeanType()
+            || !preparedQuery.getJoinPaths().isEmpty()
+            || preparedQuery.getQueryBindings().size() != 1
+            || preparedQuery.getAnnotationMetadata().hasAnnotation(Where.class)
+            || preparedQuery.getAnnotationMetadata().hasAnnotation(IgnoreWhere.class)
+            || isLockingQuery(preparedQuery.getQuery())) {
+            return null;
+        }
+        RuntimePersistentProperty<?> identity = persistentEntity.getIdentity();
+        QueryParameterBinding binding = preparedQuery.getQueryBindings().get(0);
+        String[] propertyPath = binding.getPropertyPath();
+        if (identity == null || binding.isExpandable() || binding.getParameterBindingPath() != null
+            || binding.getParameterIndex() < 0 || propertyPath == null || propertyPath.length != 1
+            || !propertyPath[0].equals(identity.getName())) {
+            return null;
+        }
+        return preparedQuery.getParameterArray()[binding.getParameterIndex()];
+    }
+
+    /**
+     * Look up the cached entity in the scope of the data source and {@link #getQueryResultCacheScope()}.
+     *
+     * @param preparedQuery The prepared query
+     * @param id            The entity ID, see {@link #findCachedEntityId(SqlPreparedQuery)}
+     * @param <R>           The entity type
+     * @return The lookup, allowing to cache the entity if missing
+     * @since 4.10
+     */
+    @NonNull
+    protected final <R> CachedEntityLookup<R> lookupCachedEntity(@NonNull SqlPreparedQuery<?, R> preparedQuery, @NonNull Object id) {
+        RuntimePersistentEntity<R> persistentEntity = (RuntimePersistentEntity<R>) preparedQuery.getPersistentEntity();
+        Object scope = getQueryResultCacheScope();
+        EntityCacheStore store = Objects.requireNonNull(entityCacheStore);
+        // The generation is read before the entity, the entity read before a concurrent invalidation is not cached
+        long generation = store.getGeneration(dataSourceName, persistentEntity);
+        return new CachedEntityLookup<>(persistentEntity, scope, id, generation, store.get(dataSourceName, scope, persistentEntity, id));
+    }
+
+    /**
+     * Invalidate the cached entity, no-op if the entity is not cached.
+     *
+     * @param persistentEntity The persistent entity
+     * @param entity           The updated or deleted entity
+     * @param <T>              The entity type
+     * @since 4.10
+     */
+    protected final <T> void invalidateCachedEntity(@NonNull RuntimePersistentEntity<T> persistentEntity, @NonNull T entity) {
+        if (!isCachedEntity(persistentEntity)) {
+            return;
+        }
+        RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
+        Object id = identity == null ? null : identity.getProperty().get(entity);
+        if (id == null) {
+            entityCacheStore.invalidateAll(dataSourceName, persistentEntity);
+        } else {
+            entityCacheStore.invalidate(dataSourceName, getQueryResultCacheScope(), persistentEntity, id);
+        }
+    }
+
+    /**
+     * Invalidate all cached entities modified by the query, no-op if the entity is not cached.
+     *
+     * @param preparedQuery The update or delete query
+     * @since 4.10
+     */
+    protected final void invalidateCachedEntities(@NonNull SqlPreparedQuery<?, ?> preparedQuery) {
+        RuntimePersistentEntity<?> persistentEntity = preparedQuery.getPersistentEntity();
+        if (isCachedEntity(persistentEntity)) {
+            entityCacheStore.invalidateAll(dataSourceName, persistentEntity);
+        }
+    }
+
+    /**
+     * The scope of the cached query results and entities, the results and entities of different scopes are cached separately.
+     *
+     * @return The scope, for example the current tenant schema, or null
+     * @since 4.10
+     */
+    @Nullable
+    protected Object getQueryResultCacheScope() {
+        return null;
+    }
+
+    /**
+     * Whether the query method is annotated with {@link CachedQuery} and the results might be cached.
+     *
+     * @param preparedQuery The prepared query
+     * @return true if the query results might be cached
+     * @since 4.10
+     */
+    protected final boolean isCachedQuery(@NonNull SqlPreparedQuery<?, ?> preparedQuery) {
+        return queryResultCache != null && preparedQuery.getAnnotationMetadata().hasAnnotation(CachedQuery.class);
+    }
+
+    /**
+     * Look up the cached result of the query method annotated with {@link CachedQuery}.
+     * The queries with the parameters not bound from the method arguments, like expressions or auto-populated values, aren't cached.
+     *
+     * @param preparedQuery The prepared query
+     * @param many          Whether the result is a list
+     * @return The lookup or null if the query is not cached
+     * @since 4.10
+     */
+    @Nullable
+    protected final QueryResultCache.Lookup findCachedQueryResult(@NonNull SqlPreparedQuery<?, ?> preparedQuery, boolean many) {
+        if (!isCachedQuery(preparedQuery)
+            || preparedQuery.getOperationType() != OperationType.QUERY
+            || preparedQuery.isProcedure()
+            || isLockingQuery(preparedQuery.getQuery())) {
+            return null;
+        }
+        for (QueryParameterBinding binding : preparedQuery.getQueryBindings()) {
+            if (binding.isExpression() || binding.isAutoPopulated()
+                || binding.getParameterIndex() < 0 && binding.getValue() == null) {
+                return null;
+            }
+        }
+        return queryResultCache.lookup(dataSourceName, preparedQuery, preparedQuery.getPersistentEntity(), getQueryResultCacheScope(), getQueryTables(preparedQuery), many);
+    }
+
+    /**
+     * Invalidate the cached query results reading the table of the entity.
+     *
+     * @param persistentEntity The modified persistent entity
+     * @since 4.10
+     */
+    protected final void invalidateCachedQueryResults(@NonNull RuntimePersistentEntity<?> persistentEntity) {
+        if (queryResultCache != null) {
+            queryResultCache.invalidate(persistentEntity.getPersistedName());
+        }
+    }
+
+    private String[] getQueryTables(SqlPreparedQuery<?, ?> preparedQuery) {
+        Set<JoinPath> joinPaths = preparedQuery.getJoinPaths();
+        if (joinPaths.isEmpty()) {
+            return new String[]{preparedQuery.getPersistentEntity().getPersistedName()};
+        }
+        Set<String> tables = new LinkedHashSet<>(joinPaths.size() + 1);
+        tables.add(preparedQuery.getPersistentEntity().getPersistedName());
+        for (JoinPath joinPath : joinPaths) {
+            tables.add(joinPath.getAssociation().getAssociatedEntity().getPersistedName());
+        }
+        return tables.toArray(String[]::new);
+    }
+
+    private static boolean isLockingQuery(String query) {
+        return query.contains(" FOR UPDATE") || query.contains("UPDLOCK");
+    }
+
     /**
      * Used to cache queries for entities.
      */
@@ -805,6 +1182,78 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         }
     }
 
+    /**
+     * Used to cache the DTO projection entities.
+     *
+     * @param entityType The entity type
+     * @param dtoType    The DTO type
+     */
+    private record DtoEntityKey(Class<?> entityType, Class<?> dtoType) {
+    }
+
+    /**
+     * Used to cache the pooled sequences.
+     *
+     * @param repositoryType The repository type
+     * @param entityType     The entity type
+     * @param scope          The tenant scope or null
+     */
+    private record PooledSequenceKey(Class<?> repositoryType, Class<?> entityType, @Nullable Object scope) {
+    }
+
+    /**
+     * Used to cache the multi-row inserts.
+     *
+     * @param repositoryType The repository type
+     * @param query          The single row insert
+     * @param rows           The count of the rows
+     */
+    private record MultiRowInsertKey(Class<?> repositoryType, String query, int rows) {
+    }
+
+    /**
+     * The lookup of a cached entity.
+     *
+     * @param <R> The entity type
+     * @since 4.10
+     */
+    protected final class CachedEntityLookup<R> {
+
+        private final RuntimePersistentEntity<R> persistentEntity;
+        @Nullable
+        private final Object scope;
+        private final Object id;
+        private final long generation;
+        @Nullable
+        private final R entity;
+
+        private CachedEntityLookup(RuntimePersistentEntity<R> persistentEntity, @Nullable Object scope, Object id, long generation, @Nullable R entity) {
+            this.persistentEntity = persistentEntity;
+            this.scope = scope;
+            this.id = id;
+            this.generation = generation;
+            this.entity = entity;
+        }
+
+        /**
+         * @return The copy of the cached entity or null if not cached
+         */
+        @Nullable
+        public R getEntity() {
+            return entity;
+        }
+
+        /**
+         * Cache the entity read by the ID lookup.
+         * The entity is not cached if the entity type was invalidated since the lookup.
+         *
+         * @param entity The entity
+         */
+        public void cache(@NonNull R entity) {
+            Objects.requireNonNull(entityCacheStore).put(dataSourceName, scope, persistentEntity, id, entity, generation);
+        }
+    }
+
 
     /**
      * Functional interface used to supply a statement.
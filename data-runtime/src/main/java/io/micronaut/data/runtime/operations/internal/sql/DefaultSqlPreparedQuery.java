@@ -18,9 +18,11 @@ package io.micronaut.data.runtime.operations.internal.sql;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.data.annotation.TypeRole;
 import io.micronaut.data.exceptions.DataAccessException;
+import io.micronaut.data.model.Association;
 import io.micronaut.data.model.CursoredPageable;
 import io.micronaut.data.model.DataType;
 import io.micronaut.data.model.Pageable;
@@ -39,6 +41,7 @@ import io.micronaut.data.model.runtime.QueryParameterBinding;
 import io.micronaut.data.model.runtime.QueryResultInfo;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.model.runtime.RuntimePersistentProperty;
+import io.micronaut.data.runtime.mapper.sql.SqlResultRowPlan;
 import io.micronaut.data.runtime.operations.internal.query.DefaultBindableParametersPreparedQuery;
 import io.micronaut.data.runtime.operations.internal.query.DummyPreparedQuery;
 import io.micronaut.data.runtime.query.internal.DelegatePreparedQuery;
@@ -46,6 +49,7 @@ import io.micronaut.data.runtime.query.internal.DelegateStoredQuery;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -68,6 +72,7 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
     protected final SqlStoredQuery<E, R> sqlStoredQuery;
     protected String query;
     private final boolean bindPageableOrSort;
+    private boolean groupedByRootId;
 
     public DefaultSqlPreparedQuery(PreparedQuery<E, R> preparedQuery) {
         this(preparedQuery, (SqlStoredQuery<E, R>) ((DelegateStoredQuery<Object, Object>) preparedQuery).getStoredQueryDelegate());
@@ -107,6 +112,11 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
         return sqlStoredQuery.getDialect();
     }
 
+    @Override
+    public SqlResultRowPlan getRowPlan() {
+        return sqlStoredQuery.getRowPlan();
+    }
+
     @Override
     public SqlQueryBuilder2 getQueryBuilder() {
         return sqlStoredQuery.getQueryBuilder();
@@ -122,6 +132,11 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
         return sqlStoredQuery.collectAutoPopulatedPreviousValues(entity);
     }
 
+    @Override
+    public SqlExpandableQueryTemplate getExpandableQueryTemplate() {
+        return sqlStoredQuery.getExpandableQueryTemplate();
+    }
+
     /**
      * Check if query need to be modified to expand parameters.
      *
@@ -130,45 +145,94 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
     @Override
     public void prepare(E entity) {
         if (isExpandableQuery()) {
-            SqlQueryBuilder2 queryBuilder = sqlStoredQuery.getQueryBuilder();
-            String positionalParameterFormat = queryBuilder.positionalParameterFormat();
-            StringBuilder q = new StringBuilder(sqlStoredQuery.getExpandableQueryParts()[0]);
-            int queryParamIndex = 1;
-            int inx = 1;
-            for (QueryParameterBinding parameter : sqlStoredQuery.getQueryBindings()) {
-                if (!parameter.isExpandable()) {
-                    q.append(String.format(positionalParameterFormat, inx++));
-                } else if (parameter.getRole() == null) {
-                    Object parameterValue = getParameterValue(parameter);
-                    int size = Math.max(1, sizeOf(parameterValue));
-                    for (int k = 0; k < size; k++) {
-                        q.append(String.format(positionalParameterFormat, inx++));
-                        if (k + 1 != size) {
-                            q.append(",");
-                        }
-                    }
-                } else if (TypeRole.PAGEABLE_REQUIRED.equals(parameter.getRole())) {
-                    Pageable pageable = getPageableParameter(parameter);
-                    if (!pageable.isUnpaged()) {
-                        appendPaginationOrOrderQueryPart(q, pageable, false, parameter.getTableAlias(), inx);
-                    }
-                } else if (TypeRole.PAGEABLE.equals(parameter.getRole())) {
-                    Pageable pageable = getPageableParameter(parameter);
+            SqlExpandableQueryTemplate template = getExpandableQueryTemplate();
+            if (template == null) {
+                template = new SqlExpandableQueryTemplate(
+                    sqlStoredQuery.getExpandableQueryParts(),
+                    sqlStoredQuery.getQueryBuilder().positionalParameterFormat(),
+                    sqlStoredQuery.getQueryBindings().size()
+                );
+            }
+            List<Object> queryShape = getExpandedQueryShape(template);
+            String expandedQuery = queryShape == null ? null : template.findExpandedQuery(queryShape);
+            if (expandedQuery == null) {
+                expandedQuery = expandQuery(template);
+                if (queryShape != null) {
+                    template.cacheExpandedQuery(queryShape, expandedQuery);
+                }
+            }
+            this.query = expandedQuery;
+        }
+    }
+
+    private String expandQuery(SqlExpandableQueryTemplate template) {
+        SqlQueryBuilder2 queryBuilder = sqlStoredQuery.getQueryBuilder();
+        StringBuilder q = new StringBuilder(template.getQueryPart(0));
+        int queryParamIndex = 1;
+        int inx = 1;
+        for (QueryParameterBinding parameter : sqlStoredQuery.getQueryBindings()) {
+            if (!parameter.isExpandable()) {
+                template.appendPositionalParameter(q, inx++);
+            } else if (parameter.getRole() == null) {
+                Object parameterValue = getParameterValue(parameter);
+                int size = template.getExpandedSize(Math.max(1, sizeOf(parameterValue)));
+                template.appendPositionalParameters(q, inx, size);
+                inx += size;
+            } else if (TypeRole.PAGEABLE_REQUIRED.equals(parameter.getRole())) {
+                Pageable pageable = getPageableParameter(parameter);
+                if (!pageable.isUnpaged()) {
                     appendPaginationOrOrderQueryPart(q, pageable, false, parameter.getTableAlias(), inx);
-                } else if (TypeRole.SORT.equals(parameter.getRole())) {
-                    Sort sort = getSortParameter(parameter);
-                    appendSort(sort, q, sqlStoredQuery.getQueryBuilder(), parameter.getTableAlias());
-                    int limit = sqlStoredQuery.getLimit();
-                    int offset = sqlStoredQuery.getOffset();
-                    if (limit != -1 || offset > 0) {
-                        // Limit defined by the method name
-                        q.append(queryBuilder.buildLimitAndOffset(limit, offset));
-                    }
                 }
-                q.append(sqlStoredQuery.getExpandableQueryParts()[queryParamIndex++]);
+            } else if (TypeRole.PAGEABLE.equals(parameter.getRole())) {
+                Pageable pageable = getPageableParameter(parameter);
+                appendPaginationOrOrderQueryPart(q, pageable, false, parameter.getTableAlias(), inx);
+            } else if (TypeRole.SORT.equals(parameter.getRole())) {
+                Sort sort = getSortParameter(parameter);
+                appendSort(sort, q, queryBuilder, parameter.getTableAlias());
+                int limit = sqlStoredQuery.getLimit();
+                int offset = sqlStoredQuery.getOffset();
+                if (limit != -1 || offset > 0) {
+                    // Limit defined by the method name
+                    q.append(queryBuilder.buildLimitAndOffset(limit, offset));
+                }
+            }
+            q.append(template.getQueryPart(queryParamIndex++));
+        }
+        return q.toString();
+    }
+
+    /**
+     * The shape of the expandable parameters: the collection sizes, the pageable and sort.
+     * Queries with the same shape are expanded the same way.
+     *
+     * @param template The query template
+     * @return The shape or null if the expanded query cannot be reused
+     */
+    @Nullable
+    private List<Object> getExpandedQueryShape(SqlExpandableQueryTemplate template) {
+        List<QueryParameterBinding> queryBindings = sqlStoredQuery.getQueryBindings();
+        Object[] shape = new Object[queryBindings.size()];
+        for (int i = 0; i < shape.length; i++) {
+            QueryParameterBinding parameter = queryBindings.get(i);
+            if (!parameter.isExpandable()) {
+                continue;
+            }
+            if (parameter.getRole() == null) {
+                shape[i] = template.getExpandedSize(Math.max(1, sizeOf(getParameterValue(parameter))));
+            } else if (TypeRole.PAGEABLE_REQUIRED.equals(parameter.getRole()) || TypeRole.PAGEABLE.equals(parameter.getRole())) {
+                Pageable pageable = getPageableParameter(parameter);
+                if (pageable instanceof CursoredPageable) {
+                    // The cursor is modifying the query and adding the parameters
+                    return null;
+                }
+                shape[i] = new PageableShape(pageable.getSort(), pageable.isUnpaged() ? -1 : pageable.getSize(), pageable.isUnpaged() ? 0 : pageable.getOffset());
+            } else if (TypeRole.SORT.equals(parameter.getRole())) {
+                shape[i] = getSortParameter(parameter);
+            } else {
+                return null;
             }
-            this.query = q.toString();
         }
+        return Arrays.asList(shape);
     }
 
     private Pageable getPageableParameter(QueryParameterBinding parameter) {
@@ -242,18 +306,65 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
         if (pageable.isUnpaged() && !pageable.isSorted() || bindPageableOrSort) {
             return;
         }
-        StringBuilder builder = new StringBuilder();
-        appendPaginationOrOrderQueryPart(builder, pageable, isSingleResult, null, storedQuery.getQueryBindings().size() + 1);
-
         int forUpdateIndex = this.query.lastIndexOf(SqlQueryBuilder.STANDARD_FOR_UPDATE_CLAUSE);
         if (forUpdateIndex == -1) {
             forUpdateIndex = this.query.lastIndexOf(SqlQueryBuilder.SQL_SERVER_FOR_UPDATE_CLAUSE);
         }
+        StringBuilder builder = new StringBuilder(forUpdateIndex > -1 ? this.query.substring(0, forUpdateIndex) : this.query);
+        appendPaginationOrOrderQueryPart(builder, pageable, isSingleResult, null, storedQuery.getQueryBindings().size() + 1);
         if (forUpdateIndex > -1) {
-            this.query = this.query.substring(0, forUpdateIndex) + builder + this.query.substring(forUpdateIndex);
+            builder.append(this.query, forUpdateIndex, this.query.length());
+        }
+        this.query = builder.toString();
+    }
+
+    @Override
+    public void attachPageableGroupedByRootId(Pageable pageable) {
+        groupedByRootId = false;
+        if (bindPageableOrSort || pageable instanceof CursoredPageable || query.contains(AbstractSqlLikeQueryBuilder.ORDER_BY_CLAUSE)) {
+            attachPageable(pageable, false);
+            return;
+        }
+        RuntimePersistentEntity<E> persistentEntity = getPersistentEntity();
+        RuntimePersistentProperty<E> identity = persistentEntity.getIdentity();
+        if (identity == null || identity instanceof Association) {
+            attachPageable(pageable, false);
+            return;
+        }
+        if (pageable.isSorted()) {
+            attachPageable(pageable, false);
+            groupedByRootId = isSortedByRootProperties(pageable.getSort(), persistentEntity, identity);
         } else {
-            this.query += builder;
+            attachPageable(pageable.withSort(sortById(persistentEntity)), false);
+            groupedByRootId = true;
+        }
+    }
+
+    @Override
+    public boolean isGroupedByRootId() {
+        return groupedByRootId;
+    }
+
+    /**
+     * Check if the sort is ordering by the root entity ID, only preceded by other root entity properties.
+     *
+     * @param sort             The sort
+     * @param persistentEntity The root entity
+     * @param identity         The identity
+     * @return true if the rows of one root entity are consecutive
+     */
+    private boolean isSortedByRootProperties(Sort sort, RuntimePersistentEntity<E> persistentEntity, RuntimePersistentProperty<E> identity) {
+        for (Order order : sort.getOrderBy()) {
+            String propertyName = order.getProperty();
+            if (propertyName.equals(identity.getName())) {
+                return true;
+            }
+            RuntimePersistentProperty<E> property = persistentEntity.getPropertyByName(propertyName);
+            if (property == null || property instanceof Association) {
+                return false;
+            }
         }
+        return false;
     }
 
     private void appendPaginationOrOrderQueryPart(StringBuilder query, Pageable pageable,
@@ -263,7 +374,7 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
         SqlQueryBuilder2 queryBuilder = sqlStoredQuery.getQueryBuilder();
         if (pageable instanceof CursoredPageable cursored) {
             cursored = enhancePageable(cursored, getPersistentEntity());
-            query.append(buildCursorPagination(cursored, paramIndex, tableAlias));
+            addCursorPredicate(query, cursored, paramIndex, tableAlias);
             appendSort(cursored.getSort(), query, queryBuilder, tableAlias);
             query.append(queryBuilder.buildLimitAndOffset(cursored.getSize(), 0)); // Append limit
         } else {
@@ -299,13 +410,20 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
         return Sort.of(sort.getOrderBy().stream().map(Order::reverse).toList());
     }
 
-    @NonNull
-    private String buildCursorPagination(@NonNull CursoredPageable cursoredPageable, int paramIndex, @Nullable String tableAlias) {
+    /**
+     * Add the keyset predicate of the cursor to the WHERE clause of the query.
+     *
+     * @param query            The query
+     * @param cursoredPageable The cursored pageable
+     * @param paramIndex       The index of the first cursor parameter
+     * @param tableAlias       The table alias
+     */
+    private void addCursorPredicate(@NonNull StringBuilder query, @NonNull CursoredPageable cursoredPageable, int paramIndex, @Nullable String tableAlias) {
         RuntimePersistentEntity<Object> persistentEntity = (RuntimePersistentEntity<Object>) getPersistentEntity();
         List<RuntimePersistentProperty<Object>> cursorProperties = getCursorProperties(cursoredPageable, persistentEntity);
         Optional<Cursor> optionalCursor = cursoredPageable.cursor();
         if (optionalCursor.isEmpty()) {
-            return "";
+            return;
         }
         Cursor cursor = optionalCursor.get();
         List<Order> orders = cursoredPageable.getSort().getOrderBy();
@@ -317,45 +435,26 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
         }
 
         List<QueryParameterBinding> cursorBindings = new ArrayList<>(orders.size());
-        cursorQueryBindings = new ArrayList<>(orders.size() * (orders.size() + 1) / 2);
         for (int i = 0; i < orders.size(); ++i) {
             cursorBindings.add(new CursoredQueryParameterBinder(
                 "cursor_" + i, cursorProperties.get(i).getDataType(), cursor.get(i)
             ));
         }
-
-        StringBuilder builder = new StringBuilder(" ");
-        if (query.contains("WHERE")) {
-            int i = query.indexOf("WHERE") + "WHERE".length();
-            query = query.substring(0, i) + "(" + query.substring(i) + ")";
-            builder.append(" AND (");
-        } else {
-            builder.append("WHERE (");
-        }
-        String positionalParameter = getQueryBuilder().positionalParameterFormat();
-        for (int i = 0; i < orders.size(); ++i) {
-            builder.append("(");
-            for (int j = 0; j <= i; ++j) {
-                String propertyName = orders.get(j).getProperty();
-                builder.append(sqlStoredQuery.getQueryBuilder().buildPropertyByName(propertyName, query, persistentEntity, getAnnotationMetadata(), isNative(), tableAlias));
-                if (orders.get(i).isAscending()) {
-                    builder.append(i == j ? " > " : " = ");
-                } else {
-                    builder.append(i == j ? " < " : " = ");
-                }
-                cursorQueryBindings.add(cursorBindings.get(j));
-                builder.append(String.format(positionalParameter, paramIndex++));
-                if (i != j) {
-                    builder.append(" AND ");
-                }
-            }
-            builder.append(")");
-            if (i < orders.size() - 1) {
-                builder.append(" OR ");
-            }
-        }
-        builder.append(")");
-        return builder.toString();
+        cursorQueryBindings = new ArrayList<>(orders.size());
+        SqlQueryBuilder2 queryBuilder = sqlStoredQuery.getQueryBuilder();
+        String currentQuery = query.toString();
+        String predicate = queryBuilder.buildCursorPredicate(
+            persistentEntity,
+            getAnnotationMetadata(),
+            isNative(),
+            tableAlias,
+            currentQuery,
+            orders,
+            paramIndex,
+            cursorIndex -> cursorQueryBindings.add(cursorBindings.get(cursorIndex))
+        );
+        query.setLength(0);
+        query.append(queryBuilder.buildQueryWithPredicate(currentQuery, predicate));
     }
 
     private List<RuntimePersistentProperty<Object>> getCursorProperties(CursoredPageable cursoredPageable, RuntimePersistentEntity<Object> persistentEntity) {
@@ -432,6 +531,10 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
 
     @Override
     public void bindParameters(Binder binder, E entity, Map<QueryParameterBinding, Object> previousValues) {
+        SqlExpandableQueryTemplate template = getExpandableQueryTemplate();
+        if (template != null && template.isParameterPadding()) {
+            binder = new PaddingBinder(binder, template);
+        }
         super.bindParameters(binder, entity, previousValues);
         if (cursorQueryBindings != null) {
             for (QueryParameterBinding queryParameterBinding : cursorQueryBindings) {
@@ -498,6 +601,65 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
         return 1;
     }
 
+    /**
+     * The shape of the pageable parameter.
+     *
+     * @param sort   The sort
+     * @param size   The size
+     * @param offset The offset
+     */
+    private record PageableShape(Sort sort, int size, long offset) {
+    }
+
+    /**
+     * The binder repeating the last value of the expanded collection to fill the padded positional parameters.
+     *
+     * @param delegate The binder
+     * @param template The query template
+     */
+    private record PaddingBinder(Binder delegate, SqlExpandableQueryTemplate template) implements Binder {
+
+        @Override
+        public Object autoPopulateRuntimeProperty(RuntimePersistentProperty<?> persistentProperty, Object previousValue) {
+            return delegate.autoPopulateRuntimeProperty(persistentProperty, previousValue);
+        }
+
+        @Override
+        public Object convert(Object value, RuntimePersistentProperty<?> property) {
+            return delegate.convert(value, property);
+        }
+
+        @Override
+        public Object convert(Class<?> converterClass, Object value, Argument<?> argument) {
+            return delegate.convert(converterClass, value, argument);
+        }
+
+        @Override
+        public void bindOne(QueryParameterBinding binding, Object value) {
+            delegate.bindOne(binding, value);
+        }
+
+        @Override
+        public void bindMany(QueryParameterBinding binding, Collection<Object> values) {
+            int size = template.getExpandedSize(values.size());
+            if (size > values.size()) {
+                List<Object> paddedValues = new ArrayList<>(size);
+                paddedValues.addAll(values);
+                Object last = paddedValues.get(paddedValues.size() - 1);
+                while (paddedValues.size() < size) {
+                    paddedValues.add(last);
+                }
+                values = paddedValues;
+            }
+            delegate.bindMany(binding, values);
+        }
+
+        @Override
+        public int currentIndex() {
+            return delegate.currentIndex();
+        }
+    }
+
     private record CursoredQueryParameterBinder(
         String name,
         DataType dataType,
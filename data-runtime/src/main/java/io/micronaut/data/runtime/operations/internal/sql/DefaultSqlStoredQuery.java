@@ -27,6 +27,7 @@ import io.micronaut.data.model.runtime.QueryParameterBinding;
 import io.micronaut.data.model.runtime.QueryResultInfo;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.model.runtime.StoredQuery;
+import io.micronaut.data.runtime.mapper.sql.SqlResultRowPlan;
 import io.micronaut.data.runtime.operations.internal.query.DefaultBindableParametersStoredQuery;
 
 import java.util.AbstractMap;
@@ -50,6 +51,8 @@ public class DefaultSqlStoredQuery<E, R> extends DefaultBindableParametersStored
     private final boolean expandableQuery;
     private final SqlQueryBuilder2 queryBuilder;
     private final QueryResultInfo queryResultInfo;
+    private final SqlResultRowPlan rowPlan = new SqlResultRowPlan();
+    private final SqlExpandableQueryTemplate expandableQueryTemplate;
 
     /**
      * @param storedQuery             The stored query
@@ -57,6 +60,20 @@ public class DefaultSqlStoredQuery<E, R> extends DefaultBindableParametersStored
      * @param queryBuilder            The query builder
      */
     public DefaultSqlStoredQuery(StoredQuery<E, R> storedQuery, RuntimePersistentEntity<E> runtimePersistentEntity, SqlQueryBuilder2 queryBuilder) {
+        this(storedQuery, runtimePersistentEntity, queryBuilder, false);
+    }
+
+    /**
+     * @param storedQuery                The stored query
+     * @param runtimePersistentEntity    The persistent entity
+     * @param queryBuilder               The query builder
+     * @param expandableParameterPadding Whether the expandable parameters should be padded
+     * @since 4.10
+     */
+    public DefaultSqlStoredQuery(StoredQuery<E, R> storedQuery,
+                                 RuntimePersistentEntity<E> runtimePersistentEntity,
+                                 SqlQueryBuilder2 queryBuilder,
+                                 boolean expandableParameterPadding) {
         super(storedQuery, runtimePersistentEntity);
         this.queryBuilder = queryBuilder;
         Objects.requireNonNull(storedQuery, "Query cannot be null");
@@ -67,6 +84,12 @@ public class DefaultSqlStoredQuery<E, R> extends DefaultBindableParametersStored
         if (expandableQuery && expandableQueryParts.length != queryParameterBindings.size() + 1) {
             throw new IllegalStateException("Expandable query parts size should be the same as parameters size + 1. " + expandableQueryParts.length + " != 1 + " + queryParameterBindings.size() + " " + storedQuery.getQuery() + " " + Arrays.toString(expandableQueryParts));
         }
+        this.expandableQueryTemplate = expandableQuery ? new SqlExpandableQueryTemplate(
+            expandableQueryParts,
+            queryBuilder.positionalParameterFormat(),
+            queryParameterBindings.size(),
+            expandableParameterPadding
+        ) : null;
 
         if (storedQuery.getAnnotationMetadata().hasAnnotation(QueryResult.class)) {
             AnnotationValue<QueryResult> queryResultAnn = storedQuery.getAnnotationMetadata().getAnnotation(QueryResult.class);
@@ -84,6 +107,16 @@ public class DefaultSqlStoredQuery<E, R> extends DefaultBindableParametersStored
         return queryResultInfo;
     }
 
+    @Override
+    public SqlResultRowPlan getRowPlan() {
+        return rowPlan;
+    }
+
+    @Override
+    public SqlExpandableQueryTemplate getExpandableQueryTemplate() {
+        return expandableQueryTemplate;
+    }
+
     @Override
     public boolean isExpandableQuery() {
         return expandableQuery;
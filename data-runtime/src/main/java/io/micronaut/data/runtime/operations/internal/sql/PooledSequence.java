@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations.internal.sql;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * The pooled values of a sequence.
+ * Every fetch of the sequence allocates a block of the values starting with the fetched value, the sequence is expected
+ * to be incremented by the allocation size. The values are assigned by a lock of the sequence, so that the pools of different
+ * sequences don't contend.
+ *
+ * @since 4.10
+ */
+@Internal
+public final class PooledSequence {
+
+    private final String query;
+    private final int allocationSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long next;
+    private long limit;
+
+    /**
+     * @param query          The query selecting the next value of the sequence
+     * @param allocationSize The count of the values allocated by one fetch
+     */
+    public PooledSequence(@NonNull String query, int allocationSize) {
+        this.query = query;
+        this.allocationSize = allocationSize;
+    }
+
+    /**
+     * @return The query selecting the next value of the sequence
+     */
+    @NonNull
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * @return The count of the values allocated by one fetch
+     */
+    public int getAllocationSize() {
+        return allocationSize;
+    }
+
+    /**
+     * Get the next value, the next block of the values is fetched while holding the lock if the pool is exhausted.
+     *
+     * @param fetch The fetch of the next value of the sequence
+     * @return The next value
+     */
+    public long nextValue(@NonNull LongSupplier fetch) {
+        lock.lock();
+        try {
+            if (next == limit) {
+                allocate(fetch.getAsLong());
+            }
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the next value if the pool is not exhausted.
+     *
+     * @return The next value or null if the next block needs to be fetched
+     */
+    @Nullable
+    public Long tryNextValue() {
+        lock.lock();
+        try {
+            if (next == limit) {
+                return null;
+            }
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the next value from the fetched block, the remaining values of the previous block are discarded.
+     * Used by the non-blocking operations which fetch the block without holding the lock.
+     *
+     * @param fetchedValue The fetched value of the sequence
+     * @return The next value
+     */
+    public long nextValue(long fetchedValue) {
+        lock.lock();
+        try {
+            allocate(fetchedValue);
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void allocate(long fetchedValue) {
+        next = fetchedValue;
+        limit = fetchedValue + allocationSize;
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations.internal.sql;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The compiled template of an expandable SQL query.
+ * The template keeps the query parts, the rendered positional parameters and a bounded cache of the expanded queries
+ * by the shape of the expandable parameters (the collection sizes, the pageable and sort).
+ * If the parameter padding is enabled, the collections are expanded to the next power of two, repeating the last value,
+ * which limits the count of distinct queries produced by the IN lists.
+ *
+ * @since 4.10
+ */
+@Internal
+public final class SqlExpandableQueryTemplate {
+
+    private static final int MAX_EXPANDED_QUERIES = 256;
+    // The limit of the IN list elements of Oracle
+    private static final int MAX_PADDED_SIZE = 1000;
+
+    private final String[] queryParts;
+    private final String positionalParameterFormat;
+    private final boolean parameterPadding;
+    private final Map<List<Object>, String> expandedQueries;
+    private volatile String[] positionalParameters;
+
+    /**
+     * @param queryParts                The expandable query parts
+     * @param positionalParameterFormat The positional parameter format
+     * @param parametersCount           The count of the query parameters
+     */
+    public SqlExpandableQueryTemplate(@NonNull String[] queryParts, @NonNull String positionalParameterFormat, int parametersCount) {
+        this(queryParts, positionalParameterFormat, parametersCount, false);
+    }
+
+    /**
+     * @param queryParts                The expandable query parts
+     * @param positionalParameterFormat The positional parameter format
+     * @param parametersCount           The count of the query parameters
+     * @param parameterPadding          Whether the expanded collections should be padded
+     */
+    public SqlExpandableQueryTemplate(@NonNull String[] queryParts, @NonNull String positionalParameterFormat, int parametersCount, boolean parameterPadding) {
+        this.queryParts = queryParts;
+        this.positionalParameterFormat = positionalParameterFormat;
+        this.parameterPadding = parameterPadding;
+        this.expandedQueries = new ConcurrentLinkedHashMap.Builder<List<Object>, String>()
+            .maximumWeightedCapacity(MAX_EXPANDED_QUERIES)
+            .build();
+        this.positionalParameters = renderPositionalParameters(new String[0], parametersCount + 1);
+    }
+
+    /**
+     * @param index The index of the part
+     * @return The query part
+     */
+    @NonNull
+    public String getQueryPart(int index) {
+        return queryParts[index];
+    }
+
+    /**
+     * @return Whether the expanded collections are padded
+     */
+    public boolean isParameterPadding() {
+        return parameterPadding;
+    }
+
+    /**
+     * Get the count of the positional parameters of the expanded collection.
+     *
+     * @param size The collection size
+     * @return The size padded to the next power of two if the padding is enabled, otherwise the same size
+     */
+    public int getExpandedSize(int size) {
+        if (!parameterPadding || size <= 1 || size > MAX_PADDED_SIZE) {
+            return size;
+        }
+        return Math.min(Integer.highestOneBit(size - 1) << 1, MAX_PADDED_SIZE);
+    }
+
+    /**
+     * Append the positional parameter.
+     *
+     * @param query The query
+     * @param index The parameter index, starting from 1
+     */
+    public void appendPositionalParameter(@NonNull StringBuilder query, int index) {
+        query.append(getPositionalParameters(index)[index]);
+    }
+
+    /**
+     * Append the comma separated positional parameters.
+     *
+     * @param query The query
+     * @param index The index of the first parameter, starting from 1
+     * @param count The count of the parameters
+     */
+    public void appendPositionalParameters(@NonNull StringBuilder query, int index, int count) {
+        int lastIndex = index + count - 1;
+        String[] parameters = getPositionalParameters(lastIndex);
+        for (int i = index; i <= lastIndex; i++) {
+            query.append(parameters[i]);
+            if (i != lastIndex) {
+                query.append(',');
+            }
+        }
+    }
+
+    /**
+     * Find the expanded query.
+     *
+     * @param queryShape The shape of the expandable parameters
+     * @return The expanded query or null if not cached
+     */
+    @Nullable
+    public String findExpandedQuery(@NonNull List<Object> queryShape) {
+        return expandedQueries.get(queryShape);
+    }
+
+    /**
+     * Cache the expanded query, the least recently used queries are evicted after the capacity is reached.
+     *
+     * @param queryShape    The shape of the expandable parameters
+     * @param expandedQuery The expanded query
+     */
+    public void cacheExpandedQuery(@NonNull List<Object> queryShape, @NonNull String expandedQuery) {
+        expandedQueries.put(queryShape, expandedQuery);
+    }
+
+    private String[] getPositionalParameters(int index) {
+        String[] parameters = positionalParameters;
+        if (index < parameters.length) {
+            return parameters;
+        }
+        synchronized (this) {
+            parameters = positionalParameters;
+            if (index >= parameters.length) {
+                parameters = renderPositionalParameters(parameters, Math.max(index + 1, parameters.length * 2));
+                positionalParameters = parameters;
+            }
+            return parameters;
+        }
+    }
+
+    private String[] renderPositionalParameters(String[] rendered, int size) {
+        String[] parameters = new String[size];
+        System.arraycopy(rendered, 0, parameters, 0, rendered.length);
+        for (int i = Math.max(1, rendered.length); i < size; i++) {
+            parameters[i] = String.format(positionalParameterFormat, i);
+        }
+        return parameters;
+    }
+}
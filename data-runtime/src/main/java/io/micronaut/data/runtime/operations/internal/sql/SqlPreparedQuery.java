@@ -48,6 +48,25 @@ public interface SqlPreparedQuery<E, R> extends BindableParametersPreparedQuery<
      */
     void attachPageable(Pageable pageable, boolean isSingleResult);
 
+    /**
+     * Modify the query according to the pageable and order it by the root entity ID if no order is defined.
+     * The rows of one root entity with the to-many joins are consecutive if {@link #isGroupedByRootId()} is true.
+     *
+     * @param pageable The pageable
+     * @since 4.10
+     */
+    default void attachPageableGroupedByRootId(Pageable pageable) {
+        attachPageable(pageable, false);
+    }
+
+    /**
+     * @return true if the rows of one root entity are consecutive after the pageable was attached
+     * @since 4.10
+     */
+    default boolean isGroupedByRootId() {
+        return false;
+    }
+
     /**
      * @return the query result info
      * @since 4.0.0
@@ -21,6 +21,7 @@ import io.micronaut.data.model.query.builder.sql.Dialect;
 import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder2;
 import io.micronaut.data.model.runtime.QueryParameterBinding;
 import io.micronaut.data.model.runtime.QueryResultInfo;
+import io.micronaut.data.runtime.mapper.sql.SqlResultRowPlan;
 import io.micronaut.data.runtime.operations.internal.query.BindableParametersStoredQuery;
 
 import java.util.Map;
@@ -67,4 +68,26 @@ public interface SqlStoredQuery<E, R> extends BindableParametersStoredQuery<E, R
      */
     @Nullable
     QueryResultInfo getQueryResultInfo();
+
+    /**
+     * The row mapping plan shared by all executions of this query.
+     *
+     * @return the row plan or null if the query doesn't support it
+     * @since 4.10
+     */
+    @Nullable
+    default SqlResultRowPlan getRowPlan() {
+        return null;
+    }
+
+    /**
+     * The compiled template of the expandable query shared by all executions of this query.
+     *
+     * @return the template or null if the query isn't expandable
+     * @since 4.10
+     */
+    @Nullable
+    default SqlExpandableQueryTemplate getExpandableQueryTemplate() {
+        return null;
+    }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations.internal.sql;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.model.runtime.PreparedQuery;
+
+import java.util.List;
+
+/**
+ * The operations reading the page of the results together with the total count of the results in one query,
+ * see {@link io.micronaut.data.model.query.builder.sql.SqlQueryBuilder2#buildWindowCountQuery(String)}.
+ *
+ * @since 4.10
+ */
+@Internal
+public interface WindowCountOperations {
+
+    /**
+     * Find the results of the query together with the total count computed by the window function.
+     *
+     * @param preparedQuery The prepared query
+     * @param <T>           The entity type
+     * @param <R>           The result type
+     * @return The results or null if the total count cannot be computed by the window function of the query
+     */
+    @Nullable
+    <T, R> WindowCountResult<R> findAllWithWindowCount(@NonNull PreparedQuery<T, R> preparedQuery);
+
+    /**
+     * The results with the total count.
+     *
+     * @param results    The results
+     * @param totalCount The total count, null if the query didn't return any row
+     * @param <R>        The result type
+     */
+    record WindowCountResult<R>(@NonNull List<R> results, @Nullable Long totalCount) {
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.mapper.sql
+
+import io.micronaut.data.model.PersistentProperty
+import spock.lang.Specification
+
+class SqlResultRowPlanSpec extends Specification {
+
+    void "test the plan is kept for every column count of the result"() {
+        given:
+            def plan = new SqlResultRowPlan()
+            def resultSet = new Object()
+            def property = Mock(PersistentProperty)
+            SqlColumnIndexResultReader<Object> reader = Mock(SqlColumnIndexResultReader)
+            reader.getColumnCount(resultSet) >>> [3, 4, 3, 4]
+        when:"the page query and the query with the window count column are executed alternately"
+            def pageRoot = plan.getRoot(resultSet, reader)
+            pageRoot.addColumnIndex(property, 2)
+            def windowCountRoot = plan.getRoot(resultSet, reader)
+            windowCountRoot.addColumnIndex(property, 3)
+        then:"the resolved columns of each layout are not rebuilt"
+            !pageRoot.is(windowCountRoot)
+            plan.getRoot(resultSet, reader).is(pageRoot)
+            plan.getRoot(resultSet, reader).is(windowCountRoot)
+            pageRoot.findColumnIndex(property) == 2
+            windowCountRoot.findColumnIndex(property) == 3
+    }
+}
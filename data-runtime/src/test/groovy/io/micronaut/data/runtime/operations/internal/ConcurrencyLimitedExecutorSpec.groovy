@@ -0,0 +1,110 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations.internal
+
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicInteger
+
+class ConcurrencyLimitedExecutorSpec extends Specification {
+
+    void "test the tasks are executed with the limited concurrency"() {
+        given:
+        def delegate = Executors.newCachedThreadPool()
+        def executor = new ConcurrencyLimitedExecutor(delegate, 3)
+        def running = new AtomicInteger()
+        def maxRunning = new AtomicInteger()
+        def completed = new CountDownLatch(100)
+
+        when:
+        100.times {
+            executor.execute {
+                int current = running.incrementAndGet()
+                maxRunning.accumulateAndGet(current, Math::max)
+                Thread.sleep(5)
+                running.decrementAndGet()
+                completed.countDown()
+            }
+        }
+
+        then:
+        completed.await(30, TimeUnit.SECONDS)
+        maxRunning.get() <= 3
+
+        cleanup:
+        delegate.shutdown()
+    }
+
+    void "test the limit must be positive"() {
+        when:
+        new ConcurrencyLimitedExecutor(Runnable::run, 0)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    void "test the queued task rejected by the delegate is run by the completed task"() {
+        given:
+        def pool = Executors.newSingleThreadExecutor()
+        def accepted = new AtomicBoolean()
+        Executor delegate = { Runnable r ->
+            if (!accepted.compareAndSet(false, true)) {
+                throw new RejectedExecutionException("Rejected")
+            }
+            pool.execute(r)
+        }
+        def executor = new ConcurrencyLimitedExecutor(delegate, 1)
+        def release = new CountDownLatch(1)
+        def queuedCompleted = new CountDownLatch(1)
+
+        when:
+        executor.execute { release.await(10, TimeUnit.SECONDS) }
+        executor.execute { queuedCompleted.countDown() }
+        release.countDown()
+
+        then:
+        queuedCompleted.await(10, TimeUnit.SECONDS)
+
+        cleanup:
+        pool.shutdown()
+    }
+
+    void "test the task of the caller rejected by the delegate is not queued"() {
+        given:
+        def executed = new AtomicInteger()
+        Executor delegate = { Runnable r -> throw new RejectedExecutionException("Rejected") }
+        def executor = new ConcurrencyLimitedExecutor(delegate, 1)
+
+        when:
+        executor.execute { executed.incrementAndGet() }
+
+        then:
+        thrown(RejectedExecutionException)
+
+        when:
+        executor.execute { executed.incrementAndGet() }
+
+        then:
+        thrown(RejectedExecutionException)
+        executed.get() == 0
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations.internal.sql
+
+import spock.lang.Specification
+
+class SqlExpandableQueryTemplateSpec extends Specification {
+
+    void "test positional parameters are rendered beyond the initial size"() {
+        given:
+        def template = new SqlExpandableQueryTemplate(["SELECT * FROM book WHERE id IN (", ")"] as String[], '$%s', 1)
+        def query = new StringBuilder(template.getQueryPart(0))
+
+        when:
+        template.appendPositionalParameters(query, 1, 5)
+        query.append(template.getQueryPart(1))
+
+        then:
+        query.toString() == 'SELECT * FROM book WHERE id IN ($1,$2,$3,$4,$5)'
+
+        when:
+        query = new StringBuilder()
+        template.appendPositionalParameter(query, 12)
+
+        then:
+        query.toString() == '$12'
+    }
+
+    void "test expanded queries are cached by the shape"() {
+        given:
+        def template = new SqlExpandableQueryTemplate(["SELECT * FROM book WHERE id IN (", ")"] as String[], "?", 1)
+
+        when:
+        template.cacheExpandedQuery([3], "SELECT * FROM book WHERE id IN (?,?,?)")
+
+        then:
+        template.findExpandedQuery([3]) == "SELECT * FROM book WHERE id IN (?,?,?)"
+        template.findExpandedQuery([2]) == null
+    }
+}
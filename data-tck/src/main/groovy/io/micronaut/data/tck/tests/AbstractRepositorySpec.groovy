@@ -2989,6 +2989,32 @@ abstract class AbstractRepositorySpec extends Specification {
         authorPage.content.size() == 1
     }
 
+    void "test cursored pageable with join criteria"() {
+        given:
+        def authors = (1..5).collect {
+            def author = new Author()
+            author.name = "author" + it
+            authorRepository.save(author)
+            def book = new Book()
+            book.title = "book" + it
+            book.totalPages = 130
+            book.author = author
+            bookRepository.save(book)
+            return author
+        }
+        when:
+        def firstPage = authorRepository.findByBooksTotalPages(130, CursoredPageable.from(3, Sort.of(Sort.Order.asc("id"))))
+        then:
+        firstPage.content*.id == authors[0..2]*.id
+        firstPage.hasNext()
+
+        when:"the cursor predicate is added to the pagination subquery"
+        def secondPage = authorRepository.findByBooksTotalPages(130, firstPage.nextPageable())
+        then:
+        secondPage.content*.id == authors[3..4]*.id
+        secondPage.content.every { it.books.size() == 1 }
+    }
+
     void 'test @Where and count'() {
         given:
         def author = new Author()
@@ -406,11 +406,16 @@ public interface TransactionDefinition {
      * @return The connection definition that is required for this transaction.
      */
     default ConnectionDefinition getConnectionDefinition() {
+        ConnectionDefinition connectionDefinition = ConnectionDefinition.DEFAULT.withName(getName());
+        if (isReadOnly().orElse(false)) {
+            // The read-only transaction can be routed to a read-only connection
+            connectionDefinition = connectionDefinition.withReadOnly(true);
+        }
         if (getPropagationBehavior() == Propagation.REQUIRES_NEW) {
             // In most of the cases REQUIRES_NEW transaction requires new connection to be opened
-            return ConnectionDefinition.DEFAULT.withName(getName()).withPropagation(ConnectionDefinition.Propagation.REQUIRES_NEW);
+            return connectionDefinition.withPropagation(ConnectionDefinition.Propagation.REQUIRES_NEW);
         }
-        return ConnectionDefinition.DEFAULT.withName(getName());
+        return connectionDefinition;
     }
 
 }